@@ -22,6 +22,7 @@ import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Strings.*;
 
 import java.awt.Dimension;
+import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.io.*;
 
@@ -184,15 +185,12 @@ public class ImageAssert extends GenericAssert<BufferedImage> {
   }
 
   private void failIfNotEqualColor(BufferedImage expected, Threshold threshold) {
-    int w = actual.getWidth();
-    int h = actual.getHeight();
-    for (int x = 0; x < w; x++)
-      for (int y = 0; y < h; y++)
-        failIfNotEqual(new RGBColor(actual.getRGB(x, y)), new RGBColor(expected.getRGB(x, y)), threshold, x, y);
+    Point p = new ImageComparator(actual, expected, threshold.value()).firstDifference();
+    if (p == null) return;
+    failIfNotEqual(new RGBColor(actual.getRGB(p.x, p.y)), new RGBColor(expected.getRGB(p.x, p.y)), p.x, p.y);
   }
 
-  private void failIfNotEqual(RGBColor a, RGBColor e, Threshold threshold, int x, int y) {
-    if (a.isEqualTo(e, threshold.value())) return;
+  private void failIfNotEqual(RGBColor a, RGBColor e, int x, int y) {
     failIfCustomMessageIsSet();
     fail(concat("expected:", inBrackets(a), " but was:", inBrackets(e), " at pixel [", valueOf(x), ",", valueOf(y), "]"));
   }
@@ -222,12 +220,7 @@ public class ImageAssert extends GenericAssert<BufferedImage> {
   }
 
   private boolean hasEqualColor(BufferedImage expected) {
-    int w = actual.getWidth();
-    int h = actual.getHeight();
-    for (int x = 0; x < w; x++)
-      for (int y = 0; y < h; y++)
-        if (actual.getRGB(x, y) != expected.getRGB(x, y)) return false;
-    return true;
+    return new ImageComparator(actual, expected, 0, true).firstDifference() == null;
   }
 
   /**
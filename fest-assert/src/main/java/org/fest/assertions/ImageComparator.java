@@ -0,0 +1,131 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.assertions;
+
+import static java.awt.image.BufferedImage.*;
+import static java.lang.Math.*;
+
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+
+/**
+ * Understands comparison of the pixels of two images of the same size. Pixels are read a row at a time, in row-major
+ * order. Images backed by a packed <code>int</code> raster (<code>{@link BufferedImage#TYPE_INT_RGB}</code> and
+ * <code>{@link BufferedImage#TYPE_INT_ARGB}</code>) are read directly from their raster, without any color conversion.
+ */
+final class ImageComparator {
+
+  private static final int RGB_MASK = 0xFFFFFF;
+  private static final int ARGB_MASK = 0xFFFFFFFF;
+  private static final int OPAQUE = 0xFF000000;
+
+  private final BufferedImage actual;
+  private final BufferedImage expected;
+  private final int threshold;
+  private final int mask;
+  private final int width;
+
+  /**
+   * Creates a new </code>{@link ImageComparator}</code> that ignores the alpha channel.
+   * @param actual the actual image.
+   * @param expected the expected image.
+   * @param threshold the maximum difference between the values of each of the RGB components of two pixels that are
+   * considered to have the same color.
+   */
+  ImageComparator(BufferedImage actual, BufferedImage expected, int threshold) {
+    this(actual, expected, threshold, false);
+  }
+
+  /**
+   * Creates a new </code>{@link ImageComparator}</code>.
+   * @param actual the actual image.
+   * @param expected the expected image.
+   * @param threshold the maximum difference between the values of each of the RGB components of two pixels that are
+   * considered to have the same color.
+   * @param compareAlpha indicates whether pixels with different alpha values should be considered different.
+   */
+  ImageComparator(BufferedImage actual, BufferedImage expected, int threshold, boolean compareAlpha) {
+    this.actual = actual;
+    this.expected = expected;
+    this.threshold = threshold;
+    mask = compareAlpha ? ARGB_MASK : RGB_MASK;
+    width = actual.getWidth();
+  }
+
+  /**
+   * Returns the coordinates of the first pixel (in row-major order) whose color is different in both images.
+   * @return the coordinates of the first different pixel, or {@code null} if the images have the same colors.
+   */
+  Point firstDifference() {
+    int height = actual.getHeight();
+    int[] actualRow = new int[width];
+    int[] expectedRow = new int[width];
+    for (int y = 0; y < height; y++) {
+      readRow(actual, y, actualRow);
+      readRow(expected, y, expectedRow);
+      for (int x = 0; x < width; x++)
+        if (!sameColor(actualRow[x], expectedRow[x])) return new Point(x, y);
+    }
+    return null;
+  }
+
+  /**
+   * Compares the given rows of both images.
+   * @param fromRow the first row to compare (inclusive.)
+   * @param toRow the last row to compare (exclusive.)
+   * @param diff collects the pixels that are different.
+   */
+  void compareRows(int fromRow, int toRow, RowDiff diff) {
+    int[] actualRow = new int[width];
+    int[] expectedRow = new int[width];
+    for (int y = fromRow; y < toRow; y++) {
+      readRow(actual, y, actualRow);
+      readRow(expected, y, expectedRow);
+      for (int x = 0; x < width; x++)
+        if (!sameColor(actualRow[x], expectedRow[x])) diff.pixelDiffers(x, y);
+    }
+  }
+
+  private boolean sameColor(int a, int e) {
+    int xor = a ^ e;
+    if ((xor & mask) == 0) return true;
+    if (threshold == 0 || (xor & mask & OPAQUE) != 0) return false;
+    if (abs(((a >> 16) & 0xFF) - ((e >> 16) & 0xFF)) > threshold) return false;
+    if (abs(((a >> 8) & 0xFF) - ((e >> 8) & 0xFF)) > threshold) return false;
+    return abs((a & 0xFF) - (e & 0xFF)) <= threshold;
+  }
+
+  private static void readRow(BufferedImage image, int y, int[] row) {
+    int type = image.getType();
+    if (type == TYPE_INT_ARGB) {
+      image.getRaster().getDataElements(0, y, row.length, 1, row);
+      return;
+    }
+    if (type == TYPE_INT_RGB) {
+      image.getRaster().getDataElements(0, y, row.length, 1, row);
+      for (int x = 0; x < row.length; x++) row[x] |= OPAQUE;
+      return;
+    }
+    image.getRGB(0, y, row.length, 1, row, 0, row.length);
+  }
+
+  /**
+   * Understands collecting the pixels that are different in two images.
+   */
+  interface RowDiff {
+    void pixelDiffers(int x, int y);
+  }
+}
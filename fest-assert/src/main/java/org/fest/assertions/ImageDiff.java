@@ -0,0 +1,233 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.assertions;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.lang.Math.*;
+import static java.lang.String.valueOf;
+import static org.fest.assertions.Formatting.inBrackets;
+import static org.fest.util.Strings.concat;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.fest.assertions.ImageComparator.RowDiff;
+
+/**
+ * Understands a summary of the differences between two images of the same size: the number of pixels with different
+ * colors, the smallest rectangle containing all of them and, optionally, an image highlighting them.
+ * <p>
+ * Large images are compared in parallel, splitting the rows of the images among the available processors.
+ * </p>
+ * @since 1.3
+ */
+public final class ImageDiff {
+
+  /** Color of the pixels that are different in both images, in the diff image. */
+  public static final int DIFFERENT_PIXEL_COLOR = 0xFFFF0000;
+
+  private static final int PARALLEL_PIXEL_COUNT = 1 << 18;
+
+  /**
+   * Compares the given images.
+   * @param actual the actual image.
+   * @param expected the expected image.
+   * @param threshold the threshold to use to decide if the color of two pixels are similar.
+   * @return the differences between the given images.
+   * @throws NullPointerException if any of the given images or the threshold is {@code null}.
+   * @throws IllegalArgumentException if the given images do not have the same size.
+   */
+  public static ImageDiff between(BufferedImage actual, BufferedImage expected, Threshold threshold) {
+    return between(actual, expected, threshold, false);
+  }
+
+  /**
+   * Compares the given images.
+   * @param actual the actual image.
+   * @param expected the expected image.
+   * @param threshold the threshold to use to decide if the color of two pixels are similar.
+   * @param createDiffImage indicates whether an image highlighting the different pixels should be created.
+   * @return the differences between the given images.
+   * @throws NullPointerException if any of the given images or the threshold is {@code null}.
+   * @throws IllegalArgumentException if the given images do not have the same size.
+   */
+  public static ImageDiff between(BufferedImage actual, BufferedImage expected, Threshold threshold,
+      boolean createDiffImage) {
+    if (actual == null) throw new NullPointerException("The actual image should not be null");
+    if (expected == null) throw new NullPointerException("The expected image should not be null");
+    if (threshold == null) throw new NullPointerException("The threshold should not be null");
+    int width = actual.getWidth();
+    int height = actual.getHeight();
+    if (width != expected.getWidth() || height != expected.getHeight())
+      throw new IllegalArgumentException("The images to compare should have the same size");
+    BufferedImage diffImage = createDiffImage ? new BufferedImage(width, height, TYPE_INT_ARGB) : null;
+    ImageComparator comparator = new ImageComparator(actual, expected, threshold.value());
+    List<Band> bands = bands(width, height, diffImage);
+    compare(comparator, bands);
+    return merge(bands, diffImage);
+  }
+
+  private static List<Band> bands(int width, int height, BufferedImage diffImage) {
+    int processors = Runtime.getRuntime().availableProcessors();
+    int bandCount = (long)width * height < PARALLEL_PIXEL_COUNT ? 1 : min(processors * 2, height);
+    List<Band> bands = new ArrayList<Band>(bandCount);
+    int rowsPerBand = (height + bandCount - 1) / max(bandCount, 1);
+    for (int from = 0; from < height; from += rowsPerBand)
+      bands.add(new Band(from, min(height, from + rowsPerBand), diffImage));
+    return bands;
+  }
+
+  private static void compare(ImageComparator comparator, List<Band> bands) {
+    if (bands.size() <= 1) {
+      for (Band band : bands) band.compare(comparator);
+      return;
+    }
+    int threadCount = min(bands.size(), Runtime.getRuntime().availableProcessors());
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount, new DaemonThreadFactory());
+    try {
+      List<Future<?>> futures = new ArrayList<Future<?>>(bands.size());
+      for (Band band : bands) futures.add(executor.submit(band.task(comparator)));
+      for (Future<?> future : futures) waitFor(future);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static void waitFor(Future<?> future) {
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while comparing images", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+      if (cause instanceof Error) throw (Error)cause;
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private static ImageDiff merge(List<Band> bands, BufferedImage diffImage) {
+    int pixelCount = 0;
+    Rectangle boundingBox = null;
+    for (Band band : bands) {
+      if (band.pixelCount == 0) continue;
+      pixelCount += band.pixelCount;
+      Rectangle bandBox = new Rectangle(band.minX, band.minY, band.maxX - band.minX + 1, band.maxY - band.minY + 1);
+      boundingBox = boundingBox == null ? bandBox : boundingBox.union(bandBox);
+    }
+    return new ImageDiff(pixelCount, boundingBox, diffImage);
+  }
+
+  private final int pixelCount;
+  private final Rectangle boundingBox;
+  private final BufferedImage diffImage;
+
+  private ImageDiff(int pixelCount, Rectangle boundingBox, BufferedImage diffImage) {
+    this.pixelCount = pixelCount;
+    this.boundingBox = boundingBox;
+    this.diffImage = diffImage;
+  }
+
+  /**
+   * Indicates whether the compared images have the same colors.
+   * @return {@code true} if no pixel is different in the compared images; {@code false} otherwise.
+   */
+  public boolean isEmpty() {
+    return pixelCount == 0;
+  }
+
+  /**
+   * Returns the number of pixels that are different in the compared images.
+   * @return the number of pixels that are different in the compared images.
+   */
+  public int pixelCount() {
+    return pixelCount;
+  }
+
+  /**
+   * Returns the smallest rectangle containing all the pixels that are different in the compared images.
+   * @return the smallest rectangle containing all the different pixels, or {@code null} if the images have the same
+   * colors.
+   */
+  public Rectangle boundingBox() {
+    return boundingBox == null ? null : new Rectangle(boundingBox);
+  }
+
+  /**
+   * Returns an image, of the same size as the compared ones, where the pixels that are different in the compared images
+   * have the color <code>{@link #DIFFERENT_PIXEL_COLOR}</code> and the rest are transparent.
+   * @return the diff image, or {@code null} if it was not requested.
+   */
+  public BufferedImage diffImage() {
+    return diffImage;
+  }
+
+  @Override public String toString() {
+    String box = boundingBox == null ? "none" : concat("[x=", valueOf(boundingBox.x), ",y=", valueOf(boundingBox.y),
+        ",width=", valueOf(boundingBox.width), ",height=", valueOf(boundingBox.height), "]");
+    return concat("different pixels:", inBrackets(pixelCount), ", bounding box:", inBrackets(box));
+  }
+
+  private static class Band implements RowDiff {
+    final int fromRow;
+    final int toRow;
+    final BufferedImage diffImage;
+
+    int pixelCount;
+    int minX = Integer.MAX_VALUE;
+    int minY = Integer.MAX_VALUE;
+    int maxX = -1;
+    int maxY = -1;
+
+    Band(int fromRow, int toRow, BufferedImage diffImage) {
+      this.fromRow = fromRow;
+      this.toRow = toRow;
+      this.diffImage = diffImage;
+    }
+
+    Runnable task(final ImageComparator comparator) {
+      return new Runnable() {
+        public void run() {
+          compare(comparator);
+        }
+      };
+    }
+
+    void compare(ImageComparator comparator) {
+      comparator.compareRows(fromRow, toRow, this);
+    }
+
+    public void pixelDiffers(int x, int y) {
+      pixelCount++;
+      if (x < minX) minX = x;
+      if (x > maxX) maxX = x;
+      if (y < minY) minY = y;
+      if (y > maxY) maxY = y;
+      if (diffImage != null) diffImage.setRGB(x, y, DIFFERENT_PIXEL_COLOR);
+    }
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r, "FEST image comparison");
+      t.setDaemon(true);
+      return t;
+    }
+  }
+}
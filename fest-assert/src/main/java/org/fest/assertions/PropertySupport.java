@@ -16,10 +16,10 @@ package org.fest.assertions;
 
 import static java.util.Collections.emptyList;
 import static org.fest.util.Collections.*;
-import static org.fest.util.Introspection.descriptorForProperty;
+import static org.fest.util.Introspection.readMethodForProperty;
 import static org.fest.util.Strings.*;
 
-import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.util.*;
 
 import org.fest.util.IntrospectionError;
@@ -119,16 +119,23 @@ final class PropertySupport {
   }
 
   private static List<Object> simplePropertyValues(String propertyName, Collection<?> target) {
-    List<Object> propertyValues = new ArrayList<Object>();
-    for (Object e : target)
-      propertyValues.add(propertyValue(propertyName, e));
+    List<Object> propertyValues = new ArrayList<Object>(target.size());
+    // collections usually contain elements of the same type: reuse the read method of the previous element
+    Class<?> lastType = null;
+    Method readMethod = null;
+    for (Object e : target) {
+      if (e.getClass() != lastType) {
+        readMethod = readMethodForProperty(propertyName, e);
+        lastType = e.getClass();
+      }
+      propertyValues.add(propertyValue(propertyName, readMethod, e));
+    }
     return propertyValues;
   }
 
-  private static Object propertyValue(String propertyName, Object target) {
-    PropertyDescriptor descriptor = descriptorForProperty(propertyName, target);
+  private static Object propertyValue(String propertyName, Method readMethod, Object target) {
     try {
-      return descriptor.getReadMethod().invoke(target);
+      return readMethod.invoke(target);
     } catch (Exception e) {
       throw new IntrospectionError(concat("Unable to obtain the value in property " + quote(propertyName)), e);
     }
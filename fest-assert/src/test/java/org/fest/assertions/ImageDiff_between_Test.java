@@ -0,0 +1,90 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.assertions;
+
+import static java.awt.Color.*;
+import static java.awt.image.BufferedImage.*;
+import static org.fest.assertions.Images.image;
+import static org.fest.assertions.Threshold.threshold;
+import static org.junit.Assert.*;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ImageDiff#between(BufferedImage, BufferedImage, Threshold, boolean)}</code>.
+ */
+public class ImageDiff_between_Test {
+
+  @Test
+  public void should_return_empty_diff_if_images_have_same_colors() {
+    ImageDiff diff = ImageDiff.between(image(10, 10, BLUE), image(10, 10, BLUE), threshold(0));
+    assertTrue(diff.isEmpty());
+    assertEquals(0, diff.pixelCount());
+    assertNull(diff.boundingBox());
+    assertNull(diff.diffImage());
+  }
+
+  @Test
+  public void should_return_count_and_bounding_box_of_different_pixels() {
+    BufferedImage actual = image(20, 10, BLUE);
+    BufferedImage expected = image(20, 10, BLUE);
+    expected.setRGB(3, 7, YELLOW.getRGB());
+    expected.setRGB(15, 2, YELLOW.getRGB());
+    ImageDiff diff = ImageDiff.between(actual, expected, threshold(0), true);
+    assertEquals(2, diff.pixelCount());
+    assertEquals(new Rectangle(3, 2, 13, 6), diff.boundingBox());
+    assertEquals(ImageDiff.DIFFERENT_PIXEL_COLOR, diff.diffImage().getRGB(3, 7));
+    assertEquals(0, diff.diffImage().getRGB(0, 0));
+  }
+
+  @Test
+  public void should_compare_images_of_different_types() {
+    BufferedImage actual = image(10, 10, RED);
+    BufferedImage expected = new BufferedImage(10, 10, TYPE_3BYTE_BGR);
+    expected.createGraphics().drawImage(actual, 0, 0, null);
+    BufferedImage rgb = new BufferedImage(10, 10, TYPE_INT_RGB);
+    rgb.createGraphics().drawImage(actual, 0, 0, null);
+    assertTrue(ImageDiff.between(actual, expected, threshold(0)).isEmpty());
+    assertTrue(ImageDiff.between(rgb, expected, threshold(0)).isEmpty());
+  }
+
+  @Test
+  public void should_use_threshold() {
+    BufferedImage actual = image(10, 10, new java.awt.Color(60, 60, 60));
+    BufferedImage expected = image(10, 10, new java.awt.Color(61, 60, 59));
+    assertTrue(ImageDiff.between(actual, expected, threshold(1)).isEmpty());
+    assertEquals(100, ImageDiff.between(actual, expected, threshold(0)).pixelCount());
+  }
+
+  @Test
+  public void should_compare_large_images_in_parallel() {
+    BufferedImage actual = image(1000, 700, BLUE);
+    BufferedImage expected = image(1000, 700, BLUE);
+    for (int x = 100; x < 200; x++) expected.setRGB(x, 650, YELLOW.getRGB());
+    expected.setRGB(999, 0, YELLOW.getRGB());
+    ImageDiff diff = ImageDiff.between(actual, expected, threshold(0));
+    assertEquals(101, diff.pixelCount());
+    assertEquals(new Rectangle(100, 0, 900, 651), diff.boundingBox());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_images_have_different_size() {
+    ImageDiff.between(image(10, 10, BLUE), image(10, 11, BLUE), threshold(0));
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.benchmarks;
+
+import static org.fest.util.Strings.concat;
+
+import java.io.*;
+import java.util.*;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Understands the scores of a set of benchmarks, stored as a properties file. Keys are the names of the benchmarks
+ * (including their parameters, if any) and values are their scores. All the benchmarks measure average time, so lower
+ * scores are better.
+ */
+final class Baseline {
+
+  private final SortedMap<String, Double> scores = new TreeMap<String, Double>();
+
+  static Baseline from(Collection<RunResult> results) {
+    Baseline baseline = new Baseline();
+    for (RunResult result : results)
+      baseline.scores.put(keyOf(result.getParams()), result.getPrimaryResult().getScore());
+    return baseline;
+  }
+
+  private static String keyOf(BenchmarkParams params) {
+    StringBuilder key = new StringBuilder(params.getBenchmark());
+    for (String name : params.getParamsKeys()) key.append(':').append(name).append('=').append(params.getParam(name));
+    return key.toString();
+  }
+
+  static Baseline readFrom(File file) throws IOException {
+    Properties properties = new Properties();
+    InputStream in = new FileInputStream(file);
+    try {
+      properties.load(in);
+    } finally {
+      in.close();
+    }
+    Baseline baseline = new Baseline();
+    for (String name : properties.stringPropertyNames())
+      baseline.scores.put(name, Double.valueOf(properties.getProperty(name)));
+    return baseline;
+  }
+
+  void writeTo(File file) throws IOException {
+    Writer out = new OutputStreamWriter(new FileOutputStream(file), "ISO-8859-1");
+    try {
+      out.write("# FEST-Swing benchmark baseline: average time per operation (lower is better)\n");
+      for (Map.Entry<String, Double> score : scores.entrySet())
+        out.write(concat(escape(score.getKey()), "=", score.getValue(), "\n"));
+    } finally {
+      out.close();
+    }
+  }
+
+  // keys contain ':' and '=', which are separators in properties files
+  private static String escape(String key) {
+    return key.replace(":", "\\:").replace("=", "\\=");
+  }
+
+  /**
+   * Compares the given scores against this baseline.
+   * @param current the scores to compare.
+   * @param tolerance how much slower than this baseline a benchmark may be (e.g. 0.25 for 25%) before it is reported
+   * as a regression.
+   * @return the description of each benchmark slower than this baseline by more than the given tolerance.
+   */
+  List<String> regressionsIn(Baseline current, double tolerance) {
+    List<String> regressions = new ArrayList<String>();
+    for (Map.Entry<String, Double> score : current.scores.entrySet()) {
+      Double expected = scores.get(score.getKey());
+      if (expected == null) continue;
+      double actual = score.getValue();
+      if (actual <= expected * (1 + tolerance)) continue;
+      regressions.add(String.format("%s: %.3f (baseline: %.3f, +%.1f%%)", score.getKey(), actual, expected,
+          (actual / expected - 1) * 100));
+    }
+    return regressions;
+  }
+
+  Set<String> benchmarks() {
+    return scores.keySet();
+  }
+}
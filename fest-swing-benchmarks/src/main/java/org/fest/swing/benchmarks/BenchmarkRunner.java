@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.benchmarks;
+
+import static org.fest.util.Strings.concat;
+
+import java.io.File;
+import java.util.*;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Runs the FEST-Swing benchmarks and compares their scores against a baseline, so performance regressions can fail a
+ * CI build.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -jar target/benchmarks.jar [baseline file]
+ * </pre>
+ * The baseline file defaults to "benchmark-baseline.properties". If the system property "fest.benchmarks.record" is
+ * {@code true}, the scores of this run are recorded as the new baseline. Otherwise this runner exits with status 1 if
+ * the baseline file does not exist or does not contain any score, or if any benchmark is slower than its baseline by
+ * more than the tolerance set in the system property "fest.benchmarks.tolerance" (0.25, or 25%, by default.)
+ * </p>
+ * <p>
+ * Scores depend on the machine the benchmarks run on, so the baseline should be recorded on the machine that runs the
+ * comparison (e.g. the CI agent.)
+ * </p>
+ * <p>
+ * The benchmarks do not show any window, and by default they are forked with {@code -Djava.awt.headless=true}. To run
+ * them against a real toolkit (e.g. under Xvfb,) pass {@code -Djava.awt.headless=false} to this runner. The system
+ * property "fest.benchmarks.include" is a regular expression that selects the benchmarks to run.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+  private static final String DEFAULT_BASELINE_FILE = "benchmark-baseline.properties";
+  private static final String DEFAULT_TOLERANCE = "0.25";
+
+  public static void main(String... args) throws Exception {
+    File baselineFile = new File(args.length > 0 ? args[0] : DEFAULT_BASELINE_FILE);
+    boolean record = Boolean.getBoolean("fest.benchmarks.record");
+    Baseline baseline = null;
+    if (!record) {
+      if (!baselineFile.isFile()) {
+        failWithoutBaseline(concat("Unable to find baseline ", baselineFile.getAbsolutePath()));
+        return;
+      }
+      baseline = Baseline.readFrom(baselineFile);
+      if (baseline.benchmarks().isEmpty()) {
+        failWithoutBaseline(concat("Baseline ", baselineFile.getAbsolutePath(), " does not contain any score"));
+        return;
+      }
+    }
+    Options options = new OptionsBuilder()
+        .include(System.getProperty("fest.benchmarks.include", "org\\.fest\\.swing\\..*"))
+        .jvmArgsAppend(concat("-Djava.awt.headless=", System.getProperty("java.awt.headless", "true")))
+        .build();
+    Collection<RunResult> results = new Runner(options).run();
+    Baseline current = Baseline.from(results);
+    if (record) {
+      current.writeTo(baselineFile);
+      System.out.println(concat("Recorded baseline in ", baselineFile.getAbsolutePath()));
+      return;
+    }
+    for (String benchmark : current.benchmarks())
+      if (!baseline.benchmarks().contains(benchmark)) System.out.println(concat("No baseline for ", benchmark));
+    double tolerance = Double.parseDouble(System.getProperty("fest.benchmarks.tolerance", DEFAULT_TOLERANCE));
+    List<String> regressions = baseline.regressionsIn(current, tolerance);
+    if (regressions.isEmpty()) {
+      System.out.println("No performance regressions found");
+      return;
+    }
+    System.out.println("Performance regressions found:");
+    for (String regression : regressions) System.out.println(concat("  ", regression));
+    System.exit(1);
+  }
+
+  private static void failWithoutBaseline(String message) {
+    System.out.println(message);
+    System.out.println("Run with -Dfest.benchmarks.record=true to record a new baseline");
+    System.exit(1);
+  }
+
+  private BenchmarkRunner() {}
+}
@@ -0,0 +1,82 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.util.Collection;
+
+import javax.swing.*;
+
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.hierarchy.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the time <code>{@link FinderDelegate}</code> takes to find a component by name in synthetic hierarchies of
+ * different sizes. The component to find is the last one visited, so the whole hierarchy is traversed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class FinderDelegateBenchmark {
+
+  private static final int CHILDREN_PER_PANEL = 10;
+  private static final String TARGET_NAME = "target";
+
+  @Param({ "100", "1000", "10000" })
+  public int componentCount;
+
+  @Param({ "0", "100" })
+  public int batchSize;
+
+  private FinderDelegate finder;
+  private ComponentHierarchy hierarchy;
+  private ComponentMatcher matcher;
+
+  @Setup public void setUp() {
+    finder = new FinderDelegate();
+    hierarchy = new SingleComponentHierarchy(createHierarchy(componentCount), new ExistingHierarchy());
+    matcher = new NameMatcher(TARGET_NAME, false);
+  }
+
+  private static JPanel createHierarchy(final int componentCount) {
+    return execute(new GuiQuery<JPanel>() {
+      @Override protected JPanel executeInEDT() {
+        JPanel root = new JPanel();
+        JPanel panel = root;
+        for (int i = 1; i < componentCount; i++) {
+          if (i % CHILDREN_PER_PANEL == 0) {
+            JPanel child = new JPanel();
+            panel.add(child);
+            panel = child;
+            continue;
+          }
+          JLabel label = new JLabel(String.valueOf(i));
+          if (i == componentCount - 1) label.setName(TARGET_NAME);
+          panel.add(label);
+        }
+        return root;
+      }
+    });
+  }
+
+  @Benchmark
+  public Collection<?> findByName() {
+    return finder.find(hierarchy, matcher, batchSize);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+
+import org.fest.swing.cell.JTableCellReader;
+import org.fest.swing.edt.GuiQuery;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the time <code>{@link JTableContentsQuery}</code> takes to read all the cells of large tables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@State(Scope.Benchmark)
+public class JTableContentsQueryBenchmark {
+
+  private static final int COLUMN_COUNT = 10;
+
+  @Param({ "1000", "10000" })
+  public int rowCount;
+
+  private JTable table;
+  private JTableCellReader cellReader;
+
+  @Setup public void setUp() {
+    table = createTable(rowCount);
+    cellReader = new BasicJTableCellReader();
+  }
+
+  private static JTable createTable(final int rowCount) {
+    return execute(new GuiQuery<JTable>() {
+      @Override protected JTable executeInEDT() {
+        DefaultTableModel model = new DefaultTableModel(rowCount, COLUMN_COUNT);
+        for (int r = 0; r < rowCount; r++)
+          for (int c = 0; c < COLUMN_COUNT; c++)
+            model.setValueAt(r + "-" + c, r, c);
+        return new JTable(model);
+      }
+    });
+  }
+
+  @Benchmark
+  public String[][] tableContents() {
+    return JTableContentsQuery.tableContents(table, cellReader);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.edt;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of a round trip to the event dispatch thread using <code>{@link GuiActionRunner}</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+public class GuiActionRunnerBenchmark {
+
+  @Benchmark
+  public Integer executeQuery() {
+    return GuiActionRunner.execute(new GuiQuery<Integer>() {
+      @Override protected Integer executeInEDT() {
+        return 6;
+      }
+    });
+  }
+
+  @Benchmark
+  public void executeTask() {
+    GuiActionRunner.execute(new GuiTask() {
+      @Override protected void executeInEDT() {}
+    });
+  }
+}
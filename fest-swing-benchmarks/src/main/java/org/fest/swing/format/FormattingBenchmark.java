@@ -0,0 +1,71 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.format;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.*;
+
+import org.fest.swing.edt.GuiQuery;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the time taken to format components, both through <code>{@link Formatting}</code> (which looks up the
+ * formatter for the type of the component) and using an <code>{@link IntrospectionComponentFormatter}</code> directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class FormattingBenchmark {
+
+  private JButton button;
+  private JPanel panel;
+  private ComponentFormatter introspectionFormatter;
+
+  @Setup public void setUp() {
+    button = execute(new GuiQuery<JButton>() {
+      @Override protected JButton executeInEDT() {
+        JButton b = new JButton("Click Me");
+        b.setName("button");
+        return b;
+      }
+    });
+    // no formatter is registered for JPanel subclasses: the lookup has to go up the class hierarchy.
+    panel = execute(new GuiQuery<JPanel>() {
+      @Override protected JPanel executeInEDT() {
+        return new JPanel() {};
+      }
+    });
+    introspectionFormatter = new IntrospectionComponentFormatter(JButton.class, "name", "text", "selected", "enabled",
+        "visible", "showing");
+  }
+
+  @Benchmark
+  public String formatRegisteredType() {
+    return Formatting.format(button);
+  }
+
+  @Benchmark
+  public String formatSubclassOfRegisteredType() {
+    return Formatting.format(panel);
+  }
+
+  @Benchmark
+  public String formatUsingIntrospection() {
+    return introspectionFormatter.format(button);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.keystroke;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import javax.swing.KeyStroke;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the time <code>{@link KeyStrokeMap}</code> takes to look up the key stroke for a character.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class KeyStrokeMapBenchmark {
+
+  private static final String TEXT = "The quick brown fox jumps over the lazy dog 0123456789!";
+
+  private int index;
+
+  @Benchmark
+  public KeyStroke keyStrokeFor() {
+    index = (index + 1) % TEXT.length();
+    return KeyStrokeMap.keyStrokeFor(TEXT.charAt(index));
+  }
+}
@@ -15,29 +15,63 @@
  */
 package org.fest.swing.junit.ant;
 
+import static java.lang.Integer.getInteger;
 import static org.fest.swing.image.ImageFileExtensions.PNG;
+import static org.fest.swing.image.ScreenshotTaker.*;
 import static org.fest.swing.junit.ant.CommonConstants.UTF_8;
 import static org.fest.util.Files.flushAndClose;
+import static org.fest.util.Strings.*;
 
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.logging.Logger;
 
 import javax.imageio.ImageIO;
 
 import org.apache.commons.codec.binary.Base64;
+import org.fest.swing.image.ImageFileWriter;
+import org.fest.swing.image.ScreenshotTaker;
 
 /**
- * Understands how to encode a given image using the base64 algorithm.
+ * Understands how to encode a given image using the base64 algorithm. Images are encoded as PNG using the compression
+ * level specified by the system property <code>{@value ScreenshotTaker#COMPRESSION_LEVEL_PROPERTY}</code>. If the
+ * property is not set, a fast compression level is used, since images are encoded while the test that failed is still
+ * running.
  *
  * @author Alex Ruiz
  */
 class ImageEncoder {
 
+  private static final int FAST_COMPRESSION = 1;
+  private static final int MAX_COMPRESSION = 9;
+
+  private static Logger logger = Logger.getAnonymousLogger();
+
+  private final ImageFileWriter writer = new ImageFileWriter();
+  private final int compressionLevel;
+
+  ImageEncoder() {
+    this(configuredCompressionLevel());
+  }
+
+  ImageEncoder(int compressionLevel) {
+    this.compressionLevel = compressionLevel;
+  }
+
+  private static int configuredCompressionLevel() {
+    int level = getInteger(COMPRESSION_LEVEL_PROPERTY, FAST_COMPRESSION);
+    if (level >= DEFAULT_COMPRESSION && level <= MAX_COMPRESSION) return level;
+    logger.warning(concat("Ignoring system property ", quote(COMPRESSION_LEVEL_PROPERTY), ": invalid compression level ",
+        String.valueOf(level)));
+    return FAST_COMPRESSION;
+  }
+
   String encodeBase64(BufferedImage image) throws IOException {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
     try {
-      ImageIO.write(image, PNG, out);
+      if (compressionLevel == DEFAULT_COMPRESSION) ImageIO.write(image, PNG, out);
+      else writer.writeAsPng(image, out, compressionLevel);
       byte[] encoded = Base64.encodeBase64(out.toByteArray());
       return new String(encoded, UTF_8);
     } finally {
@@ -14,7 +14,9 @@
  */
 package org.fest.swing.junit.ant;
 
+import static java.lang.Boolean.getBoolean;
 import static org.fest.swing.image.ImageFileExtensions.PNG;
+import static org.fest.swing.image.ScreenshotTaker.ACTIVE_WINDOW_ONLY_PROPERTY;
 import static org.fest.swing.junit.ant.ImageHandler.encodeBase64;
 import static org.fest.swing.junit.ant.Tests.*;
 import static org.fest.swing.junit.xml.XmlAttribute.name;
@@ -28,7 +30,9 @@ import org.fest.swing.image.ScreenshotTaker;
 import org.fest.swing.junit.xml.XmlNode;
 
 /**
- * Understands taking a screenshot of the desktop and, encoding and writing the resulting image into a XML element.
+ * Understands taking a screenshot of the desktop and, encoding and writing the resulting image into a XML element. If
+ * the system property <code>{@value ScreenshotTaker#ACTIVE_WINDOW_ONLY_PROPERTY}</code> is {@code true}, only the
+ * active window is captured.
  *
  * @author Alex Ruiz
  */
@@ -39,6 +43,7 @@ class ScreenshotXmlWriter {
 
   private final ScreenshotTaker screenshotTaker;
   private final GUITestRecognizer guiTestRecognizer;
+  private final boolean activeWindowOnly;
 
   ScreenshotXmlWriter() {
     this(new ScreenshotTaker(), new GUITestRecognizer());
@@ -47,6 +52,7 @@ class ScreenshotXmlWriter {
   ScreenshotXmlWriter(ScreenshotTaker screenshotTaker, GUITestRecognizer guiTestRecognizer) {
     this.screenshotTaker = screenshotTaker;
     this.guiTestRecognizer = guiTestRecognizer;
+    activeWindowOnly = getBoolean(ACTIVE_WINDOW_ONLY_PROPERTY);
   }
 
   void writeScreenshot(XmlNode target, Test test) {
@@ -59,7 +65,8 @@ class ScreenshotXmlWriter {
   }
 
   private String takeScreenshotAndReturnEncoded() {
-    BufferedImage image = screenshotTaker.takeDesktopScreenshot();
+    BufferedImage image = activeWindowOnly ? screenshotTaker.takeActiveWindowScreenshot()
+        : screenshotTaker.takeDesktopScreenshot();
     return encodeBase64(image);
   }
 
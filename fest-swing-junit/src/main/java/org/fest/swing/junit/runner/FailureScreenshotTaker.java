@@ -16,8 +16,11 @@
 package org.fest.swing.junit.runner;
 
 import static java.io.File.separator;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Integer.getInteger;
 import static java.util.logging.Level.WARNING;
 import static org.fest.swing.image.ImageFileExtensions.PNG;
+import static org.fest.swing.image.ScreenshotTaker.*;
 import static org.fest.util.Strings.*;
 
 import java.io.File;
@@ -27,6 +30,12 @@ import org.fest.swing.image.ScreenshotTaker;
 
 /**
  * Understands taking a screenshot of the desktop when a GUI test fails.
+ * <p>
+ * Screenshots are written to the file system before the test run continues, since JUnit runners are not notified when
+ * a test run finishes. If the system property <code>{@value ScreenshotTaker#ACTIVE_WINDOW_ONLY_PROPERTY}</code> is
+ * {@code true}, only the active window is captured. The PNG compression level can be specified with the system property
+ * <code>{@value ScreenshotTaker#COMPRESSION_LEVEL_PROPERTY}</code>; low levels are considerably faster to encode.
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -36,18 +45,30 @@ public class FailureScreenshotTaker {
 
   private final File imageFolder;
   private final ScreenshotTaker screenshotTaker;
+  private final boolean activeWindowOnly;
 
   /**
    * Creates a new </code>{@link FailureScreenshotTaker}</code>.
    * @param imageFolder the folder where screenshots will be saved to.
    */
   public FailureScreenshotTaker(File imageFolder) {
-    this(imageFolder, new ScreenshotTaker());
+    this(imageFolder, configuredScreenshotTaker());
+  }
+
+  private static ScreenshotTaker configuredScreenshotTaker() {
+    ScreenshotTaker screenshotTaker = new ScreenshotTaker();
+    try {
+      screenshotTaker.compressionLevel(getInteger(COMPRESSION_LEVEL_PROPERTY, DEFAULT_COMPRESSION));
+    } catch (IllegalArgumentException e) {
+      logger.log(WARNING, concat("Ignoring system property ", quote(COMPRESSION_LEVEL_PROPERTY)), e);
+    }
+    return screenshotTaker;
   }
 
   FailureScreenshotTaker(File imageFolder, ScreenshotTaker screenshotTaker) {
     this.imageFolder = imageFolder;
     this.screenshotTaker = screenshotTaker;
+    activeWindowOnly = getBoolean(ACTIVE_WINDOW_ONLY_PROPERTY);
   }
 
   /**
@@ -57,7 +78,8 @@ public class FailureScreenshotTaker {
   public void saveScreenshot(String failedTest) {
     try {
       String fileName = concat(imageFolder.getCanonicalPath(), separator, failedTest, ".", PNG);
-      screenshotTaker.saveDesktopAsPng(fileName);
+      if (activeWindowOnly) screenshotTaker.saveActiveWindowAsPng(fileName);
+      else screenshotTaker.saveDesktopAsPng(fileName);
       logger.info(concat("Screenshot of failed test saved as ", quote(fileName)));
     } catch (Exception e) {
       logger.log(WARNING, concat("Unable to take screenshot of failed test ", quote(failedTest)), e);
@@ -15,7 +15,10 @@
 package org.fest.swing.testng.listener;
 
 import static java.io.File.separator;
-import static java.util.logging.Level.SEVERE;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Integer.getInteger;
+import static java.util.logging.Level.*;
+import static org.fest.swing.image.ScreenshotTaker.*;
 import static org.fest.swing.testng.listener.ScreenshotFileNameGenerator.screenshotFileNameFrom;
 import static org.fest.util.Strings.*;
 
@@ -47,6 +50,16 @@ import org.testng.*;
  * </pre>
  * </p>
  * <p>
+ * Screenshots are encoded and written to the file system in a background thread, and all pending screenshots are
+ * written when all the tests in a context finish. The following system properties customize the screenshots:
+ * <ul>
+ * <li><code>{@value org.fest.swing.image.ScreenshotTaker#ACTIVE_WINDOW_ONLY_PROPERTY}</code>: if {@code true}, only the
+ * active window is captured, instead of the whole desktop</li>
+ * <li><code>{@value org.fest.swing.image.ScreenshotTaker#COMPRESSION_LEVEL_PROPERTY}</code>: the PNG compression level,
+ * from 0 (fastest) to 9 (smallest files)</li>
+ * </ul>
+ * </p>
+ * <p>
  * You can find more information
  * <a href="http://www.jroller.com/page/alexRuiz?entry=screenshots_of_failures_in_test" target="_blank">here</a>.
  * </p>
@@ -55,11 +68,14 @@ import org.testng.*;
  */
 public class ScreenshotOnFailureListener extends AbstractTestListener {
 
+  private static final long FLUSH_TIMEOUT = 60000;
+
   private static Logger logger = Logger.getAnonymousLogger();
 
   private ScreenshotTaker screenshotTaker;
   private OutputDirectory output;
   private boolean ready;
+  private boolean activeWindowOnly;
 
   /**
    * Creates a new <code>{@link ScreenshotOnFailureListener}</code>.
@@ -67,11 +83,22 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
   public ScreenshotOnFailureListener() {
     try {
       screenshotTaker = new ScreenshotTaker();
+      configure(screenshotTaker);
     } catch (ImageException e) {
       logger.log(SEVERE, "Unable to create ScreenshotTaker", e);
     }
   }
 
+  private void configure(ScreenshotTaker taker) {
+    activeWindowOnly = getBoolean(ACTIVE_WINDOW_ONLY_PROPERTY);
+    taker.writeInBackground(true);
+    try {
+      taker.compressionLevel(getInteger(COMPRESSION_LEVEL_PROPERTY, DEFAULT_COMPRESSION));
+    } catch (IllegalArgumentException e) {
+      logger.log(WARNING, concat("Ignoring system property ", quote(COMPRESSION_LEVEL_PROPERTY)), e);
+    }
+  }
+
   @VisibleForTesting
   String output() { return output.path(); }
 
@@ -86,6 +113,16 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
     ready = output.hasPath() && screenshotTaker != null;
   }
 
+  /**
+   * Waits until all the screenshots taken in the given context are written to the file system.
+   * @param context the given method context.
+   */
+  @Override public void onFinish(ITestContext context) {
+    if (screenshotTaker == null) return;
+    if (!screenshotTaker.flushPendingImages(FLUSH_TIMEOUT))
+      logger.warning("Timed out waiting for screenshots to be saved");
+  }
+
   /**
    * When a test fails, this method takes a screenshot of the desktop and adds an hyperlink to the screenshot it in the
    * HTML test report.
@@ -95,7 +132,9 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
     if (!ready || !isGUITest(result)) return;
     String screenshotFileName = takeScreenshotAndReturnFileName(result);
     if (isEmpty(screenshotFileName)) return;
-    logger.info(concat("Screenshot of desktop saved as: ", quote(screenshotFileName)));
+    // the screenshot is written in the background: failures to write it are logged when they happen
+    logger.info(concat("Saving screenshot of ", activeWindowOnly ? "active window" : "desktop", " as: ",
+        quote(screenshotFileName)));
     Reporter.setCurrentTestResult(result);
     Reporter.log(concat("<a href=\"", screenshotFileName, "\">Screenshot</a>"));
   }
@@ -111,7 +150,8 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
     String imagePath = concat(output(), separator, imageName);
     try {
       output.createIfNecessary();
-      screenshotTaker.saveDesktopAsPng(imagePath);
+      if (activeWindowOnly) screenshotTaker.saveActiveWindowAsPng(imagePath);
+      else screenshotTaker.saveDesktopAsPng(imagePath);
     } catch (Exception e) {
       logger.log(SEVERE, e.getMessage(), e);
       return null;
@@ -66,6 +66,7 @@ public class ScreenshotOnFailureListener_Test {
   public void should_take_screenshot_on_test_failure() throws Exception {
     setUpStubsForScreenshot();
     listener.onTestFailure(testResult);
+    listener.onFinish(testContext);
     String imageFileName = screenshotFileName();
     String screenshotPath = concat(testContext.getOutputDirectory(), imageFileName);
     assertThat(read(screenshotPath)).hasSize(Toolkit.getDefaultToolkit().getScreenSize());
@@ -0,0 +1,135 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.lang.Math.min;
+import static java.lang.System.currentTimeMillis;
+
+import java.awt.*;
+
+import net.jcip.annotations.GuardedBy;
+
+/**
+ * Understands an <code>{@link EventQueue}</code> that keeps track of the events being posted and dispatched, so callers
+ * can wait until the queue is truly drained (no pending events and no event being dispatched) instead of waiting out
+ * fixed delays.
+ */
+class ActivityTrackingEventQueue extends EventQueue {
+
+  /** Time the queue should stay drained to be considered idle. */
+  static final long QUIET_PERIOD = 5;
+
+  // events forwarded from a previous queue in the stack bypass postEvent, so we re-check at least this often.
+  private static final long RECHECK_INTERVAL = 5;
+
+  @GuardedBy("ActivityTrackingEventQueue.class") private static ActivityTrackingEventQueue installed;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock") private int dispatching;
+  @GuardedBy("lock") private long activityCount;
+
+  /**
+   * Returns the <code>{@link ActivityTrackingEventQueue}</code> at the top of the system event queue, pushing one the
+   * first time this method is called. The queue is pushed only once: if another queue has been pushed on top of it,
+   * this method returns {@code null} instead of stacking a new one, since events posted to the top queue no longer go
+   * through the tracking queue.
+   * @param toolkit the toolkit that provides the system event queue.
+   * @return the {@code ActivityTrackingEventQueue} at the top of the system event queue, or {@code null} if it is no
+   * longer at the top.
+   */
+  static synchronized ActivityTrackingEventQueue installIn(Toolkit toolkit) {
+    EventQueue systemEventQueue = toolkit.getSystemEventQueue();
+    if (installed == null) {
+      installed = new ActivityTrackingEventQueue();
+      systemEventQueue.push(installed);
+      return installed;
+    }
+    return systemEventQueue == installed ? installed : null;
+  }
+
+  /**
+   * Removes the <code>{@link ActivityTrackingEventQueue}</code> installed by <code>{@link #installIn(Toolkit)}</code>,
+   * if any. The queue is popped only if it is still at the top of the system event queue, since popping removes the
+   * queue at the top of the stack; otherwise it is left in place and simply forgotten.
+   * @param toolkit the toolkit that provides the system event queue.
+   */
+  static synchronized void uninstallFrom(Toolkit toolkit) {
+    if (installed == null) return;
+    if (toolkit.getSystemEventQueue() == installed) installed.pop();
+    installed = null;
+  }
+
+  /** {@inheritDoc} */
+  @Override public void postEvent(AWTEvent event) {
+    super.postEvent(event);
+    activityDetected();
+  }
+
+  /** {@inheritDoc} */
+  @Override protected void dispatchEvent(AWTEvent event) {
+    synchronized (lock) {
+      dispatching++;
+    }
+    try {
+      super.dispatchEvent(event);
+    } finally {
+      synchronized (lock) {
+        dispatching--;
+      }
+      activityDetected();
+    }
+  }
+
+  private void activityDetected() {
+    synchronized (lock) {
+      activityCount++;
+      lock.notifyAll();
+    }
+  }
+
+  /**
+   * Waits until this queue has no pending events, no event is being dispatched and no event has been posted or
+   * dispatched for <code>{@link #QUIET_PERIOD}</code> milliseconds.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if this queue became idle, {@code false} if the wait timed out.
+   */
+  boolean waitForQuiescence(long timeout) {
+    long deadline = currentTimeMillis() + timeout;
+    synchronized (lock) {
+      long quietSince = -1;
+      long lastActivityCount = activityCount;
+      while (true) {
+        long now = currentTimeMillis();
+        if (activityCount != lastActivityCount || dispatching > 0 || peekEvent() != null) {
+          lastActivityCount = activityCount;
+          quietSince = -1;
+        } else if (quietSince < 0) {
+          quietSince = now;
+        } else if (now - quietSince >= QUIET_PERIOD) {
+          return true;
+        }
+        if (now >= deadline) return false;
+        try {
+          lock.wait(min(RECHECK_INTERVAL, deadline - now));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+  }
+}
@@ -47,6 +47,8 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   private final FinderDelegate finderDelegate = new FinderDelegate();
 
+  private IndexedHierarchy indexedHierarchy;
+
   private boolean includeHierarchyInComponentLookupException;
 
   /**
@@ -176,7 +178,7 @@ public final class BasicComponentFinder implements ComponentFinder {
   /** {@inheritDoc} */
   @RunsInEDT
   public Component find(ComponentMatcher m) {
-    return find(hierarchy, m);
+    return find(lookupHierarchy(), m);
   }
 
   /** {@inheritDoc} */
@@ -256,19 +258,19 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   @RunsInEDT
   private Component find(ComponentHierarchy h, ComponentMatcher m)  {
-    Collection<Component> found = finderDelegate.find(h, m);
-    if (found.isEmpty()) throw componentNotFound(h, m);
+    Collection<Component> found = finderDelegate.find(h, m, lookupBatchSize());
+    if (found.isEmpty()) throw componentNotFound(this, root(h), m);
     if (found.size() > 1) throw multipleComponentsFound(found, m);
     return found.iterator().next();
   }
 
   @RunsInEDT
-  private ComponentLookupException componentNotFound(ComponentHierarchy h, ComponentMatcher m) {
+  static ComponentLookupException componentNotFound(ComponentFinder finder, Container root, ComponentMatcher m) {
     String message = concat("Unable to find component using matcher ", m, ".");
-    if (includeHierarchyIfComponentNotFound())
+    if (finder.includeHierarchyIfComponentNotFound())
       message = concat(message,
-          LINE_SEPARATOR, LINE_SEPARATOR, "Component hierarchy:", LINE_SEPARATOR, formattedHierarchy(root(h)));
-    throw new ComponentLookupException(message);
+          LINE_SEPARATOR, LINE_SEPARATOR, "Component hierarchy:", LINE_SEPARATOR, formattedHierarchy(finder, root));
+    return new ComponentLookupException(message);
   }
 
   private static Container root(ComponentHierarchy h) {
@@ -277,23 +279,23 @@ public final class BasicComponentFinder implements ComponentFinder {
   }
 
   @RunsInEDT
-  private String formattedHierarchy(Container root) {
+  private static String formattedHierarchy(ComponentFinder finder, Container root) {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
     PrintStream printStream = new PrintStream(out, true);
-    printer.printComponents(printStream, root);
+    finder.printer().printComponents(printStream, root);
     printStream.flush();
     return new String(out.toByteArray());
   }
 
   @RunsInEDT
-  private static ComponentLookupException multipleComponentsFound(Collection<Component> found, ComponentMatcher m) {
+  static ComponentLookupException multipleComponentsFound(Collection<Component> found, ComponentMatcher m) {
     StringBuilder message = new StringBuilder();
     message.append("Found more than one component using matcher ").append(m).append(".").append(LINE_SEPARATOR)
            .append(LINE_SEPARATOR)
            .append("Found:");
     appendComponents(message, found);
     if (!found.isEmpty()) message.append(LINE_SEPARATOR);
-    throw new ComponentLookupException(message.toString(), found);
+    return new ComponentLookupException(message.toString(), found);
   }
 
   @RunsInEDT
@@ -317,22 +319,22 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   /** {@inheritDoc} */
   public Collection<Component> findAll(ComponentMatcher m) {
-    return finderDelegate.find(hierarchy, m);
+    return finderDelegate.find(lookupHierarchy(), m, lookupBatchSize());
   }
 
   /** {@inheritDoc} */
   public Collection<Component> findAll(Container root, ComponentMatcher m) {
-    return finderDelegate.find(hierarchy(root), m);
+    return finderDelegate.find(hierarchy(root), m, lookupBatchSize());
   }
 
   /** {@inheritDoc} */
   public <T extends Component> Collection<T> findAll(GenericTypeMatcher<T> m) {
-    return finderDelegate.find(hierarchy, m);
+    return finderDelegate.find(lookupHierarchy(), m, lookupBatchSize());
   }
 
   /** {@inheritDoc} */
   public <T extends Component> Collection<T> findAll(Container root, GenericTypeMatcher<T> m) {
-    return finderDelegate.find(hierarchy(root), m);
+    return finderDelegate.find(hierarchy(root), m, lookupBatchSize());
   }
 
   /**
@@ -348,8 +350,46 @@ public final class BasicComponentFinder implements ComponentFinder {
     return settings.componentLookupScope().requireShowing();
   }
 
+  private int lookupBatchSize() {
+    if (settings == null) return FinderDelegate.WHOLE_HIERARCHY;
+    return settings.componentLookupBatchSize();
+  }
+
   private ComponentHierarchy hierarchy(Container root) {
-    if (root == null) return hierarchy;
-    return new SingleComponentHierarchy(root, hierarchy);
+    ComponentHierarchy h = lookupHierarchy();
+    if (root == null) return h;
+    return new SingleComponentHierarchy(root, h);
+  }
+
+  private ComponentHierarchy lookupHierarchy() {
+    if (settings != null && settings.indexComponentLookups()) return indexedHierarchy();
+    stopIndexing();
+    return hierarchy;
+  }
+
+  private synchronized IndexedHierarchy indexedHierarchy() {
+    if (indexedHierarchy == null) indexedHierarchy = new IndexedHierarchy(hierarchy);
+    return indexedHierarchy;
+  }
+
+  /**
+   * Stops keeping the index used when <code>{@link Settings#indexComponentLookups()}</code> is {@code true} up-to-date,
+   * and discards it. The index is built again the next time it is needed.
+   */
+  @RunsInEDT
+  void stopIndexing() {
+    final IndexedHierarchy index = removeIndexedHierarchy();
+    if (index == null) return;
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        index.stopIndexing();
+      }
+    });
+  }
+
+  private synchronized IndexedHierarchy removeIndexedHierarchy() {
+    IndexedHierarchy index = indexedHierarchy;
+    indexedHierarchy = null;
+    return index;
   }
 }
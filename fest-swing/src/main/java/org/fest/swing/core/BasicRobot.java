@@ -71,10 +71,11 @@ import org.fest.util.VisibleForTesting;
  *
  * @see Robot
  */
-public class BasicRobot implements Robot {
+public class BasicRobot implements Robot, PopupMenuFinder, TextStreamer {
 
   private static final int POPUP_DELAY = 10000;
   private static final int POPUP_TIMEOUT = 5000;
+  private static final int POPUP_RECHECK_INTERVAL = 100;
   private static final int WINDOW_DELAY = 20000;
 
   private static final ComponentMatcher POPUP_MATCHER = new TypeMatcher(JPopupMenu.class, true);
@@ -90,13 +91,15 @@ public class BasicRobot implements Robot {
   private static Toolkit toolkit = Toolkit.getDefaultToolkit();
   private static WindowMonitor windowMonitor = WindowMonitor.instance();
   private static InputState inputState = new InputState(toolkit);
+  private static PopupMenuTracker popupMenuTracker = PopupMenuTracker.instance();
 
   private final ComponentHierarchy hierarchy;
   private final Object screenLockOwner;
-  private final ComponentFinder finder;
+  private final BasicComponentFinder finder;
   private final Settings settings;
   private final AWTEventPoster eventPoster;
-  private final InputEventGenerator eventGenerator;
+  @GuardedBy("this") private InputEventGenerator robotEventGenerator;
+  @GuardedBy("this") private InputEventGenerator syntheticEventGenerator;
   private final UnexpectedJOptionPaneFinder unexpectedJOptionPaneFinder;
 
   /**
@@ -138,13 +141,41 @@ public class BasicRobot implements Robot {
     this.screenLockOwner = screenLockOwner;
     this.hierarchy = hierarchy;
     settings = new Settings();
-    eventGenerator = new RobotEventGenerator(settings);
     eventPoster = new AWTEventPoster(toolkit, inputState, windowMonitor, settings);
     finder = new BasicComponentFinder(this.hierarchy, settings);
     unexpectedJOptionPaneFinder = new UnexpectedJOptionPaneFinder(finder);
     active = true;
   }
 
+  // The native robot is created lazily: creating it is expensive on some platforms, and it is not needed if input
+  // events are generated synthetically.
+  private synchronized InputEventGenerator eventGenerator() {
+    if (settings.syntheticInputEvents()) {
+      if (syntheticEventGenerator == null)
+        syntheticEventGenerator = new TimedInputEventGenerator(new SyntheticEventGenerator(eventPoster));
+      return syntheticEventGenerator;
+    }
+    if (robotEventGenerator == null)
+      robotEventGenerator = new TimedInputEventGenerator(new RobotEventGenerator(settings));
+    return robotEventGenerator;
+  }
+
+  /**
+   * Clears the keyboard and mouse state shared by all the robots.
+   */
+  static void resetInputState() {
+    inputState.clear();
+  }
+
+  /**
+   * Indicates whether no keys, mouse buttons or drag operations are recorded in the input state shared by all the
+   * robots.
+   * @return {@code true} if the shared input state is clear, {@code false} otherwise.
+   */
+  static boolean isInputStateClear() {
+    return inputState.buttons() == 0 && inputState.modifiers() == 0 && !inputState.dragInProgress();
+  }
+
   /** {@inheritDoc} */
   public ComponentPrinter printer() {
     return finder().printer();
@@ -309,6 +340,8 @@ public class BasicRobot implements Robot {
       releaseMouseButtons();
     } finally {
       active = false;
+      finder.stopIndexing();
+      ActivityTrackingEventQueue.uninstallFrom(toolkit);
       releaseScreenLock();
     }
   }
@@ -395,13 +428,13 @@ public class BasicRobot implements Robot {
     // In general clicks have to be less than 200ms apart, although the actual setting is not readable by Java.
     int delayBetweenEvents = settings.delayBetweenEvents();
     if (shouldSetDelayBetweenEventsToZeroWhenClicking(times)) settings.delayBetweenEvents(0);
-    eventGenerator.pressMouse(c, where, mask);
+    eventGenerator().pressMouse(c, where, mask);
     for (int i = times; i > 1; i--) {
-      eventGenerator.releaseMouse(mask);
-      eventGenerator.pressMouse(c, where, mask);
+      eventGenerator().releaseMouse(mask);
+      eventGenerator().pressMouse(c, where, mask);
     }
     settings.delayBetweenEvents(delayBetweenEvents);
-    eventGenerator.releaseMouse(mask);
+    eventGenerator().releaseMouse(mask);
     releaseModifiers(modifierMask);
     waitForIdle();
   }
@@ -441,7 +474,7 @@ public class BasicRobot implements Robot {
   public void moveMouse(Component c, int x, int y) {
     if (!waitForComponentToBeReady(c, settings.timeoutToBeVisible()))
       throw actionFailure(concat("Could not obtain position of component ", format(c)));
-    eventGenerator.moveMouse(c, x, y);
+    eventGenerator().moveMouse(c, x, y);
     waitForIdle();
   }
 
@@ -452,12 +485,12 @@ public class BasicRobot implements Robot {
 
   /** {@inheritDoc} */
   public void moveMouse(int x, int y) {
-    eventGenerator.moveMouse(x, y);
+    eventGenerator().moveMouse(x, y);
   }
 
   /** {@inheritDoc} */
   public void pressMouse(MouseButton button) {
-    eventGenerator.pressMouse(button.mask);
+    eventGenerator().pressMouse(button.mask);
   }
 
   /** {@inheritDoc} */
@@ -469,12 +502,12 @@ public class BasicRobot implements Robot {
   public void pressMouse(Component c, Point where, MouseButton button) {
     jitter(c, where);
     moveMouse(c, where.x, where.y);
-    eventGenerator.pressMouse(c, where, button.mask);
+    eventGenerator().pressMouse(c, where, button.mask);
   }
 
   /** {@inheritDoc} */
   public void pressMouse(Point where, MouseButton button) {
-    eventGenerator.pressMouse(where, button.mask);
+    eventGenerator().pressMouse(where, button.mask);
   }
 
   /** {@inheritDoc} */
@@ -499,7 +532,7 @@ public class BasicRobot implements Robot {
 
   /** {@inheritDoc} */
   public void rotateMouseWheel(int amount) {
-    eventGenerator.rotateMouseWheel(amount);
+    eventGenerator().rotateMouseWheel(amount);
     waitForIdle();
   }
 
@@ -549,9 +582,46 @@ public class BasicRobot implements Robot {
   @RunsInEDT
   public void enterText(String text) {
     if (isEmpty(text)) return;
+    if (settings.streamKeyStrokes()) {
+      streamText(text);
+      return;
+    }
     for (char character : text.toCharArray()) type(character);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Only the delay specified in <code>{@link Settings#delayBetweenEvents()}</code> is applied between key strokes. This
+   * method waits once, after the last key stroke, until the <code>KEY_TYPED</code> events of the entered text are
+   * dispatched.
+   * </p>
+   * @see Settings#streamKeyStrokes(boolean)
+   */
+  @RunsInEDT
+  public void streamText(String text) {
+    if (isEmpty(text)) return;
+    KeyTypedCounter counter = KeyTypedCounter.attachTo(toolkit);
+    try {
+      int expected = counter != null ? counter.count() + text.length() : 0;
+      for (char character : text.toCharArray()) streamCharacter(character);
+      waitForIdle();
+      if (counter != null) counter.waitForCount(expected, settings.eventPostingDelay());
+    } finally {
+      if (counter != null) counter.detach();
+    }
+  }
+
+  @RunsInEDT
+  private void streamCharacter(char character) {
+    KeyStroke keyStroke = keyStrokeFor(character);
+    if (keyStroke == null) {
+      type(character);
+      return;
+    }
+    streamKeyPressAndRelease(keyStroke.getKeyCode(), keyStroke.getModifiers());
+  }
+
   /** {@inheritDoc} */
   @RunsInEDT
   public void type(char character) {
@@ -583,6 +653,11 @@ public class BasicRobot implements Robot {
   /** {@inheritDoc} */
   @RunsInEDT
   public void pressAndReleaseKeys(int... keyCodes) {
+    if (settings.streamKeyStrokes()) {
+      for (int keyCode : keyCodes) streamKeyPressAndRelease(keyCode, 0);
+      waitForIdle();
+      return;
+    }
     for (int keyCode : keyCodes) {
       keyPressAndRelease(keyCode, 0);
       waitForIdle();
@@ -596,11 +671,24 @@ public class BasicRobot implements Robot {
     pressModifiers(updatedModifiers);
     if (updatedModifiers == modifiers) {
       doPressKey(keyCode);
-      eventGenerator.releaseKey(keyCode);
+      eventGenerator().releaseKey(keyCode);
     }
     releaseModifiers(updatedModifiers);
   }
 
+  // Like keyPressAndRelease, without waiting for idle after pressing or releasing each modifier.
+  @RunsInEDT
+  private void streamKeyPressAndRelease(int keyCode, int modifiers) {
+    int updatedModifiers = updateModifierWithKeyCode(keyCode, modifiers);
+    int[] modifierKeys = keysFor(updatedModifiers);
+    for (int modifierKey : modifierKeys) doPressKey(modifierKey);
+    if (updatedModifiers == modifiers) {
+      doPressKey(keyCode);
+      eventGenerator().releaseKey(keyCode);
+    }
+    for (int i = modifierKeys.length - 1; i >= 0; i--) eventGenerator().releaseKey(modifierKeys[i]);
+  }
+
   /** {@inheritDoc} */
   @RunsInEDT
   public void pressKey(int keyCode) {
@@ -610,19 +698,19 @@ public class BasicRobot implements Robot {
 
   @RunsInEDT
   private void doPressKey(int keyCode) {
-    eventGenerator.pressKey(keyCode, CHAR_UNDEFINED);
+    eventGenerator().pressKey(keyCode, CHAR_UNDEFINED);
   }
 
   /** {@inheritDoc} */
   @RunsInEDT
   public void releaseKey(int keyCode) {
-    eventGenerator.releaseKey(keyCode);
+    eventGenerator().releaseKey(keyCode);
     waitForIdle();
   }
 
   @RunsInEDT
   private void mouseRelease(int buttons) {
-    eventGenerator.releaseMouse(buttons);
+    eventGenerator().releaseMouse(buttons);
   }
 
   /** {@inheritDoc} */
@@ -630,6 +718,7 @@ public class BasicRobot implements Robot {
   public void waitForIdle() {
     waitIfNecessary();
     Collection<EventQueue> queues = windowMonitor.allEventQueues();
+    if (settings.idleQuiescenceDetection() && queues.size() == 1 && waitForQuiescence()) return;
     if (queues.size() == 1) {
       waitForIdle(toolkit.getSystemEventQueue());
       return;
@@ -638,6 +727,16 @@ public class BasicRobot implements Robot {
     for (EventQueue queue : queues) waitForIdle(queue);
   }
 
+  // Indicates whether we could wait for the queue to be drained: another queue may have been pushed on top of ours
+  private boolean waitForQuiescence() {
+    if (EventQueue.isDispatchThread())
+      throw new IllegalThreadStateException("Cannot call method from the event dispatcher thread");
+    ActivityTrackingEventQueue queue = ActivityTrackingEventQueue.installIn(toolkit);
+    if (queue == null) return false;
+    queue.waitForQuiescence(settings.idleTimeout());
+    return true;
+  }
+
   private void waitIfNecessary() {
     int delayBetweenEvents = settings.delayBetweenEvents();
     int eventPostingDelay  = settings.eventPostingDelay();
@@ -743,18 +842,49 @@ public class BasicRobot implements Robot {
   /** {@inheritDoc} */
   @RunsInEDT
   public JPopupMenu findActivePopupMenu() {
+    return findActivePopupMenu(POPUP_TIMEOUT);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Pop-up menus are recorded as they are shown, so looking up the active pop-up menu does not require traversing the
+   * component hierarchy.
+   * </p>
+   */
+  @RunsInEDT
+  public JPopupMenu findActivePopupMenu(long timeout) {
+    long changeCount = popupMenuTracker.changeCount();
     JPopupMenu popup = activePopupMenu();
     if (popup != null || isEventDispatchThread()) return popup;
-    TimeoutWatch watch = startWatchWithTimeoutOf(POPUP_TIMEOUT);
-    while ((popup = activePopupMenu()) == null) {
-      if (watch.isTimeOut()) break;
-      pause(100);
+    TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
+    while (!watch.isTimeOut()) {
+      // the pop-up menu may be recorded before it is showing: re-check periodically even if nothing changed
+      popupMenuTracker.waitForChangeAfter(changeCount, POPUP_RECHECK_INTERVAL);
+      changeCount = popupMenuTracker.changeCount();
+      if ((popup = activePopupMenu()) != null) break;
     }
     return popup;
   }
 
   @RunsInEDT
   private JPopupMenu activePopupMenu() {
+    if (!popupMenuTracker.isTracking()) return activePopupMenuInHierarchy();
+    return execute(new GuiQuery<JPopupMenu>() {
+      @Override protected JPopupMenu executeInEDT() {
+        JPopupMenu active = null;
+        for (JPopupMenu popup : popupMenuTracker.popupMenus()) {
+          if (!popup.isShowing() || !hierarchy.contains(popup)) continue;
+          if (active != null) return null;
+          active = popup;
+        }
+        return active;
+      }
+    });
+  }
+
+  @RunsInEDT
+  private JPopupMenu activePopupMenuInHierarchy() {
     List<Component> found = new ArrayList<Component>(finder().findAll(POPUP_MATCHER));
     if (found.size() == 1) return (JPopupMenu)found.get(0);
     return null;
@@ -782,5 +912,4 @@ public class BasicRobot implements Robot {
   @VisibleForTesting
   final Object screenLockOwner() { return screenLockOwner; }
 
-
 }
@@ -15,7 +15,9 @@
  */
 package org.fest.swing.core;
 
-import static java.util.Collections.emptyList;
+import static java.awt.AWTEvent.*;
+import static java.util.Collections.*;
+import static org.fest.swing.core.BasicComponentFinder.*;
 import static org.fest.util.Strings.concat;
 import static org.fest.util.Systems.LINE_SEPARATOR;
 
@@ -41,6 +43,7 @@ public final class ComponentFoundCondition extends Condition {
 
   private Component found;
 
+  private final AtomicReference<Collection<Component>> lastMiss = new AtomicReference<Collection<Component>>();
   private final AtomicReference<ComponentLookupException> notFoundError = new AtomicReference<ComponentLookupException>();
 
   /**
@@ -92,21 +95,32 @@ public final class ComponentFoundCondition extends Condition {
   /**
    * Returns {@code true} if a component that matches the search criteria in this condition's
    * <code>{@link ComponentMatcher}</code> can be found. Otherwise, this method returns {@code false}.
+   * <p>
+   * This method does not build any diagnostic message when a matching component cannot be found. The reason of the
+   * failure (including the component hierarchy, if the <code>{@link ComponentFinder}</code> is configured to do so) is
+   * only built when this condition's description is requested (e.g. when a wait for this condition times out.)
+   * </p>
    * @return {@code true} if a matching component can be found, {@code false} otherwise.
    */
   @Override public boolean test() {
-    boolean matchFound = false;
-    try {
-      found = finder.find(root, matcher);
-      matchFound = true;
-    } catch (ComponentLookupException e) {
-      notFoundError.set(e);
-    }
+    Collection<Component> all = finder.findAll(root, matcher);
+    boolean matchFound = all.size() == 1;
+    if (matchFound) found = all.iterator().next();
     resetMatcher(matchFound);
-    if (matchFound) notFoundError.set(null);
+    notFoundError.set(null);
+    lastMiss.set(matchFound ? null : all);
     return matchFound;
   }
 
+  /**
+   * Returns the types of AWT events that are dispatched when components are added, shown or removed. This condition is
+   * evaluated again as soon as any of those events is dispatched.
+   * @return the types of AWT events that may change the result of this condition.
+   */
+  @Override protected long awtEventMask() {
+    return CONTAINER_EVENT_MASK | COMPONENT_EVENT_MASK | HIERARCHY_EVENT_MASK | WINDOW_EVENT_MASK;
+  }
+
   private void resetMatcher(boolean matchFound) {
     if (!(matcher instanceof ResettableComponentMatcher)) return;
     ((ResettableComponentMatcher)matcher).reset(matchFound);
@@ -117,11 +131,23 @@ public final class ComponentFoundCondition extends Condition {
    * @return the component hierarchy to be added to this condition's description in case of a component lookup failure.
    */
   @Override protected String descriptionAddendum() {
-    ComponentLookupException error = notFoundError.get();
+    ComponentLookupException error = lookupError();
     if (error == null) return EMPTY_TEXT;
     return concat(LINE_SEPARATOR, error.getMessage());
   }
 
+  private ComponentLookupException lookupError() {
+    ComponentLookupException error = notFoundError.get();
+    if (error != null) return error;
+    Collection<Component> missed = lastMiss.get();
+    if (missed == null) return null;
+    // describe the components found by the last failed test(), without looking them up again: a new lookup may have a
+    // different result
+    error = missed.isEmpty() ? componentNotFound(finder, root, matcher) : multipleComponentsFound(missed, matcher);
+    notFoundError.set(error);
+    return error;
+  }
+
   /**
    * Returns the component found (if any.)
    * @return the component found.
@@ -136,7 +162,9 @@ public final class ComponentFoundCondition extends Condition {
    */
   public Collection<? extends Component> duplicatesFound() {
     ComponentLookupException error = notFoundError.get();
-    if (error == null) return emptyList();
-    return error.found();
+    if (error != null) return error.found();
+    Collection<Component> missed = lastMiss.get();
+    if (missed == null || missed.size() < 2) return emptyList();
+    return unmodifiableCollection(missed);
   }
 }
@@ -18,81 +18,193 @@ package org.fest.swing.core;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 
 import java.awt.Component;
+import java.awt.Container;
 import java.util.*;
 
-import org.fest.swing.annotation.RunsInEDT;
-import org.fest.swing.edt.GuiQuery;
-import org.fest.swing.hierarchy.ComponentHierarchy;
+import org.fest.swing.annotation.*;
+import org.fest.swing.edt.*;
+import org.fest.swing.hierarchy.*;
 
 /**
  * Finds all the components in a <code>{@link ComponentHierarchy}</code> that match the search criteria specified in a
  * <code>{@link ComponentMatcher}</code>.
+ * <p>
+ * The hierarchy is traversed (and the matcher is evaluated) in the event dispatch thread. By default the whole
+ * hierarchy is visited in a single trip to the event dispatch thread. For very large hierarchies, the traversal can be
+ * split in batches, giving the event dispatch thread a chance to process other events between batches.
+ * </p>
+ * <p>
+ * If the hierarchy is an <code>{@link IndexedHierarchy}</code> (or a subset of one,) components that are required to
+ * be showing are looked up by name or by type in its index instead, and the hierarchy is only traversed if the index
+ * does not contain any matching component. Components that are not required to be showing are always looked up by
+ * traversing the hierarchy, since the index does not contain the windows that were created, but not opened, after it
+ * was built.
+ * </p>
  *
  * @author Alex Ruiz
  */
 final class FinderDelegate {
 
-  @RunsInEDT
-  Collection<Component> find(ComponentHierarchy h, ComponentMatcher m)  {
-    Set<Component> found = new LinkedHashSet<Component>();
-    for (Object o : rootsOf(h)) find(h, m, (Component)o, found);
-    return found;
-  }
+  /** Indicates that the whole hierarchy should be traversed in a single trip to the event dispatch thread. */
+  static final int WHOLE_HIERARCHY = 0;
 
   @RunsInEDT
-  private void find(ComponentHierarchy h, ComponentMatcher m, Component root, Set<Component> found) {
-    for (Component c : childrenOfComponent(root, h))
-      find(h, m, c, found);
-    if (isMatching(root, m)) found.add(root);
+  Collection<Component> find(ComponentHierarchy h, ComponentMatcher m)  {
+    return find(h, m, WHOLE_HIERARCHY);
   }
 
+  /**
+   * Finds all the components in the given hierarchy that are matched by the given matcher.
+   * @param h the hierarchy to traverse.
+   * @param m the matcher to use.
+   * @param batchSize the maximum number of components to visit per trip to the event dispatch thread. A value equal
+   * to or less than zero means that the whole hierarchy will be traversed in a single trip.
+   * @return all the components that are matched by the given matcher, in the order they were found.
+   */
   @RunsInEDT
-  private static Collection<Component> childrenOfComponent(final Component c, final ComponentHierarchy h) {
-    return execute(new GuiQuery<Collection<Component>>() {
-      @Override protected Collection<Component> executeInEDT() {
-        return h.childrenOf(c);
-      }
-    });
+  Collection<Component> find(ComponentHierarchy h, ComponentMatcher m, int batchSize)  {
+    IndexedHierarchy index = indexOf(h);
+    if (index != null) {
+      Collection<Component> found = findInIndex(index, h, m);
+      if (!found.isEmpty()) return found;
+    }
+    HierarchyWalk walk = new HierarchyWalk(h, m, batchSize);
+    while (!walk.finished()) walkNextBatch(walk);
+    return walk.found();
   }
 
   @RunsInEDT
-  private static boolean isMatching(final Component c, final ComponentMatcher m) {
-    return execute(new GuiQuery<Boolean>() {
-      @Override protected Boolean executeInEDT() {
-        return m.matches(c);
-      }
-    });
+  <T extends Component> Collection<T> find(ComponentHierarchy h, GenericTypeMatcher<T> m) {
+    return find(h, m, WHOLE_HIERARCHY);
   }
 
   @RunsInEDT
-  <T extends Component> Collection<T> find(ComponentHierarchy h, GenericTypeMatcher<T> m) {
+  <T extends Component> Collection<T> find(ComponentHierarchy h, GenericTypeMatcher<T> m, int batchSize) {
     Set<T> found = new LinkedHashSet<T>();
-    for (Object o : rootsOf(h)) find(h, m, (Component)o, found);
+    for (Component c : find(h, (ComponentMatcher)m, batchSize)) found.add(m.supportedType().cast(c));
     return found;
   }
 
+  private static IndexedHierarchy indexOf(ComponentHierarchy h) {
+    ComponentHierarchy base = h;
+    if (base instanceof SingleComponentHierarchy) base = ((SingleComponentHierarchy)base).baseHierarchy();
+    if (base instanceof IndexedHierarchy) return (IndexedHierarchy)base;
+    return null;
+  }
+
   @RunsInEDT
-  private static Collection<? extends Component> rootsOf(final ComponentHierarchy h ) {
-    return execute(new GuiQuery<Collection<? extends Component>>() {
-      @Override protected Collection<? extends Component> executeInEDT() {
-        return h.roots();
+  private static Collection<Component> findInIndex(final IndexedHierarchy index, final ComponentHierarchy h,
+      final ComponentMatcher m) {
+    return execute(new GuiQuery<Collection<Component>>() {
+      @Override protected Collection<Component> executeInEDT() {
+        Set<Component> found = new LinkedHashSet<Component>();
+        Collection<Component> candidates = candidatesInIndex(index, m);
+        if (candidates == null) return found;
+        for (Component c : candidates)
+          if (m.matches(c) && isReachable(c, h)) found.add(c);
+        return found;
       }
     });
   }
 
-  @RunsInEDT
-  private <T extends Component> void find(ComponentHierarchy h, GenericTypeMatcher<T> m, Component root, Set<T> found) {
-    for (Component c : childrenOfComponent(root, h))
-      find(h, m, c, found);
-    if (isMatching(root, m)) found.add(m.supportedType().cast(root));
+  @RunsInCurrentThread
+  private static Collection<Component> candidatesInIndex(IndexedHierarchy index, ComponentMatcher m) {
+    if (!requiresShowing(m)) return null;
+    if (m instanceof NameMatcher) return index.componentsNamed(((NameMatcher)m).name());
+    if (m instanceof TypeMatcher) return index.componentsOfType(((TypeMatcher)m).type());
+    if (m instanceof GenericTypeMatcher<?>) return index.componentsOfType(((GenericTypeMatcher<?>)m).supportedType());
+    return null;
+  }
+
+  // only showing components are guaranteed to be in the index: they are in windows that have been opened
+  private static boolean requiresShowing(ComponentMatcher m) {
+    return m instanceof AbstractComponentMatcher && ((AbstractComponentMatcher)m).requireShowing();
+  }
+
+  // The index may still contain components that were removed from the hierarchy: a component is only found if it can
+  // be reached from one of the roots of the hierarchy, like it would be if the hierarchy were traversed.
+  @RunsInCurrentThread
+  private static boolean isReachable(Component c, ComponentHierarchy h) {
+    if (!h.contains(c)) return false;
+    Collection<? extends Container> roots = h.roots();
+    Component current = c;
+    while (current != null) {
+      if (roots.contains(current)) return true;
+      current = h.parentOf(current);
+    }
+    return false;
   }
 
   @RunsInEDT
-  private static <T extends Component> boolean isMatching(final Component c, final GenericTypeMatcher<T> m) {
-    return execute(new GuiQuery<Boolean>() {
-      @Override protected Boolean executeInEDT() {
-        return m.matches(c);
+  private static void walkNextBatch(final HierarchyWalk walk) {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        walk.walkNextBatch();
       }
     });
   }
+
+  /**
+   * Traverses a <code>{@link ComponentHierarchy}</code> in post-order (children first) without recursion, so the
+   * traversal can be suspended and resumed between trips to the event dispatch thread.
+   */
+  private static class HierarchyWalk {
+    private final ComponentHierarchy hierarchy;
+    private final ComponentMatcher matcher;
+    private final int batchSize;
+
+    private final LinkedList<Node> path = new LinkedList<Node>();
+    private final Set<Component> found = new LinkedHashSet<Component>();
+
+    private Iterator<? extends Component> roots;
+    private boolean finished;
+
+    HierarchyWalk(ComponentHierarchy hierarchy, ComponentMatcher matcher, int batchSize) {
+      this.hierarchy = hierarchy;
+      this.matcher = matcher;
+      this.batchSize = batchSize;
+    }
+
+    @RunsInCurrentThread
+    void walkNextBatch() {
+      if (roots == null) roots = new ArrayList<Component>(hierarchy.roots()).iterator();
+      int visited = 0;
+      while (batchSize <= 0 || visited < batchSize) {
+        if (path.isEmpty()) {
+          if (!roots.hasNext()) {
+            finished = true;
+            return;
+          }
+          enter(roots.next());
+          continue;
+        }
+        Node current = path.getLast();
+        if (current.children.hasNext()) {
+          enter(current.children.next());
+          continue;
+        }
+        path.removeLast();
+        if (matcher.matches(current.component)) found.add(current.component);
+        visited++;
+      }
+    }
+
+    private void enter(Component c) {
+      path.addLast(new Node(c, hierarchy.childrenOf(c).iterator()));
+    }
+
+    boolean finished() { return finished; }
+
+    Collection<Component> found() { return found; }
+  }
+
+  private static class Node {
+    final Component component;
+    final Iterator<Component> children;
+
+    Node(Component component, Iterator<Component> children) {
+      this.component = component;
+      this.children = children;
+    }
+  }
 }
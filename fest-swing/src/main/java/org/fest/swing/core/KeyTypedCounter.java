@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.AWTEvent.KEY_EVENT_MASK;
+import static java.awt.event.KeyEvent.KEY_TYPED;
+import static java.lang.System.currentTimeMillis;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Attaches itself to a <code>{@link Toolkit}</code> and counts the <code>{@link java.awt.event.KeyEvent#KEY_TYPED}</code>
+ * events dispatched while attached. Used to confirm that a stream of key strokes was delivered, instead of pausing for
+ * a fixed amount of time.
+ */
+@ThreadSafe
+final class KeyTypedCounter implements AWTEventListener {
+
+  private final Toolkit toolkit;
+
+  @GuardedBy("this") private int count;
+
+  static KeyTypedCounter attachTo(Toolkit toolkit) {
+    KeyTypedCounter counter = new KeyTypedCounter(toolkit);
+    try {
+      toolkit.addAWTEventListener(counter, KEY_EVENT_MASK);
+    } catch (SecurityException e) {
+      return null;
+    }
+    return counter;
+  }
+
+  private KeyTypedCounter(Toolkit toolkit) {
+    this.toolkit = toolkit;
+  }
+
+  /** {@inheritDoc} */
+  public void eventDispatched(AWTEvent event) {
+    if (event.getID() != KEY_TYPED) return;
+    synchronized (this) {
+      count++;
+      notifyAll();
+    }
+  }
+
+  synchronized int count() { return count; }
+
+  /**
+   * Waits until the given number of <code>KEY_TYPED</code> events is counted. Some key strokes (e.g. focus traversal
+   * keys) may be consumed before being dispatched; to avoid waiting for events that will never come, this method
+   * gives up when no event is counted during the given period.
+   * @param expected the expected number of <code>KEY_TYPED</code> events.
+   * @param maxSilence the maximum time to wait for the next event, in milliseconds.
+   * @return {@code true} if the expected number of events was counted, {@code false} otherwise.
+   */
+  synchronized boolean waitForCount(int expected, long maxSilence) {
+    long deadline = currentTimeMillis() + maxSilence;
+    int lastCount = count;
+    while (count < expected) {
+      if (count != lastCount) {
+        lastCount = count;
+        deadline = currentTimeMillis() + maxSilence;
+      }
+      long remaining = deadline - currentTimeMillis();
+      if (remaining <= 0) return false;
+      try {
+        wait(remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void detach() {
+    toolkit.removeAWTEventListener(this);
+  }
+}
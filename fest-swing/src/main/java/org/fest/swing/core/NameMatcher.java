@@ -99,6 +99,10 @@ public final class NameMatcher extends AbstractComponentMatcher {
     return areEqual(name, c.getName()) && type.isInstance(c) && requireShowingMatches(c);
   }
 
+  String name() { return name; }
+
+  Class<? extends Component> type() { return type; }
+
   @Override public String toString() {
     return concat(
         getClass().getName(), "[",
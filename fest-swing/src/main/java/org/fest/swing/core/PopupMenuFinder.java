@@ -0,0 +1,35 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import javax.swing.JPopupMenu;
+
+import org.fest.swing.annotation.RunsInEDT;
+
+/**
+ * Understands a <code>{@link Robot}</code> that can wait for a pop-up menu to show up without polling. Drivers use it,
+ * when the robot they use implements it, instead of polling <code>{@link Robot#findActivePopupMenu()}</code>.
+ */
+public interface PopupMenuFinder {
+
+  /**
+   * Returns the currently active pop-up menu, waiting up to the given timeout for a pop-up menu to show up.
+   * @param timeout the maximum time to wait for a pop-up menu to show up, in milliseconds.
+   * @return the currently active pop-up menu or {@code null}, if no pop-up is showing before the timeout expires.
+   */
+  @RunsInEDT
+  JPopupMenu findActivePopupMenu(long timeout);
+}
@@ -0,0 +1,188 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.AWTEvent.*;
+import static java.awt.event.ComponentEvent.COMPONENT_SHOWN;
+import static java.awt.event.ContainerEvent.COMPONENT_ADDED;
+import static java.lang.System.currentTimeMillis;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.*;
+import java.awt.event.*;
+import java.util.*;
+import java.util.List;
+
+import javax.swing.JPopupMenu;
+import javax.swing.event.*;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import org.fest.swing.annotation.*;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * Understands a registry of the <code>{@link JPopupMenu}</code>s that have been shown, so the active pop-up menu can be
+ * found without traversing the whole component hierarchy.
+ * <p>
+ * Pop-up menus are recorded when they are added to the container (or window) that displays them, which Swing does
+ * every time a pop-up menu is shown. Threads waiting for a pop-up menu are woken up when a recorded pop-up menu becomes
+ * visible or invisible, and when a component is shown. Pop-up menus are weakly referenced.
+ * </p>
+ */
+@ThreadSafe
+final class PopupMenuTracker implements AWTEventListener, PopupMenuListener {
+
+  private static final long EVENT_MASK = CONTAINER_EVENT_MASK | COMPONENT_EVENT_MASK;
+
+  @GuardedBy("this") private final Map<JPopupMenu, Boolean> popupMenus = new WeakHashMap<JPopupMenu, Boolean>();
+  @GuardedBy("this") private long changeCount;
+
+  private final boolean tracking;
+
+  @VisibleForTesting
+  @RunsInCurrentThread
+  PopupMenuTracker(Toolkit toolkit) {
+    tracking = attachTo(toolkit);
+    if (tracking) trackShowingPopupMenus();
+  }
+
+  private boolean attachTo(Toolkit toolkit) {
+    try {
+      toolkit.addAWTEventListener(this, EVENT_MASK);
+      return true;
+    } catch (SecurityException e) {
+      return false;
+    }
+  }
+
+  // Pop-up menus that were showing before this tracker was attached to the toolkit.
+  @RunsInCurrentThread
+  private void trackShowingPopupMenus() {
+    for (Frame f : Frame.getFrames()) trackShowingPopupMenusIn(f);
+  }
+
+  private void trackShowingPopupMenusIn(Container c) {
+    if (c instanceof JPopupMenu && c.isShowing()) track((JPopupMenu)c);
+    for (Component child : c.getComponents())
+      if (child instanceof Container) trackShowingPopupMenusIn((Container)child);
+    if (c instanceof Window)
+      for (Window owned : ((Window)c).getOwnedWindows()) trackShowingPopupMenusIn(owned);
+  }
+
+  /**
+   * Indicates whether this tracker receives AWT events. If it does not (e.g. a <code>{@link SecurityManager}</code>
+   * does not allow listening to AWT events,) the pop-up menus returned by <code>{@link #popupMenus()}</code> may be
+   * incomplete.
+   * @return {@code true} if this tracker receives AWT events, {@code false} otherwise.
+   */
+  boolean isTracking() { return tracking; }
+
+  /** {@inheritDoc} */
+  public void eventDispatched(AWTEvent event) {
+    int id = event.getID();
+    if (id == COMPONENT_ADDED) {
+      Component child = ((ContainerEvent)event).getChild();
+      if (child instanceof JPopupMenu) track((JPopupMenu)child);
+      return;
+    }
+    if (id == COMPONENT_SHOWN) changed();
+  }
+
+  synchronized void track(JPopupMenu popupMenu) {
+    if (popupMenus.put(popupMenu, Boolean.TRUE) == null) popupMenu.addPopupMenuListener(this);
+    changeCount++;
+    notifyAll();
+  }
+
+  /** {@inheritDoc} */
+  public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
+    changed();
+  }
+
+  /** {@inheritDoc} */
+  public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {
+    changed();
+  }
+
+  /** {@inheritDoc} */
+  public void popupMenuCanceled(PopupMenuEvent e) {
+    changed();
+  }
+
+  private synchronized void changed() {
+    if (popupMenus.isEmpty()) return;
+    changeCount++;
+    notifyAll();
+  }
+
+  /**
+   * Returns all the recorded pop-up menus, showing or not.
+   * @return all the recorded pop-up menus.
+   */
+  synchronized List<JPopupMenu> popupMenus() {
+    return new ArrayList<JPopupMenu>(popupMenus.keySet());
+  }
+
+  /**
+   * Returns a number that changes every time a pop-up menu is recorded, a recorded pop-up menu becomes visible or
+   * invisible, or a component is shown.
+   * @return the current change count.
+   */
+  synchronized long changeCount() { return changeCount; }
+
+  /**
+   * Waits until the change count is different than the given one, or the given timeout expires.
+   * @param lastChangeCount the change count previously returned by <code>{@link #changeCount()}</code>.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if the change count changed, {@code false} if the timeout expired or if the current thread
+   * was interrupted.
+   */
+  synchronized boolean waitForChangeAfter(long lastChangeCount, long timeout) {
+    long deadline = currentTimeMillis() + timeout;
+    while (changeCount == lastChangeCount) {
+      long remaining = deadline - currentTimeMillis();
+      if (remaining <= 0) return false;
+      try {
+        wait(remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  @RunsInEDT
+  static PopupMenuTracker instance() {
+    return SingletonLazyLoader.INSTANCE;
+  }
+
+  @RunsInEDT
+  private static class SingletonLazyLoader {
+    static final PopupMenuTracker INSTANCE = execute(new GuiQuery<PopupMenuTracker>() {
+      @Override protected PopupMenuTracker executeInEDT() {
+        return new PopupMenuTracker(Toolkit.getDefaultToolkit());
+      }
+    });
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.format.Formatting.format;
+import static org.fest.util.Strings.concat;
+
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+
+import javax.swing.RepaintManager;
+
+import org.fest.swing.annotation.*;
+import org.fest.swing.edt.*;
+import org.fest.swing.format.Formatting;
+import org.fest.swing.keystroke.KeyStrokeMap;
+import org.fest.swing.lock.ScreenLock;
+import org.fest.swing.monitor.WindowMonitor;
+
+/**
+ * Understands bringing the global state used by FEST-Swing back to a clean baseline, so GUI test classes can share a
+ * JVM instead of each one being executed in a new one.
+ * <p>
+ * The baseline (the current <code>{@link RepaintManager}</code> and <code>{@link SecurityManager}</code>) is recorded
+ * when the session is started. Resetting the session:
+ * <ol>
+ * <li>disposes all windows</li>
+ * <li>forgets the windows and event queues known by the <code>{@link WindowMonitor}</code></li>
+ * <li>clears the keyboard and mouse state shared by all the <code>{@link Robot}</code>s</li>
+ * <li>reloads the key stroke mappings for the default locale</li>
+ * <li>restores the default component formatters</li>
+ * <li>restores the {@code RepaintManager} and {@code SecurityManager} recorded in the baseline</li>
+ * </ol>
+ * and then verifies that the global state actually matches the baseline.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>
+ * // at the start of the test run
+ * RobotSession session = RobotSession.start();
+ *
+ * // after each test class, once its robot has been cleaned up
+ * session.reset();
+ * </pre>
+ * </p>
+ */
+public final class RobotSession {
+
+  private final RepaintManager repaintManager;
+  private final SecurityManager securityManager;
+
+  /**
+   * Starts a new session, recording the current <code>{@link RepaintManager}</code> and
+   * <code>{@link SecurityManager}</code> as the baseline to restore.
+   * @return the started session.
+   */
+  public static RobotSession start() {
+    return new RobotSession(RepaintManager.currentManager(null), System.getSecurityManager());
+  }
+
+  private RobotSession(RepaintManager repaintManager, SecurityManager securityManager) {
+    this.repaintManager = repaintManager;
+    this.securityManager = securityManager;
+  }
+
+  /**
+   * Brings the global state used by FEST-Swing back to the baseline recorded when this session was started. Robots
+   * should be cleaned up before calling this method.
+   * @throws IllegalStateException if the global state does not match the baseline after being reset (e.g. a window is
+   * still showing or a robot still holds the <code>{@link ScreenLock}</code>.)
+   */
+  @RunsInEDT
+  public void reset() {
+    disposeAllWindows();
+    waitForPendingEvents();
+    WindowMonitor.instance().reset();
+    BasicRobot.resetInputState();
+    KeyStrokeMap.reloadFromSystemSettings();
+    Formatting.restoreDefaultFormatters();
+    RepaintManager.setCurrentManager(repaintManager);
+    if (System.getSecurityManager() != securityManager) System.setSecurityManager(securityManager);
+    verify();
+  }
+
+  @RunsInEDT
+  private static void disposeAllWindows() {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        for (Window w : allWindows()) {
+          w.setVisible(false);
+          w.dispose();
+        }
+      }
+    });
+  }
+
+  // Disposing windows posts events (e.g. WINDOW_CLOSED) that the window monitor listens to: process them before
+  // resetting the monitor.
+  @RunsInEDT
+  private static void waitForPendingEvents() {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {}
+    });
+  }
+
+  @RunsInCurrentThread
+  private static List<Window> allWindows() {
+    List<Window> windows = new ArrayList<Window>();
+    for (Frame f : Frame.getFrames()) addWithOwnedWindows(f, windows);
+    return windows;
+  }
+
+  private static void addWithOwnedWindows(Window w, List<Window> windows) {
+    windows.add(w);
+    for (Window owned : w.getOwnedWindows()) addWithOwnedWindows(owned, windows);
+  }
+
+  @RunsInEDT
+  private void verify() {
+    List<String> problems = new ArrayList<String>();
+    for (String showing : showingWindows()) problems.add(concat("window still showing: ", showing));
+    if (!BasicRobot.isInputStateClear()) problems.add("keys or mouse buttons are still pressed");
+    if (!KeyStrokeMap.hasKeyStrokes()) problems.add("no key stroke mappings are loaded");
+    if (RepaintManager.currentManager(null) != repaintManager) problems.add("the RepaintManager was not restored");
+    if (System.getSecurityManager() != securityManager) problems.add("the SecurityManager was not restored");
+    if (ScreenLock.instance().acquired()) problems.add("the screen lock is still acquired (a robot was not cleaned up)");
+    if (problems.isEmpty()) return;
+    throw new IllegalStateException(concat("Unable to reset the GUI test session: ", problems));
+  }
+
+  @RunsInEDT
+  private static List<String> showingWindows() {
+    return execute(new GuiQuery<List<String>>() {
+      @Override protected List<String> executeInEDT() {
+        List<String> showing = new ArrayList<String>();
+        for (Window w : allWindows()) if (w.isShowing()) showing.add(format(w));
+        return showing;
+      }
+    });
+  }
+}
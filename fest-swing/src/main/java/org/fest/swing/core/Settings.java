@@ -39,6 +39,11 @@ public class Settings {
   private int dropDelay;
   private int eventPostingDelay;
   private int idleTimeout;
+  private int componentLookupBatchSize;
+  private boolean idleQuiescenceDetection;
+  private boolean indexComponentLookups;
+  private boolean streamKeyStrokes;
+  private boolean syntheticInputEvents;
 
   private java.awt.Robot robot;
 
@@ -52,6 +57,7 @@ public class Settings {
     eventPostingDelay(100);
     componentLookupScope(DEFAULT);
     idleTimeout(10000);
+    componentLookupBatchSize(0);
   }
 
   void attachTo(java.awt.Robot newRobot) {
@@ -238,6 +244,113 @@ public class Settings {
     this.idleTimeout = valueToUpdate(ms, 0, Integer.MAX_VALUE);
   }
 
+  /**
+   * Returns the maximum number of components a component lookup visits per trip to the event dispatch thread. The
+   * default value is 0, which means that the whole component hierarchy is traversed in a single trip.
+   * @return the maximum number of components a component lookup visits per trip to the event dispatch thread.
+   */
+  public int componentLookupBatchSize() {
+    return componentLookupBatchSize;
+  }
+
+  /**
+   * Updates the maximum number of components a component lookup visits per trip to the event dispatch thread. Splitting
+   * the traversal of very large component hierarchies in batches gives the event dispatch thread a chance to process
+   * other events while a lookup is in progress. The default value is 0, which means that the whole component hierarchy
+   * is traversed in a single trip.
+   * @param size the new batch size. It should be equal to or greater than zero.
+   */
+  public void componentLookupBatchSize(int size) {
+    componentLookupBatchSize = valueToUpdate(size, 0, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Indicates whether waiting for an idle AWT event queue detects when the queue is drained by tracking the events
+   * posted to and dispatched from it. The default value is {@code false}.
+   * @return {@code true} if idle is detected by tracking event queue activity, {@code false} otherwise.
+   * @see #idleQuiescenceDetection(boolean)
+   */
+  public boolean idleQuiescenceDetection() {
+    return idleQuiescenceDetection;
+  }
+
+  /**
+   * Updates whether waiting for an idle AWT event queue detects when the queue is drained by tracking the events
+   * posted to and dispatched from it. When enabled, an activity-tracking <code>{@link java.awt.EventQueue}</code> is
+   * pushed on top of the system event queue, and, after waiting for <code>{@link #eventPostingDelay()}</code>, waiting
+   * for idle returns as soon as the queue has no pending events and no event is being dispatched. This is only done
+   * when all the GUI components share the system event queue (e.g. no applets in their own context) and no other
+   * queue has been pushed on top of the activity-tracking one. The default value is {@code false}.
+   * @param b if {@code true}, idle is detected by tracking event queue activity.
+   */
+  public void idleQuiescenceDetection(boolean b) {
+    idleQuiescenceDetection = b;
+  }
+
+  /**
+   * Indicates whether component lookups by name or by type use an index of the component hierarchy instead of
+   * traversing it. The default value is {@code false}.
+   * @return {@code true} if component lookups use an index of the component hierarchy, {@code false} otherwise.
+   * @see #indexComponentLookups(boolean)
+   */
+  public boolean indexComponentLookups() {
+    return indexComponentLookups;
+  }
+
+  /**
+   * Updates whether component lookups by name or by type use an index of the component hierarchy instead of
+   * traversing it. The index is built on the first lookup and is kept up-to-date by listening to AWT container and
+   * window events; the whole hierarchy is still traversed when the index does not contain a matching component. The
+   * default value is {@code false}.
+   * @param b if {@code true}, component lookups by name or by type use an index of the component hierarchy.
+   * @see org.fest.swing.hierarchy.IndexedHierarchy
+   */
+  public void indexComponentLookups(boolean b) {
+    indexComponentLookups = b;
+  }
+
+  /**
+   * Indicates whether text entry and sequences of key strokes are sent without waiting for the AWT event queue to be
+   * idle after each key stroke. The default value is {@code false}.
+   * @return {@code true} if key strokes are streamed, {@code false} otherwise.
+   * @see #streamKeyStrokes(boolean)
+   */
+  public boolean streamKeyStrokes() {
+    return streamKeyStrokes;
+  }
+
+  /**
+   * Updates whether text entry and sequences of key strokes are sent without waiting for the AWT event queue to be
+   * idle after each key stroke. When enabled, <code>{@link BasicRobot#enterText(String)}</code> behaves like
+   * <code>{@link BasicRobot#streamText(String)}</code>, and <code>{@link BasicRobot#pressAndReleaseKeys(int...)}</code>
+   * waits for idle only once, after the last key. The default value is {@code false}.
+   * @param b if {@code true}, key strokes are streamed.
+   */
+  public void streamKeyStrokes(boolean b) {
+    streamKeyStrokes = b;
+  }
+
+  /**
+   * Indicates whether mouse and keyboard input is simulated by posting events directly to the AWT event queue, instead
+   * of using a <code>{@link java.awt.Robot}</code>. The default value is {@code false}.
+   * @return {@code true} if input events are posted directly to the AWT event queue, {@code false} otherwise.
+   * @see #syntheticInputEvents(boolean)
+   */
+  public boolean syntheticInputEvents() {
+    return syntheticInputEvents;
+  }
+
+  /**
+   * Updates whether mouse and keyboard input is simulated by posting events directly to the AWT event queue, instead
+   * of using a <code>{@link java.awt.Robot}</code>. Synthetic events do not go through the operating system, which makes
+   * them considerably faster, but they cannot activate windows or reach native components. The default value is
+   * {@code false}.
+   * @param b if {@code true}, input events are posted directly to the AWT event queue.
+   */
+  public void syntheticInputEvents(boolean b) {
+    syntheticInputEvents = b;
+  }
+
   private int valueToUpdate(int value, int min, int max) {
     return max(min, min(max, value));
   }
@@ -0,0 +1,329 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.event.InputEvent.*;
+import static java.awt.event.KeyEvent.*;
+import static java.awt.event.MouseEvent.*;
+import static java.awt.event.MouseWheelEvent.WHEEL_UNIT_SCROLL;
+import static java.lang.Math.abs;
+import static java.lang.String.valueOf;
+import static java.lang.System.currentTimeMillis;
+import static org.fest.swing.awt.AWT.translate;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.keystroke.KeyStrokeMap.charFor;
+import static org.fest.swing.util.Platform.isWindows;
+import static org.fest.util.Strings.concat;
+
+import java.awt.*;
+import java.awt.event.*;
+
+import javax.swing.KeyStroke;
+
+import net.jcip.annotations.GuardedBy;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.input.InputState;
+import org.fest.swing.monitor.WindowMonitor;
+
+/**
+ * Simulates user input by posting <code>{@link MouseEvent}</code>s and <code>{@link KeyEvent}</code>s directly to the
+ * <code>{@link EventQueue}</code> of the target component, without going through the operating system.
+ * <p>
+ * Mouse events are posted to the window under the mouse pointer, like native mouse events are, and AWT forwards them
+ * to the lightweight component under the mouse pointer (generating the "mouse entered" and "mouse exited" events
+ * for lightweight components.) Key events are posted to the focus owner. Click counts, pop-up triggers and modifiers
+ * are computed the way native events would have them.
+ * </p>
+ * <p>
+ * Since no OS-level input is generated, windows are not activated by mouse clicks, and native components (e.g. file
+ * choosers in some platforms) or other applications do not receive any input.
+ * </p>
+ */
+class SyntheticEventGenerator implements InputEventGenerator {
+
+  private static final int DEFAULT_MULTI_CLICK_INTERVAL = 500;
+  private static final int MULTI_CLICK_DISTANCE = 2;
+  private static final int WHEEL_SCROLL_AMOUNT = 3;
+  private static final int[] BUTTONS = { BUTTON1_MASK, BUTTON2_MASK, BUTTON3_MASK };
+
+  private final AWTEventPoster eventPoster;
+  private final int multiClickInterval;
+
+  @GuardedBy("this") private final Point mouseLocation = new Point(0, 0);
+  @GuardedBy("this") private Window windowUnderMouse;
+  @GuardedBy("this") private Window pressWindow;
+  @GuardedBy("this") private boolean movedSincePress;
+  @GuardedBy("this") private int buttons;
+  @GuardedBy("this") private int keyModifiers;
+
+  @GuardedBy("this") private int clickCount;
+  @GuardedBy("this") private int lastPressButton;
+  @GuardedBy("this") private long lastPressTime;
+  @GuardedBy("this") private Point lastPressLocation;
+
+  SyntheticEventGenerator() {
+    this(new Settings());
+  }
+
+  SyntheticEventGenerator(Settings settings) {
+    this(new AWTEventPoster(Toolkit.getDefaultToolkit(), new InputState(Toolkit.getDefaultToolkit()),
+        WindowMonitor.instance(), settings));
+  }
+
+  SyntheticEventGenerator(AWTEventPoster eventPoster) {
+    this.eventPoster = eventPoster;
+    multiClickInterval = multiClickInterval();
+  }
+
+  private static int multiClickInterval() {
+    Object interval = Toolkit.getDefaultToolkit().getDesktopProperty("awt.multiClickInterval");
+    if (interval instanceof Integer) return (Integer)interval;
+    return DEFAULT_MULTI_CLICK_INTERVAL;
+  }
+
+  /** {@inheritDoc} */
+  public void pressMouse(Component c, Point where, int buttons) {
+    Point p = where;
+    if (c != null) p = translate(c, where.x, where.y);
+    pressMouse(p, buttons);
+  }
+
+  /** {@inheritDoc} */
+  public void pressMouse(Point where, int buttons) {
+    moveMouse(where.x, where.y);
+    pressMouse(buttons);
+  }
+
+  /** {@inheritDoc} */
+  public synchronized void pressMouse(int buttons) {
+    Point location = new Point(mouseLocation);
+    for (int button : BUTTONS) {
+      if ((buttons & button) == 0) continue;
+      if (this.buttons == 0) {
+        pressWindow = windowUnderMouse;
+        movedSincePress = false;
+      }
+      this.buttons |= button;
+      updateClickCount(button, location);
+      if (pressWindow == null) continue;
+      postMouseEvent(pressWindow, MOUSE_PRESSED, button, clickCount, isPopupTriggerOnPress(button));
+    }
+  }
+
+  private void updateClickCount(int button, Point location) {
+    long now = currentTimeMillis();
+    boolean multiClick = button == lastPressButton && now - lastPressTime <= multiClickInterval
+        && lastPressLocation != null && abs(location.x - lastPressLocation.x) <= MULTI_CLICK_DISTANCE
+        && abs(location.y - lastPressLocation.y) <= MULTI_CLICK_DISTANCE;
+    clickCount = multiClick ? clickCount + 1 : 1;
+    lastPressButton = button;
+    lastPressTime = now;
+    lastPressLocation = location;
+  }
+
+  /** {@inheritDoc} */
+  public synchronized void releaseMouse(int buttons) {
+    for (int button : BUTTONS) {
+      if ((buttons & button) == 0 || (this.buttons & button) == 0) continue;
+      this.buttons &= ~button;
+      if (pressWindow == null) continue;
+      postMouseEvent(pressWindow, MOUSE_RELEASED, button, clickCount, isPopupTriggerOnRelease(button));
+      if (!movedSincePress) postMouseEvent(pressWindow, MOUSE_CLICKED, button, clickCount, false);
+    }
+    if (this.buttons != 0) return;
+    Window released = pressWindow;
+    pressWindow = null;
+    // the mouse pointer may have been dragged out of the window the buttons were pressed on
+    if (released != windowUnderMouse) updateWindowUnderMouse(windowAt(mouseLocation), released);
+  }
+
+  private boolean isPopupTriggerOnPress(int button) {
+    return button == BUTTON3_MASK && !isWindows();
+  }
+
+  private boolean isPopupTriggerOnRelease(int button) {
+    return button == BUTTON3_MASK && isWindows();
+  }
+
+  /** {@inheritDoc} */
+  public synchronized void rotateMouseWheel(int amount) {
+    Window target = windowUnderMouse;
+    if (target == null) return;
+    Point p = locationIn(target);
+    eventPoster.postEvent(target, new MouseWheelEvent(target, MOUSE_WHEEL, currentTimeMillis(), modifiers(0),
+        p.x, p.y, 0, false, WHEEL_UNIT_SCROLL, WHEEL_SCROLL_AMOUNT, amount));
+  }
+
+  /** {@inheritDoc} */
+  public void moveMouse(Component c, int x, int y) {
+    Point p = translate(c, x, y);
+    moveMouse(p.x, p.y);
+  }
+
+  /** {@inheritDoc} */
+  public synchronized void moveMouse(int x, int y) {
+    Point location = new Point(x, y);
+    Window newWindow = windowAt(location);
+    if (location.equals(mouseLocation) && newWindow == windowUnderMouse) return;
+    mouseLocation.setLocation(location);
+    if (buttons != 0) {
+      movedSincePress = true;
+      // while a button is pressed, mouse events go to the window where it was pressed
+      windowUnderMouse = newWindow;
+      if (pressWindow != null) postMouseEvent(pressWindow, MOUSE_DRAGGED, NOBUTTON, 0, false);
+      return;
+    }
+    Window oldWindow = windowUnderMouse;
+    updateWindowUnderMouse(newWindow, oldWindow);
+    if (newWindow != null) postMouseEvent(newWindow, MOUSE_MOVED, NOBUTTON, 0, false);
+  }
+
+  private void updateWindowUnderMouse(Window newWindow, Window oldWindow) {
+    windowUnderMouse = newWindow;
+    if (newWindow == oldWindow) return;
+    if (oldWindow != null) postMouseEvent(oldWindow, MOUSE_EXITED, NOBUTTON, 0, false);
+    if (newWindow != null) postMouseEvent(newWindow, MOUSE_ENTERED, NOBUTTON, 0, false);
+  }
+
+  private void postMouseEvent(Window target, int id, int button, int count, boolean popupTrigger) {
+    Point p = locationIn(target);
+    int modifiers = id == MOUSE_RELEASED || id == MOUSE_CLICKED ? modifiers(button) : modifiers(0);
+    MouseEvent event = new MouseEvent(target, id, currentTimeMillis(), modifiers, p.x, p.y, count, popupTrigger,
+        mouseEventButton(button));
+    eventPoster.postEvent(target, event);
+  }
+
+  // the button being released (or clicked) is still part of the modifiers of the event
+  private int modifiers(int releasedButton) {
+    return keyModifiers | buttons | releasedButton;
+  }
+
+  private static int mouseEventButton(int button) {
+    switch (button) {
+      case BUTTON1_MASK: return BUTTON1;
+      case BUTTON2_MASK: return BUTTON2;
+      case BUTTON3_MASK: return BUTTON3;
+      default: return NOBUTTON;
+    }
+  }
+
+  private Point locationIn(final Window w) {
+    final Point screenLocation = new Point(mouseLocation);
+    return execute(new GuiQuery<Point>() {
+      @Override protected Point executeInEDT() {
+        if (!w.isShowing()) return screenLocation;
+        Point origin = w.getLocationOnScreen();
+        return new Point(screenLocation.x - origin.x, screenLocation.y - origin.y);
+      }
+    });
+  }
+
+  private static Window windowAt(final Point screenLocation) {
+    return execute(new GuiQuery<Window>() {
+      @Override protected Window executeInEDT() {
+        Window active = KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow();
+        Window found = topmostWindowAt(topLevelAncestorOf(active), screenLocation);
+        if (found != null) return found;
+        for (Frame f : Frame.getFrames()) {
+          found = topmostWindowAt(f, screenLocation);
+          if (found != null) return found;
+        }
+        return null;
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private static Window topLevelAncestorOf(Window w) {
+    Window current = w;
+    while (current != null && current.getOwner() != null) current = current.getOwner();
+    return current;
+  }
+
+  // Owned windows (e.g. dialogs and heavyweight pop-ups) are shown on top of their owners.
+  @RunsInCurrentThread
+  private static Window topmostWindowAt(Window w, Point screenLocation) {
+    if (w == null || !w.isShowing()) return null;
+    Window[] owned = w.getOwnedWindows();
+    for (int i = owned.length - 1; i >= 0; i--) {
+      Window found = topmostWindowAt(owned[i], screenLocation);
+      if (found != null) return found;
+    }
+    Rectangle bounds = new Rectangle(w.getLocationOnScreen(), w.getSize());
+    return bounds.contains(screenLocation) ? w : null;
+  }
+
+  /** {@inheritDoc} */
+  public void pressKey(int keyCode, char keyChar) {
+    if (keyCode == VK_UNDEFINED) throw new IllegalArgumentException(concat("Invalid key code '", valueOf(keyCode), "'"));
+    Component target = keyEventTarget();
+    int modifiers;
+    synchronized (this) {
+      keyModifiers |= modifierFor(keyCode);
+      modifiers = keyModifiers;
+    }
+    if (target == null) return;
+    char character = keyChar != CHAR_UNDEFINED ? keyChar : characterFor(keyCode, modifiers);
+    long when = currentTimeMillis();
+    eventPoster.postEvent(target, new KeyEvent(target, KEY_PRESSED, when, modifiers, keyCode, character));
+    if (character == CHAR_UNDEFINED || (modifiers & (CTRL_MASK | ALT_MASK | META_MASK)) != 0) return;
+    eventPoster.postEvent(target, new KeyEvent(target, KEY_TYPED, when, modifiers, VK_UNDEFINED, character));
+  }
+
+  private static char characterFor(int keyCode, int modifiers) {
+    if (modifierFor(keyCode) != 0) return CHAR_UNDEFINED;
+    return charFor(KeyStroke.getKeyStroke(keyCode, modifiers & SHIFT_MASK));
+  }
+
+  /** {@inheritDoc} */
+  public void releaseKey(int keyCode) {
+    Component target = keyEventTarget();
+    int modifiers;
+    synchronized (this) {
+      modifiers = keyModifiers;
+      keyModifiers &= ~modifierFor(keyCode);
+    }
+    if (target == null) return;
+    char character = characterFor(keyCode, modifiers);
+    int releaseModifiers = modifiers & ~modifierFor(keyCode);
+    eventPoster.postEvent(target, new KeyEvent(target, KEY_RELEASED, currentTimeMillis(), releaseModifiers, keyCode,
+        character));
+  }
+
+  private static int modifierFor(int keyCode) {
+    switch (keyCode) {
+      case VK_SHIFT: return SHIFT_MASK;
+      case VK_CONTROL: return CTRL_MASK;
+      case VK_ALT: return ALT_MASK;
+      case VK_META: return META_MASK;
+      case VK_ALT_GRAPH: return ALT_GRAPH_MASK;
+      default: return 0;
+    }
+  }
+
+  private static Component keyEventTarget() {
+    return execute(new GuiQuery<Component>() {
+      @Override protected Component executeInEDT() {
+        KeyboardFocusManager focusManager = KeyboardFocusManager.getCurrentKeyboardFocusManager();
+        Component focusOwner = focusManager.getFocusOwner();
+        if (focusOwner != null) return focusOwner;
+        return focusManager.getActiveWindow();
+      }
+    });
+  }
+}
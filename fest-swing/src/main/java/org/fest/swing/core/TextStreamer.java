@@ -0,0 +1,34 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import org.fest.swing.annotation.RunsInEDT;
+
+/**
+ * Understands a <code>{@link Robot}</code> that can enter text without waiting for the AWT event queue to be idle
+ * between key strokes. Drivers use it, when the robot they use implements it, instead of
+ * <code>{@link Robot#enterText(String)}</code>.
+ */
+public interface TextStreamer {
+
+  /**
+   * Simulates a user entering the given text, sending all the key strokes without waiting for the AWT event queue to
+   * be idle between them. Note that this method sends the key strokes to the component that has input focus.
+   * @param text the text to enter.
+   */
+  @RunsInEDT
+  void streamText(String text);
+}
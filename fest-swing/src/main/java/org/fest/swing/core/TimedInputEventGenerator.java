@@ -0,0 +1,125 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.swing.timing.TimedActionType.INPUT_EVENT;
+
+import java.awt.*;
+
+import org.fest.swing.timing.Timings;
+
+/**
+ * Understands an <code>{@link InputEventGenerator}</code> that reports to <code>{@link Timings}</code> the time spent
+ * generating each input event.
+ */
+class TimedInputEventGenerator implements InputEventGenerator {
+
+  private final InputEventGenerator delegate;
+
+  TimedInputEventGenerator(InputEventGenerator delegate) {
+    this.delegate = delegate;
+  }
+
+  /** {@inheritDoc} */
+  public void pressMouse(Component c, Point where, int buttons) {
+    long start = Timings.start();
+    try {
+      delegate.pressMouse(c, where, buttons);
+    } finally {
+      Timings.stop(INPUT_EVENT, "pressMouse", start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void pressMouse(Point where, int buttons) {
+    long start = Timings.start();
+    try {
+      delegate.pressMouse(where, buttons);
+    } finally {
+      Timings.stop(INPUT_EVENT, "pressMouse", start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void pressMouse(int buttons) {
+    long start = Timings.start();
+    try {
+      delegate.pressMouse(buttons);
+    } finally {
+      Timings.stop(INPUT_EVENT, "pressMouse", start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void releaseMouse(int buttons) {
+    long start = Timings.start();
+    try {
+      delegate.releaseMouse(buttons);
+    } finally {
+      Timings.stop(INPUT_EVENT, "releaseMouse", start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void rotateMouseWheel(int amount) {
+    long start = Timings.start();
+    try {
+      delegate.rotateMouseWheel(amount);
+    } finally {
+      Timings.stop(INPUT_EVENT, "rotateMouseWheel", start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void moveMouse(Component c, int x, int y) {
+    long start = Timings.start();
+    try {
+      delegate.moveMouse(c, x, y);
+    } finally {
+      Timings.stop(INPUT_EVENT, "moveMouse", start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void moveMouse(int x, int y) {
+    long start = Timings.start();
+    try {
+      delegate.moveMouse(x, y);
+    } finally {
+      Timings.stop(INPUT_EVENT, "moveMouse", start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void pressKey(int keyCode, char keyChar) {
+    long start = Timings.start();
+    try {
+      delegate.pressKey(keyCode, keyChar);
+    } finally {
+      Timings.stop(INPUT_EVENT, "pressKey", start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void releaseKey(int keyCode) {
+    long start = Timings.start();
+    try {
+      delegate.releaseKey(keyCode);
+    } finally {
+      Timings.stop(INPUT_EVENT, "releaseKey", start);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.util.Arrays.asList;
+import static org.fest.swing.timing.TimedActionType.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.fest.swing.timing.TimedActionType;
+import org.fest.swing.timing.Timings;
+
+/**
+ * Understands a decorator that reports to <code>{@link Timings}</code> the time spent in the actions performed by a
+ * <code>{@link Robot}</code>. Calls to <code>{@link Robot#waitForIdle()}</code> are reported as
+ * <code>{@link TimedActionType#IDLE_WAIT}</code>s, and calls to the methods that simulate user input (e.g. clicking,
+ * typing or showing a window) as <code>{@link TimedActionType#ROBOT_ACTION}</code>s. Other methods are not timed.
+ * <p>
+ * Only the calls made through the decorator are reported: the time spent in the idle waits a robot performs while
+ * clicking, for example, is included in the time of the click.
+ * </p>
+ * <p>
+ * The decorator also implements the optional capabilities of the decorated robot (e.g.
+ * <code>{@link PopupMenuFinder}</code> or <code>{@link TextStreamer}</code>,) so drivers use the same code paths with
+ * and without timing.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>
+ * Robot robot = TimedRobot.timed(BasicRobot.robotWithNewAwtHierarchy());
+ * </pre>
+ * </p>
+ */
+public final class TimedRobot implements InvocationHandler {
+
+  private static final Set<String> ROBOT_ACTIONS = new HashSet<String>(asList("showWindow", "close", "focus",
+      "focusAndWaitForFocusGain", "click", "rightClick", "doubleClick", "moveMouse", "pressMouse", "releaseMouse",
+      "releaseMouseButtons", "rotateMouseWheel", "enterText", "type", "pressAndReleaseKey", "pressAndReleaseKeys",
+      "pressKey", "releaseKey", "pressModifiers", "releaseModifiers", "showPopupMenu", "streamText"));
+
+  private static final String IDLE_WAIT_ACTION = "waitForIdle";
+
+  private static final Class<?>[] CAPABILITIES = { PopupMenuFinder.class, TextStreamer.class };
+
+  /**
+   * Decorates the given <code>{@link Robot}</code>, timing the actions it performs.
+   * @param robot the robot to decorate.
+   * @return the decorated robot.
+   * @throws NullPointerException if the given robot is {@code null}.
+   */
+  public static Robot timed(Robot robot) {
+    if (robot == null) throw new NullPointerException("The robot to decorate should not be null");
+    return (Robot)Proxy.newProxyInstance(Robot.class.getClassLoader(), interfacesOf(robot), new TimedRobot(robot));
+  }
+
+  private static Class<?>[] interfacesOf(Robot robot) {
+    List<Class<?>> interfaces = new ArrayList<Class<?>>();
+    interfaces.add(Robot.class);
+    for (Class<?> capability : CAPABILITIES)
+      if (capability.isInstance(robot)) interfaces.add(capability);
+    return interfaces.toArray(new Class<?>[interfaces.size()]);
+  }
+
+  private final Robot delegate;
+
+  private TimedRobot(Robot delegate) {
+    this.delegate = delegate;
+  }
+
+  /** {@inheritDoc} */
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    String action = method.getName();
+    TimedActionType type = typeOf(action);
+    if (type == null) return invokeDelegate(method, args);
+    long start = Timings.start();
+    try {
+      return invokeDelegate(method, args);
+    } finally {
+      Timings.stop(type, action, start);
+    }
+  }
+
+  private static TimedActionType typeOf(String action) {
+    if (IDLE_WAIT_ACTION.equals(action)) return IDLE_WAIT;
+    if (ROBOT_ACTIONS.contains(action)) return ROBOT_ACTION;
+    return null;
+  }
+
+  private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(delegate, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
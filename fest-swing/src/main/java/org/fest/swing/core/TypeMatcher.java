@@ -68,6 +68,8 @@ public final class TypeMatcher extends AbstractComponentMatcher {
     return type.isAssignableFrom(c.getClass()) && requireShowingMatches(c);
   }
 
+  Class<? extends Component> type() { return type; }
+
   @Override public String toString() {
     return concat(
         getClass().getName(), "[",
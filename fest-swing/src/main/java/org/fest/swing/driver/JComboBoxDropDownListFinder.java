@@ -51,17 +51,22 @@ final class JComboBoxDropDownListFinder {
    */
   @RunsInEDT
   JList findDropDownList() {
+    JPopupMenu popup = activePopupMenu(robot.settings().timeoutToFindPopup());
+    if (popup == null) return null;
+    return findListIn(popup);
+  }
+
+  @RunsInEDT
+  private JPopupMenu activePopupMenu(long timeout) {
+    if (robot instanceof PopupMenuFinder) return ((PopupMenuFinder)robot).findActivePopupMenu(timeout);
     JPopupMenu popup = robot.findActivePopupMenu();
-    if (popup == null) {
-      TimeoutWatch watch = startWatchWithTimeoutOf(robot.settings().timeoutToFindPopup());
-      popup = robot.findActivePopupMenu();
-      while (popup == null) {
-        if (watch.isTimeOut()) return null;
-        pause();
-        popup = robot.findActivePopupMenu();
-      }
+    if (popup != null) return popup;
+    TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
+    while ((popup = robot.findActivePopupMenu()) == null) {
+      if (watch.isTimeOut()) return null;
+      pause();
     }
-    return findListIn(popup);
+    return popup;
   }
 
   private JList findListIn(Container parent) {
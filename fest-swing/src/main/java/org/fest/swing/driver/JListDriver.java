@@ -31,9 +31,9 @@ import static org.fest.swing.driver.JListScrollToItemTask.*;
 import static org.fest.swing.driver.JListSelectedIndexQuery.selectedIndexOf;
 import static org.fest.swing.driver.JListSelectionIndicesQuery.selectedIndices;
 import static org.fest.swing.driver.JListSelectionValueQuery.*;
-import static org.fest.swing.driver.JListSelectionValuesQuery.selectionValues;
+import static org.fest.swing.driver.JListSelectionValuesQuery.*;
 import static org.fest.swing.driver.TextAssert.verifyThat;
-import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.edt.GuiActionRunner.*;
 import static org.fest.swing.util.Arrays.isEmptyIntArray;
 import static org.fest.util.Arrays.format;
 import static org.fest.util.Strings.concat;
@@ -428,8 +428,11 @@ public class JListDriver extends JComponentDriver {
 
   @RunsInEDT
   private void requireSelectedItems(JList list, TextMatcher matcher) {
-    List<String> matchingValues = matchingItemValues(list, matcher, cellReader);
-    assertThat(selectionValues(list, cellReader)).as(propertyName(list, SELECTED_INDICES_PROPERTY)).isEqualTo(matchingValues);
+    GuiQuery<List<String>> matchingValues = matchingItemValuesQuery(list, matcher, cellReader);
+    GuiQuery<List<String>> selectionValues = selectionValuesQuery(list, cellReader);
+    GuiActionResults results = executeAll(matchingValues, selectionValues);
+    assertThat(results.resultOf(selectionValues)).as(propertyName(list, SELECTED_INDICES_PROPERTY))
+                                                 .isEqualTo(results.resultOf(matchingValues));
   }
 
   /**
@@ -735,7 +738,8 @@ public class JListDriver extends JComponentDriver {
 
   /**
    * Updates the implementation of <code>{@link JListCellReader}</code> to use when comparing internal values of a
-   * <code>{@link JList}</code> and the values expected in a test.
+   * <code>{@link JList}</code> and the values expected in a test. On large lists, a
+   * <code>{@link ModelJListCellReader}</code> avoids rendering every cell.
    * @param newCellReader the new <code>JListCellValueReader</code> to use.
    * @throws NullPointerException if <code>newCellReader</code> is {@code null}.
    */
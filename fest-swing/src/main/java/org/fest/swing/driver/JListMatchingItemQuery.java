@@ -72,9 +72,13 @@ final class JListMatchingItemQuery {
   }
 
   @RunsInEDT
-  static List<String> matchingItemValues(final JList list, final TextMatcher matcher,
+  static List<String> matchingItemValues(JList list, TextMatcher matcher, JListCellReader cellReader) {
+    return execute(matchingItemValuesQuery(list, matcher, cellReader));
+  }
+
+  static GuiQuery<List<String>> matchingItemValuesQuery(final JList list, final TextMatcher matcher,
       final JListCellReader cellReader) {
-    return execute(new GuiQuery<List<String>>() {
+    return new GuiQuery<List<String>>() {
       @Override protected List<String> executeInEDT() {
         List<String> values = new ArrayList<String>();
         int size = list.getModel().getSize();
@@ -84,7 +88,7 @@ final class JListMatchingItemQuery {
         }
         return values;
       }
-    });
+    };
   }
 
   private JListMatchingItemQuery() {}
@@ -34,8 +34,12 @@ import org.fest.swing.edt.GuiQuery;
 final class JListSelectionValuesQuery {
 
   @RunsInEDT
-  static List<String> selectionValues(final JList list, final JListCellReader cellReader) {
-    return execute(new GuiQuery<List<String>>() {
+  static List<String> selectionValues(JList list, JListCellReader cellReader) {
+    return execute(selectionValuesQuery(list, cellReader));
+  }
+
+  static GuiQuery<List<String>> selectionValuesQuery(final JList list, final JListCellReader cellReader) {
+    return new GuiQuery<List<String>>() {
       @Override protected List<String> executeInEDT() {
         List<String> values = new ArrayList<String>();
         int[] selectedIndices = list.getSelectedIndices();
@@ -43,7 +47,7 @@ final class JListSelectionValuesQuery {
           values.add(cellReader.valueAt(list, index));
         return values;
       }
-    });
+    };
   }
 
   private JListSelectionValuesQuery() {}
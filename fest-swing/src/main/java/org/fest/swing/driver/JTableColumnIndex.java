@@ -0,0 +1,340 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static javax.swing.event.TableModelEvent.*;
+import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.driver.JTableContentsSnapshot.hasRowSorter;
+
+import java.beans.*;
+import java.util.*;
+
+import javax.swing.JTable;
+import javax.swing.event.*;
+import javax.swing.table.*;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.cell.JTableCellReader;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.util.TextMatcher;
+
+/**
+ * Understands an index from the values of the cells in some columns of a <code>{@link JTable}</code>, as read by a
+ * <code>{@link JTableCellReader}</code>, to the cells having those values. The index is built lazily, the first time
+ * it is used, and is kept current as <code>{@link TableModelEvent}</code>s are received: updated rows are read again,
+ * and rows appended to (or removed from) the end of the table are added to (or removed from) the index.
+ * <p>
+ * The whole index is built again when rows are inserted or deleted anywhere else, or when the table's model, column
+ * model or cell renderers change. Columns are tracked by their index in the model, so moving columns does not affect
+ * the index. Tables that use a row sorter (Java 6 and later) are never indexed: their indexed columns are read and
+ * matched on every lookup.
+ * </p>
+ * <p>
+ * Instances of this class must be accessed in the event dispatch thread.
+ * </p>
+ */
+final class JTableColumnIndex implements TableModelListener, TableColumnModelListener, PropertyChangeListener {
+
+  private static final String CLIENT_PROPERTY_KEY = JTableColumnIndex.class.getName();
+  private static final String SNAPSHOT_CLIENT_PROPERTY_KEY = JTableContentsSnapshot.class.getName();
+  private static final String REGEX_CHARACTERS = "\\^$.|?*+()[]{}";
+
+  private final JTable table;
+  private final int[] modelColumns;
+
+  // cells are stored using the index of their column in the model
+  private final Map<String, List<TableCell>> cellsByValue = new HashMap<String, List<TableCell>>();
+  private final List<String[]> rows = new ArrayList<String[]>();
+
+  private JTableCellReader cellReader;
+  private boolean stale = true;
+
+  private TableModel model;
+  private TableColumnModel columnModel;
+
+  /**
+   * Creates an index of the values in the given columns of the given table, replacing any existing one. The index is
+   * stored as a client property of the table, so it can be garbage-collected together with the table.
+   * @param table the target table.
+   * @param columns the indices of the columns to index, in view coordinates.
+   */
+  @RunsInCurrentThread
+  static void indexColumns(JTable table, int[] columns) {
+    discardColumnIndexOf(table);
+    int[] modelColumns = new int[columns.length];
+    for (int i = 0; i < columns.length; i++) modelColumns[i] = table.convertColumnIndexToModel(columns[i]);
+    table.putClientProperty(CLIENT_PROPERTY_KEY, new JTableColumnIndex(table, modelColumns));
+  }
+
+  /**
+   * Returns the column index of the given table, if any.
+   * @param table the target table.
+   * @return the column index of the given table, or {@code null} if the table does not have one.
+   */
+  @RunsInCurrentThread
+  static JTableColumnIndex columnIndexOf(JTable table) {
+    Object property = table.getClientProperty(CLIENT_PROPERTY_KEY);
+    if (property instanceof JTableColumnIndex) return (JTableColumnIndex)property;
+    return null;
+  }
+
+  /**
+   * Discards the column index of the given table, if any.
+   * @param table the target table.
+   */
+  @RunsInCurrentThread
+  static void discardColumnIndexOf(JTable table) {
+    JTableColumnIndex index = columnIndexOf(table);
+    if (index == null) return;
+    index.dispose();
+    table.putClientProperty(CLIENT_PROPERTY_KEY, null);
+  }
+
+  @RunsInCurrentThread
+  private JTableColumnIndex(JTable table, int[] modelColumns) {
+    this.table = table;
+    this.modelColumns = modelColumns;
+    table.addPropertyChangeListener(this);
+    listenToModels();
+  }
+
+  @RunsInCurrentThread
+  private void listenToModels() {
+    model = table.getModel();
+    columnModel = table.getColumnModel();
+    if (model != null) model.addTableModelListener(this);
+    if (columnModel != null) columnModel.addColumnModelListener(this);
+  }
+
+  @RunsInCurrentThread
+  private void stopListeningToModels() {
+    if (model != null) model.removeTableModelListener(this);
+    if (columnModel != null) columnModel.removeColumnModelListener(this);
+    model = null;
+    columnModel = null;
+  }
+
+  @RunsInCurrentThread
+  private void dispose() {
+    table.removePropertyChangeListener(this);
+    stopListeningToModels();
+    invalidate();
+  }
+
+  /**
+   * Returns the first cell, in the indexed columns, whose value is matched by the given <code>{@link TextMatcher}</code>.
+   * If the given value is not a regular expression, it is looked up directly in the index.
+   * @param matcher the matcher to use.
+   * @param value the value the matcher was created with, or {@code null} if the matcher uses regular expression
+   * patterns.
+   * @param reader reads the values of the cells in the table.
+   * @return the first matching cell (in view coordinates,) or {@code null} if none of the indexed cells matched.
+   */
+  @RunsInCurrentThread
+  TableCell cellWithValue(TextMatcher matcher, String value, JTableCellReader reader) {
+    if (hasRowSorter(table)) return readCellWithValue(matcher, reader);
+    update(reader);
+    if (isLiteral(value)) return firstCellIn(cellsByValue.get(value));
+    int[] columns = indexedColumnsInViewOrder();
+    int rowCount = rows.size();
+    for (int r = 0; r < rowCount; r++) {
+      String[] values = rows.get(r);
+      for (int i : columns)
+        if (matcher.isMatching(values[i])) return row(r).column(table.convertColumnIndexToView(modelColumns[i]));
+    }
+    return null;
+  }
+
+  private static boolean isLiteral(String value) {
+    if (value == null) return false;
+    int length = value.length();
+    for (int i = 0; i < length; i++)
+      if (REGEX_CHARACTERS.indexOf(value.charAt(i)) >= 0) return false;
+    return true;
+  }
+
+  private TableCell readCellWithValue(TextMatcher matcher, JTableCellReader reader) {
+    int[] columns = indexedColumnsInViewOrder();
+    int rowCount = table.getRowCount();
+    for (int r = 0; r < rowCount; r++) {
+      for (int i : columns) {
+        int column = table.convertColumnIndexToView(modelColumns[i]);
+        if (matcher.isMatching(reader.valueAt(table, r, column))) return row(r).column(column);
+      }
+    }
+    return null;
+  }
+
+  // returns the positions in modelColumns of the columns being shown, sorted by their index in the view
+  private int[] indexedColumnsInViewOrder() {
+    List<Integer> viewColumns = new ArrayList<Integer>();
+    for (int modelColumn : modelColumns) {
+      int viewColumn = table.convertColumnIndexToView(modelColumn);
+      if (viewColumn >= 0) viewColumns.add(viewColumn);
+    }
+    Collections.sort(viewColumns);
+    int[] positions = new int[viewColumns.size()];
+    for (int i = 0; i < positions.length; i++)
+      positions[i] = positionOf(table.convertColumnIndexToModel(viewColumns.get(i)));
+    return positions;
+  }
+
+  private int positionOf(int modelColumn) {
+    for (int i = 0; i < modelColumns.length; i++)
+      if (modelColumns[i] == modelColumn) return i;
+    return -1;
+  }
+
+  private TableCell firstCellIn(List<TableCell> cells) {
+    if (cells == null) return null;
+    TableCell first = null;
+    int firstColumn = -1;
+    for (TableCell cell : cells) {
+      int column = table.convertColumnIndexToView(cell.column);
+      if (column < 0) continue;
+      if (first != null && (cell.row > first.row || (cell.row == first.row && column > firstColumn))) continue;
+      first = cell;
+      firstColumn = column;
+    }
+    if (first == null) return null;
+    return row(first.row).column(firstColumn);
+  }
+
+  private void update(JTableCellReader reader) {
+    if (reader != cellReader || rows.size() != table.getRowCount()) invalidate();
+    cellReader = reader;
+    if (!stale) return;
+    int rowCount = table.getRowCount();
+    for (int r = 0; r < rowCount; r++) addRow(r);
+    stale = false;
+  }
+
+  private void invalidate() {
+    cellsByValue.clear();
+    rows.clear();
+    stale = true;
+  }
+
+  private void addRow(int row) {
+    String[] values = read(row);
+    rows.add(row, values);
+    addToIndex(row, values);
+  }
+
+  private void updateRow(int row) {
+    removeFromIndex(row, rows.get(row));
+    String[] values = read(row);
+    rows.set(row, values);
+    addToIndex(row, values);
+  }
+
+  private void removeRow(int row) {
+    removeFromIndex(row, rows.remove(row));
+  }
+
+  private String[] read(int row) {
+    String[] values = new String[modelColumns.length];
+    for (int i = 0; i < modelColumns.length; i++) {
+      int column = table.convertColumnIndexToView(modelColumns[i]);
+      if (column >= 0) values[i] = cellReader.valueAt(table, row, column);
+    }
+    return values;
+  }
+
+  private void addToIndex(int row, String[] values) {
+    for (int i = 0; i < values.length; i++) {
+      List<TableCell> cells = cellsByValue.get(values[i]);
+      if (cells == null) {
+        cells = new ArrayList<TableCell>(1);
+        cellsByValue.put(values[i], cells);
+      }
+      cells.add(row(row).column(modelColumns[i]));
+    }
+  }
+
+  private void removeFromIndex(int row, String[] values) {
+    for (int i = 0; i < values.length; i++) {
+      List<TableCell> cells = cellsByValue.get(values[i]);
+      if (cells == null) continue;
+      for (Iterator<TableCell> it = cells.iterator(); it.hasNext();) {
+        TableCell cell = it.next();
+        if (cell.row == row && cell.column == modelColumns[i]) it.remove();
+      }
+      if (cells.isEmpty()) cellsByValue.remove(values[i]);
+    }
+  }
+
+  /** {@inheritDoc} */
+  public void tableChanged(TableModelEvent e) {
+    if (stale) return;
+    int firstRow = e.getFirstRow();
+    int lastRow = e.getLastRow();
+    if (firstRow == HEADER_ROW || lastRow == Integer.MAX_VALUE) {
+      invalidate();
+      return;
+    }
+    int rowCount = rows.size();
+    switch (e.getType()) {
+    case UPDATE:
+      if (!isIndexed(e.getColumn())) return;
+      for (int r = Math.max(firstRow, 0); r <= Math.min(lastRow, rowCount - 1); r++) updateRow(r);
+      return;
+    case INSERT:
+      if (firstRow != rowCount) break;
+      for (int r = firstRow; r <= lastRow; r++) addRow(r);
+      return;
+    case DELETE:
+      if (lastRow != rowCount - 1) break;
+      for (int r = lastRow; r >= firstRow; r--) removeRow(r);
+      return;
+    }
+    invalidate();
+  }
+
+  private boolean isIndexed(int modelColumn) {
+    return modelColumn == ALL_COLUMNS || positionOf(modelColumn) >= 0;
+  }
+
+  /** {@inheritDoc} */
+  public void propertyChange(PropertyChangeEvent e) {
+    String name = e.getPropertyName();
+    if (CLIENT_PROPERTY_KEY.equals(name) || SNAPSHOT_CLIENT_PROPERTY_KEY.equals(name)) return;
+    if ("model".equals(name) || "columnModel".equals(name)) {
+      stopListeningToModels();
+      listenToModels();
+    }
+    invalidate();
+  }
+
+  /** {@inheritDoc} */
+  public void columnAdded(TableColumnModelEvent e) {
+    invalidate();
+  }
+
+  /** {@inheritDoc} */
+  public void columnRemoved(TableColumnModelEvent e) {
+    invalidate();
+  }
+
+  /** {@inheritDoc} */
+  public void columnMoved(TableColumnModelEvent e) {}
+
+  /** {@inheritDoc} */
+  public void columnMarginChanged(ChangeEvent e) {}
+
+  /** {@inheritDoc} */
+  public void columnSelectionChanged(ListSelectionEvent e) {}
+}
@@ -0,0 +1,278 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static java.util.Collections.nCopies;
+import static javax.swing.event.TableModelEvent.*;
+import static org.fest.swing.data.TableCell.row;
+
+import java.beans.*;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import javax.swing.JTable;
+import javax.swing.event.*;
+import javax.swing.table.*;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.cell.JTableCellReader;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.util.TextMatcher;
+
+/**
+ * Understands a cache of the values of the cells in a <code>{@link JTable}</code>, as read by a
+ * <code>{@link JTableCellReader}</code>. Cell values are read lazily, one row at a time, and are invalidated as
+ * <code>{@link TableModelEvent}</code>s are received: only the rows that changed are read again.
+ * <p>
+ * The whole cache is invalidated when the table's model, column model or cell renderers change, or when columns are
+ * added, removed or moved. Tables that use a row sorter (Java 6 and later) are not cached, since sort order changes
+ * are not notified through any of the listeners available in Java 5.
+ * </p>
+ * <p>
+ * Instances of this class must be accessed in the event dispatch thread.
+ * </p>
+ */
+final class JTableContentsSnapshot implements TableModelListener, TableColumnModelListener, PropertyChangeListener {
+
+  private static final String CLIENT_PROPERTY_KEY = JTableContentsSnapshot.class.getName();
+  private static final String COLUMN_INDEX_CLIENT_PROPERTY_KEY = JTableColumnIndex.class.getName();
+
+  // resolved only once, since it is needed every time the table is read
+  private static final Method GET_ROW_SORTER = getRowSorterMethod();
+
+  private final JTable table;
+  private final JTableCellReader cellReader;
+
+  private final List<String[]> rows = new ArrayList<String[]>();
+
+  private TableModel model;
+  private TableColumnModel columnModel;
+
+  /**
+   * Returns the snapshot of the given table that uses the given cell reader, creating it if necessary. The snapshot is
+   * stored as a client property of the table, so it can be garbage-collected together with the table.
+   * @param table the target table.
+   * @param cellReader reads the values of the cells in the table.
+   * @return the snapshot of the given table.
+   */
+  @RunsInCurrentThread
+  static JTableContentsSnapshot snapshotOf(JTable table, JTableCellReader cellReader) {
+    Object property = table.getClientProperty(CLIENT_PROPERTY_KEY);
+    if (property instanceof JTableContentsSnapshot) {
+      JTableContentsSnapshot snapshot = (JTableContentsSnapshot)property;
+      if (snapshot.cellReader == cellReader) return snapshot;
+      snapshot.dispose();
+    }
+    JTableContentsSnapshot snapshot = new JTableContentsSnapshot(table, cellReader);
+    table.putClientProperty(CLIENT_PROPERTY_KEY, snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Discards the snapshot of the given table, if any.
+   * @param table the target table.
+   */
+  @RunsInCurrentThread
+  static void discardSnapshotOf(JTable table) {
+    Object property = table.getClientProperty(CLIENT_PROPERTY_KEY);
+    if (!(property instanceof JTableContentsSnapshot)) return;
+    ((JTableContentsSnapshot)property).dispose();
+    table.putClientProperty(CLIENT_PROPERTY_KEY, null);
+  }
+
+  @RunsInCurrentThread
+  private JTableContentsSnapshot(JTable table, JTableCellReader cellReader) {
+    this.table = table;
+    this.cellReader = cellReader;
+    table.addPropertyChangeListener(this);
+    listenToModels();
+  }
+
+  @RunsInCurrentThread
+  private void listenToModels() {
+    model = table.getModel();
+    columnModel = table.getColumnModel();
+    if (model != null) model.addTableModelListener(this);
+    if (columnModel != null) columnModel.addColumnModelListener(this);
+  }
+
+  @RunsInCurrentThread
+  private void stopListeningToModels() {
+    if (model != null) model.removeTableModelListener(this);
+    if (columnModel != null) columnModel.removeColumnModelListener(this);
+    model = null;
+    columnModel = null;
+  }
+
+  @RunsInCurrentThread
+  private void dispose() {
+    table.removePropertyChangeListener(this);
+    stopListeningToModels();
+    rows.clear();
+  }
+
+  /**
+   * Returns the value of the given cell, reading it only if it is not cached yet.
+   * @param row the row index of the cell (in view coordinates.)
+   * @param column the column index of the cell (in view coordinates.)
+   * @return the value of the given cell.
+   */
+  @RunsInCurrentThread
+  String valueAt(int row, int column) {
+    if (!cacheable()) return cellReader.valueAt(table, row, column);
+    return rowAt(row)[column];
+  }
+
+  /**
+   * Returns the values of all the cells in the table, reading only the ones that are not cached yet.
+   * @return the values of all the cells in the table.
+   */
+  @RunsInCurrentThread
+  String[][] contents() {
+    int rowCount = table.getRowCount();
+    boolean cacheable = cacheable();
+    String[][] contents = new String[rowCount][];
+    for (int r = 0; r < rowCount; r++) contents[r] = cacheable ? copyOf(r) : read(r);
+    return contents;
+  }
+
+  private String[] copyOf(int row) {
+    String[] values = rowAt(row);
+    String[] copy = new String[values.length];
+    System.arraycopy(values, 0, copy, 0, values.length);
+    return copy;
+  }
+
+  /**
+   * Returns the first cell whose value is matched by the given <code>{@link TextMatcher}</code>.
+   * @param matcher the matcher to use.
+   * @return the first matching cell, or {@code null} if none of the cells matched.
+   */
+  @RunsInCurrentThread
+  TableCell cellWithValue(TextMatcher matcher) {
+    int rowCount = table.getRowCount();
+    boolean cacheable = cacheable();
+    for (int r = 0; r < rowCount; r++) {
+      String[] values = cacheable ? rowAt(r) : read(r);
+      for (int c = 0; c < values.length; c++)
+        if (matcher.isMatching(values[c])) return row(r).column(c);
+    }
+    return null;
+  }
+
+  private boolean cacheable() {
+    return !hasRowSorter(table);
+  }
+
+  /**
+   * Indicates whether the given table uses a row sorter. Tables never use a row sorter in Java 5.
+   * @param table the target table.
+   * @return {@code true} if the given table uses a row sorter, {@code false} otherwise.
+   */
+  @RunsInCurrentThread
+  static boolean hasRowSorter(JTable table) {
+    if (GET_ROW_SORTER == null) return false;
+    try {
+      return GET_ROW_SORTER.invoke(table) != null;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private static Method getRowSorterMethod() {
+    try {
+      return JTable.class.getMethod("getRowSorter");
+    } catch (NoSuchMethodException e) {
+      return null; // Java 5: no row sorters.
+    }
+  }
+
+  private String[] rowAt(int row) {
+    int rowCount = table.getRowCount();
+    if (rows.size() != rowCount) resize(rowCount);
+    String[] values = rows.get(row);
+    if (values == null || values.length != table.getColumnCount()) {
+      values = read(row);
+      rows.set(row, values);
+    }
+    return values;
+  }
+
+  private void resize(int rowCount) {
+    while (rows.size() > rowCount) rows.remove(rows.size() - 1);
+    if (rows.size() < rowCount) rows.addAll(nCopies(rowCount - rows.size(), (String[])null));
+  }
+
+  private String[] read(int row) {
+    int columnCount = table.getColumnCount();
+    String[] values = new String[columnCount];
+    for (int c = 0; c < columnCount; c++) values[c] = cellReader.valueAt(table, row, c);
+    return values;
+  }
+
+  /** {@inheritDoc} */
+  public void tableChanged(TableModelEvent e) {
+    int firstRow = e.getFirstRow();
+    int lastRow = e.getLastRow();
+    if (firstRow == HEADER_ROW || lastRow == Integer.MAX_VALUE) {
+      rows.clear();
+      return;
+    }
+    if (e.getType() == UPDATE) {
+      invalidate(firstRow, lastRow);
+      return;
+    }
+    // rows were inserted or deleted: rows after the first affected one are shifted.
+    resize(Math.min(rows.size(), firstRow));
+  }
+
+  private void invalidate(int firstRow, int lastRow) {
+    int last = Math.min(lastRow, rows.size() - 1);
+    for (int r = Math.max(firstRow, 0); r <= last; r++) rows.set(r, null);
+  }
+
+  /** {@inheritDoc} */
+  public void propertyChange(PropertyChangeEvent e) {
+    String name = e.getPropertyName();
+    if (CLIENT_PROPERTY_KEY.equals(name) || COLUMN_INDEX_CLIENT_PROPERTY_KEY.equals(name)) return;
+    if ("model".equals(name) || "columnModel".equals(name)) {
+      stopListeningToModels();
+      listenToModels();
+    }
+    rows.clear();
+  }
+
+  /** {@inheritDoc} */
+  public void columnAdded(TableColumnModelEvent e) {
+    rows.clear();
+  }
+
+  /** {@inheritDoc} */
+  public void columnRemoved(TableColumnModelEvent e) {
+    rows.clear();
+  }
+
+  /** {@inheritDoc} */
+  public void columnMoved(TableColumnModelEvent e) {
+    if (e.getFromIndex() != e.getToIndex()) rows.clear();
+  }
+
+  /** {@inheritDoc} */
+  public void columnMarginChanged(ChangeEvent e) {}
+
+  /** {@inheritDoc} */
+  public void columnSelectionChanged(ListSelectionEvent e) {}
+}
@@ -14,18 +14,23 @@
  */
 package org.fest.swing.driver;
 
+import static java.util.Collections.sort;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.assertions.Fail.fail;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
+import static org.fest.swing.data.TableCell.row;
 import static org.fest.swing.driver.CommonValidations.*;
 import static org.fest.swing.driver.ComponentStateValidator.validateIsEnabledAndShowing;
 import static org.fest.swing.driver.JTableCellEditableQuery.isCellEditable;
 import static org.fest.swing.driver.JTableCellValidator.*;
 import static org.fest.swing.driver.JTableColumnCountQuery.columnCountOf;
+import static org.fest.swing.driver.JTableColumnIndex.*;
 import static org.fest.swing.driver.JTableContentsQuery.tableContents;
+import static org.fest.swing.driver.JTableContentsSnapshot.*;
 import static org.fest.swing.driver.JTableHasSelectionQuery.hasSelection;
 import static org.fest.swing.driver.JTableHeaderQuery.tableHeader;
-import static org.fest.swing.driver.JTableMatchingCellQuery.cellWithValue;
+import static org.fest.swing.driver.JTableMatchingCellQuery.*;
+import static org.fest.swing.driver.JTableSetValuesInModelQuery.setValuesInModel;
 import static org.fest.swing.driver.JTableSingleRowCellSelectedQuery.isCellSelected;
 import static org.fest.swing.driver.TextAssert.verifyThat;
 import static org.fest.swing.edt.GuiActionRunner.execute;
@@ -34,8 +39,11 @@ import static org.fest.swing.query.JTableColumnByIdentifierQuery.columnIndexById
 import static org.fest.swing.util.Arrays.*;
 import static org.fest.util.Arrays.*;
 import static org.fest.util.Strings.*;
+import static org.fest.util.Systems.LINE_SEPARATOR;
 
 import java.awt.*;
+import java.util.*;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import javax.swing.*;
@@ -50,6 +58,7 @@ import org.fest.swing.data.*;
 import org.fest.swing.edt.*;
 import org.fest.swing.exception.*;
 import org.fest.swing.util.*;
+import org.fest.swing.util.Arrays;
 import org.fest.util.VisibleForTesting;
 
 /**
@@ -76,6 +85,8 @@ public class JTableDriver extends JComponentDriver {
   private final JTableLocation location = new JTableLocation();
   private JTableCellReader cellReader;
   private JTableCellWriter cellWriter;
+  private boolean cacheContents;
+  private boolean enterValuesThroughModel;
 
   /**
    * Creates a new </code>{@link JTableDriver}</code>.
@@ -145,7 +156,7 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public TableCell cell(JTable table, String value) {
-    return cellWithValue(table, new StringTextMatcher(value), cellReader);
+    return cell(table, new StringTextMatcher(value), value);
   }
 
   /**
@@ -159,7 +170,27 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public TableCell cell(JTable table, Pattern pattern) {
-    return cellWithValue(table, new PatternTextMatcher(pattern), cellReader);
+    return cell(table, new PatternTextMatcher(pattern), null);
+  }
+
+  @RunsInEDT
+  private TableCell cell(JTable table, TextMatcher matcher, String value) {
+    if (cacheContents) return cachedCellWithValue(table, matcher, value, cellReader);
+    return cellWithValue(table, matcher, value, cellReader);
+  }
+
+  @RunsInEDT
+  private static TableCell cachedCellWithValue(final JTable table, final TextMatcher matcher, final String value,
+      final JTableCellReader cellReader) {
+    return execute(new GuiQuery<TableCell>() {
+      @Override protected TableCell executeInEDT() {
+        JTableColumnIndex index = columnIndexOf(table);
+        TableCell cell = index != null ? index.cellWithValue(matcher, value, cellReader)
+            : snapshotOf(table, cellReader).cellWithValue(matcher);
+        if (cell != null) return cell;
+        throw cellNotFound(matcher);
+      }
+    });
   }
 
   /**
@@ -175,6 +206,7 @@ public class JTableDriver extends JComponentDriver {
   @RunsInEDT
   public String value(JTable table, TableCell cell) {
     validateNotNull(cell);
+    if (cacheContents) return cachedCellValue(table, cell.row, cell.column, cellReader);
     return cellValue(table, cell, cellReader);
   }
 
@@ -200,9 +232,21 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public String value(JTable table, int row, int column) {
+    if (cacheContents) return cachedCellValue(table, row, column, cellReader);
     return cellValue(table, row, column, cellReader);
   }
 
+  @RunsInEDT
+  private static String cachedCellValue(final JTable table, final int row, final int column,
+      final JTableCellReader cellReader) {
+    return execute(new GuiQuery<String>() {
+      @Override protected String executeInEDT() {
+        validateIndices(table, row, column);
+        return snapshotOf(table, cellReader).valueAt(row, column);
+      }
+    });
+  }
+
   @RunsInEDT
   private static String cellValue(final JTable table, final int row, final int column,
       final JTableCellReader cellReader) {
@@ -490,9 +534,19 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public String[][] contents(JTable table) {
+    if (cacheContents) return cachedTableContents(table, cellReader);
     return tableContents(table, cellReader);
   }
 
+  @RunsInEDT
+  private static String[][] cachedTableContents(final JTable table, final JTableCellReader cellReader) {
+    return execute(new GuiQuery<String[][]>() {
+      @Override protected String[][] executeInEDT() {
+        return snapshotOf(table, cellReader).contents();
+      }
+    });
+  }
+
   /**
    * Asserts that the value of the given cell matches the given value.
    * @param table the target {@code JTable}.
@@ -549,6 +603,131 @@ public class JTableDriver extends JComponentDriver {
     cellWriter.enterValue(table, cell.row, cell.column, value);
   }
 
+  /**
+   * Enters the given block of values in the <code>{@link JTable}</code>, starting at the given cell. The value at
+   * <code>values[i][j]</code> is entered in the cell at row <code>origin.row + i</code> and column
+   * <code>origin.column + j</code>.
+   * @param table the target {@code JTable}.
+   * @param origin the cell where the top-left value of the block is entered.
+   * @param values the values to enter.
+   * @throws NullPointerException if the cell is {@code null}.
+   * @throws NullPointerException if the array of values, or any of its rows, is {@code null}.
+   * @throws IllegalStateException if the {@code JTable} is disabled, unless values are set directly in the model.
+   * @throws IllegalStateException if the {@code JTable} is not showing on the screen, unless values are set directly
+   * in the model.
+   * @throws ActionFailedException if any of the values cannot be entered. The message of the exception lists all the
+   * cells that failed.
+   * @see #enterValues(JTable, Map)
+   */
+  @RunsInEDT
+  public void enterValues(JTable table, TableCell origin, String[][] values) {
+    validateNotNull(origin);
+    if (values == null) throw new NullPointerException("The array of values should not be null");
+    Map<TableCell, String> valuesByCell = new HashMap<TableCell, String>();
+    for (int r = 0; r < values.length; r++) {
+      if (values[r] == null) throw new NullPointerException(concat("The values in row ", r, " should not be null"));
+      for (int c = 0; c < values[r].length; c++)
+        valuesByCell.put(row(origin.row + r).column(origin.column + c), values[r][c]);
+    }
+    enterValues(table, valuesByCell);
+  }
+
+  /**
+   * Enters the given values in their cells of the <code>{@link JTable}</code>, row by row. By default values are
+   * entered using this driver's <code>{@link JTableCellWriter}</code>. They can also be set directly in the table
+   * model (see <code>{@link #enterValuesThroughModel(boolean)}</code>.) A failure to enter the value of a cell does not
+   * prevent entering the values of the other cells: all the failures are reported together once all the values have
+   * been entered.
+   * <p>
+   * Only setting the values in the model reduces synchronization with the GUI: the values of a row are set in a single
+   * task in the event dispatch thread, and this driver waits for the GUI to be idle once all the values are set. A
+   * <code>{@link JTableCellWriter}</code> activates, edits and stops the editor of each cell separately, waiting for
+   * the GUI to be idle in each step.
+   * </p>
+   * @param table the target {@code JTable}.
+   * @param values the values to enter, by cell.
+   * @throws NullPointerException if the map of values is {@code null}.
+   * @throws IllegalStateException if the {@code JTable} is disabled, unless values are set directly in the model.
+   * @throws IllegalStateException if the {@code JTable} is not showing on the screen, unless values are set directly
+   * in the model.
+   * @throws ActionFailedException if any of the values cannot be entered. The message of the exception lists all the
+   * cells that failed.
+   * @see #cellWriter(JTableCellWriter)
+   */
+  @RunsInEDT
+  public void enterValues(JTable table, Map<TableCell, String> values) {
+    if (values == null) throw new NullPointerException("The map of values should not be null");
+    if (!enterValuesThroughModel) validateIsEnabledAndShowingInEDT(table);
+    List<String> failures = new ArrayList<String>();
+    for (List<TableCell> cells : cellsByRow(values.keySet())) {
+      if (enterValuesThroughModel) {
+        failures.addAll(setValuesInModel(table, cells, values));
+        continue;
+      }
+      for (TableCell cell : cells) {
+        try {
+          cellWriter.enterValue(table, cell.row, cell.column, values.get(cell));
+        } catch (RuntimeException e) {
+          failures.add(concat(cell, ": ", e.getMessage()));
+        }
+      }
+    }
+    if (enterValuesThroughModel) robot.waitForIdle();
+    if (failures.isEmpty()) return;
+    throw actionFailure(concat("Unable to enter values in ", failures.size(), " cell(s):", describe(failures)));
+  }
+
+  private static String describe(List<String> failures) {
+    StringBuilder b = new StringBuilder();
+    for (String failure : failures) b.append(LINE_SEPARATOR).append("  ").append(failure);
+    return b.toString();
+  }
+
+  // sorts the given cells by column and groups them by row
+  private static Collection<List<TableCell>> cellsByRow(Collection<TableCell> cells) {
+    SortedMap<Integer, List<TableCell>> cellsByRow = new TreeMap<Integer, List<TableCell>>();
+    for (TableCell cell : cells) {
+      validateNotNull(cell);
+      List<TableCell> row = cellsByRow.get(cell.row);
+      if (row == null) {
+        row = new ArrayList<TableCell>();
+        cellsByRow.put(cell.row, row);
+      }
+      row.add(cell);
+    }
+    for (List<TableCell> row : cellsByRow.values()) sort(row, COLUMN_ORDER);
+    return cellsByRow.values();
+  }
+
+  private static final Comparator<TableCell> COLUMN_ORDER = new Comparator<TableCell>() {
+    public int compare(TableCell c1, TableCell c2) {
+      return c1.column - c2.column;
+    }
+  };
+
+  @RunsInEDT
+  private static void validateIsEnabledAndShowingInEDT(final JTable table) {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        validateIsEnabledAndShowing(table);
+      }
+    });
+  }
+
+  /**
+   * Indicates whether <code>{@link #enterValues(JTable, Map)}</code> and
+   * <code>{@link #enterValues(JTable, TableCell, String[][])}</code> set the values directly in the table model,
+   * instead of using this driver's <code>{@link JTableCellWriter}</code>. Values are set in a single task in the event
+   * dispatch thread per row, and this driver waits for the GUI to be idle only once all the values are set. This is
+   * useful to populate a {@code JTable} when editing cells through the GUI is not what a test verifies. Values are
+   * converted to the class of their column the same way the default cell editor does. The default value is
+   * {@code false}.
+   * @param throughModel indicates whether values should be set directly in the table model.
+   */
+  public void enterValuesThroughModel(boolean throughModel) {
+    enterValuesThroughModel = throughModel;
+  }
+
   /**
    * Asserts that the given table cell is editable.
    * @param table the target {@code JTable}.
@@ -699,6 +878,83 @@ public class JTableDriver extends JComponentDriver {
     cellReader = newCellReader;
   }
 
+  /**
+   * Indicates whether this driver caches the values of the cells of a <code>{@link JTable}</code>, as read by this
+   * driver's <code>{@link JTableCellReader}</code>, between calls to <code>{@link #contents(JTable)}</code>,
+   * <code>{@link #requireContents(JTable, String[][])}</code>, <code>{@link #cell(JTable, String)}</code>,
+   * <code>{@link #cell(JTable, Pattern)}</code>, <code>{@link #value(JTable, TableCell)}</code> and
+   * <code>{@link #requireCellValue(JTable, TableCell, String)}</code>. The cached values are invalidated, row by row,
+   * when the table model notifies changes. The whole cache is invalidated when the table's models or properties
+   * change. Tables using a row sorter are never cached. The default value is {@code false}.
+   * <p>
+   * Cell values that depend on state not notified to the table (e.g. a renderer that changes its output based on some
+   * external state) can be refreshed with <code>{@link #clearContentsCache(JTable)}</code>.
+   * </p>
+   * @param cache indicates whether the values of the cells should be cached.
+   */
+  public void cacheContents(boolean cache) {
+    cacheContents = cache;
+  }
+
+  /**
+   * Discards any cached cell values of the given <code>{@link JTable}</code>.
+   * @param table the target {@code JTable}.
+   * @see #cacheContents(boolean)
+   */
+  @RunsInEDT
+  public void clearContentsCache(final JTable table) {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        discardSnapshotOf(table);
+      }
+    });
+  }
+
+  /**
+   * Indexes the values of the cells in the given columns of the given <code>{@link JTable}</code>, as read by this
+   * driver's <code>{@link JTableCellReader}</code>. Once a {@code JTable} has a column index,
+   * <code>{@link #cell(JTable, String)}</code> and <code>{@link #cell(JTable, Pattern)}</code> only look for matching
+   * cells in the indexed columns, and values that are not regular expressions are looked up directly in the index,
+   * instead of reading every cell in the {@code JTable}. The index is kept current as the table model notifies
+   * changes, and it is built again when the table's models or properties change. Tables using a row sorter are never
+   * indexed: only the given columns are read on each lookup.
+   * <p>
+   * Indexing the columns that contain unique keys (e.g. identifiers) makes looking up those keys in big tables much
+   * faster. Any previous index of the given {@code JTable} is discarded.
+   * </p>
+   * @param table the target {@code JTable}.
+   * @param columns the indices of the columns to index.
+   * @throws NullPointerException if the array of column indices is {@code null}.
+   * @throws IllegalArgumentException if the array of column indices is empty.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @see #discardColumnIndex(JTable)
+   */
+  @RunsInEDT
+  public void indexColumns(final JTable table, final int... columns) {
+    if (columns == null) throw new NullPointerException("The array of column indices should not be null");
+    if (columns.length == 0) throw new IllegalArgumentException("The array of column indices should not be empty");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        for (int column : columns) validateColumnIndex(table, column);
+        JTableColumnIndex.indexColumns(table, columns);
+      }
+    });
+  }
+
+  /**
+   * Discards the column index of the given <code>{@link JTable}</code>, if any.
+   * @param table the target {@code JTable}.
+   * @see #indexColumns(JTable, int...)
+   */
+  @RunsInEDT
+  public void discardColumnIndex(final JTable table) {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        discardColumnIndexOf(table);
+      }
+    });
+  }
+
   /**
    * Updates the implementation of <code>{@link JTableCellWriter}</code> to use to edit cell values in a
    * <code>{@link JTable}</code>.
@@ -16,6 +16,7 @@
 package org.fest.swing.driver;
 
 import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.driver.JTableColumnIndex.columnIndexOf;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.util.Strings.concat;
@@ -26,6 +27,7 @@ import org.fest.swing.annotation.*;
 import org.fest.swing.cell.JTableCellReader;
 import org.fest.swing.data.TableCell;
 import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.util.TextMatcher;
 
 /**
@@ -37,10 +39,15 @@ import org.fest.swing.util.TextMatcher;
 final class JTableMatchingCellQuery {
 
   @RunsInEDT
-  static TableCell cellWithValue(final JTable table, final TextMatcher matcher, final JTableCellReader cellReader) {
+  static TableCell cellWithValue(final JTable table, final TextMatcher matcher, final String value,
+      final JTableCellReader cellReader) {
     return execute(new GuiQuery<TableCell>() {
       @Override protected TableCell executeInEDT() {
-        return findMatchingCell(table, matcher, cellReader);
+        JTableColumnIndex index = columnIndexOf(table);
+        if (index == null) return findMatchingCell(table, matcher, cellReader);
+        TableCell cell = index.cellWithValue(matcher, value, cellReader);
+        if (cell != null) return cell;
+        throw cellNotFound(matcher);
       }
     });
   }
@@ -52,7 +59,12 @@ final class JTableMatchingCellQuery {
     for (int r = 0; r < rCount; r++)
       for (int c = 0; c < cCount; c++)
         if (cellHasValue(table, r, c, matcher, cellReader)) return row(r).column(c);
-    throw actionFailure(concat("Unable to find cell matching ", matcher.description(), " ", matcher.formattedValues()));
+    throw cellNotFound(matcher);
+  }
+
+  static ActionFailedException cellNotFound(TextMatcher matcher) {
+    return actionFailure(
+        concat("Unable to find cell matching ", matcher.description(), " ", matcher.formattedValues()));
   }
 
   @RunsInCurrentThread
@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.reflect.core.Reflection.constructor;
+import static org.fest.swing.driver.JTableCellValidator.*;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.exception.ActionFailedException.actionFailure;
+import static org.fest.util.Strings.*;
+
+import java.util.*;
+
+import javax.swing.JTable;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.swing.annotation.*;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiQuery;
+
+/**
+ * Understands an action, executed in the event dispatch thread, that sets the values of some cells in a
+ * <code>{@link JTable}</code> directly in its model, without using the cell editors. Values are converted to the
+ * class of their column the same way the default editor of a {@code JTable} does: by passing them to the constructor
+ * of such class that takes a {@code String}.
+ * @see JTable#setValueAt(Object, int, int)
+ */
+final class JTableSetValuesInModelQuery {
+
+  /**
+   * Sets the given values in the given cells. A failure to set the value of a cell does not prevent setting the
+   * values of the other cells.
+   * @param table the target {@code JTable}.
+   * @param cells the cells to set the values of, in the order the values should be set.
+   * @param values the values to set, by cell.
+   * @return the descriptions of the cells whose values could not be set, and why.
+   */
+  @RunsInEDT
+  static List<String> setValuesInModel(final JTable table, final List<TableCell> cells,
+      final Map<TableCell, String> values) {
+    return execute(new GuiQuery<List<String>>() {
+      @Override protected List<String> executeInEDT() {
+        List<String> failures = new ArrayList<String>();
+        for (TableCell cell : cells) {
+          try {
+            setValueInModel(table, cell, values.get(cell));
+          } catch (RuntimeException e) {
+            failures.add(concat(cell, ": ", e.getMessage()));
+          }
+        }
+        return failures;
+      }
+    });
+  }
+
+  @RunsInCurrentThread
+  private static void setValueInModel(JTable table, TableCell cell, String value) {
+    validateCellIndices(table, cell);
+    validateCellIsEditable(table, cell.row, cell.column);
+    table.setValueAt(convert(value, table.getColumnClass(cell.column)), cell.row, cell.column);
+  }
+
+  private static Object convert(String value, Class<?> type) {
+    if (value == null || type == Object.class || type == String.class) return value;
+    if (value.length() == 0) return null;
+    try {
+      return constructor().withParameterTypes(String.class).in(type).newInstance(value);
+    } catch (ReflectionError e) {
+      throw actionFailure(concat("Unable to convert ", quote(value), " to ", type.getName()), e);
+    }
+  }
+
+  private JTableSetValuesInModelQuery() {}
+}
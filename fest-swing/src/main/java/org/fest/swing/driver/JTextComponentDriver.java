@@ -39,6 +39,7 @@ import javax.swing.text.*;
 import org.fest.assertions.Description;
 import org.fest.swing.annotation.*;
 import org.fest.swing.core.Robot;
+import org.fest.swing.core.TextStreamer;
 import org.fest.swing.edt.*;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.util.Pair;
@@ -122,6 +123,25 @@ public class JTextComponentDriver extends JComponentDriver implements TextDispla
     robot.enterText(text);
   }
 
+  /**
+   * Types the given text into the <code>{@link JTextComponent}</code>, sending all the key strokes without waiting for
+   * the AWT event queue to be idle between them. This is considerably faster than
+   * <code>{@link #enterText(JTextComponent, String)}</code> for long text. If this driver's
+   * <code>{@link Robot}</code> is not a <code>{@link TextStreamer}</code>, the text is entered using
+   * <code>{@link Robot#enterText(String)}</code>.
+   * @param textBox the target <code>JTextComponent</code>.
+   * @param text the text to enter.
+   * @throws IllegalStateException if the <code>JTextComponent</code> is disabled.
+   * @throws IllegalStateException if the <code>JTextComponent</code> is not showing on the screen.
+   * @see TextStreamer#streamText(String)
+   */
+  @RunsInEDT
+  public void streamText(JTextComponent textBox, String text) {
+    focusAndWaitForFocusGain(textBox);
+    if (robot instanceof TextStreamer) ((TextStreamer)robot).streamText(text);
+    else robot.enterText(text);
+  }
+
   /**
    * Sets the given text into the <code>{@link JTextComponent}</code>. Unlike
    * <code>{@link #enterText(JTextComponent, String)}</code>, this method bypasses the event system and allows immediate
@@ -15,6 +15,7 @@
  */
 package org.fest.swing.driver;
 
+import static java.lang.System.currentTimeMillis;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.core.MouseButton.*;
 import static org.fest.swing.driver.CommonValidations.validateCellReader;
@@ -25,6 +26,7 @@ import static org.fest.swing.driver.JTreeEditableQuery.isEditable;
 import static org.fest.swing.driver.JTreeExpandPathTask.expandTreePath;
 import static org.fest.swing.driver.JTreeMatchingPathQuery.*;
 import static org.fest.swing.driver.JTreeNodeTextQuery.nodeText;
+import static org.fest.swing.driver.JTreePathIndex.discardIndexOf;
 import static org.fest.swing.driver.JTreeToggleExpandStateTask.toggleExpandState;
 import static org.fest.swing.driver.JTreeVerifySelectionTask.*;
 import static org.fest.swing.edt.GuiActionRunner.execute;
@@ -71,6 +73,8 @@ public class JTreeDriver extends JComponentDriver {
   private final JTreeLocation location;
   private final JTreePathFinder pathFinder;
 
+  private boolean bulkExpansion;
+
   /**
    * Creates a new </code>{@link JTreeDriver}</code>.
    * @param robot the robot to use to simulate user input.
@@ -392,6 +396,10 @@ public class JTreeDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void expandPath(JTree tree, String path) {
+    if (bulkExpansion) {
+      expandMatchingPathInOneStep(tree, path, true);
+      return;
+    }
     Triple<Boolean, Point, Integer> info = scrollToMatchingPathAndGetToggleInfo(tree, path, pathFinder, location);
     if (info.i) return; // already expanded
     toggleCell(tree, info.ii, info.iii);
@@ -703,12 +711,77 @@ public class JTreeDriver extends JComponentDriver {
    */
   @RunsInEDT
   private Triple<TreePath, Boolean, Point> scrollToMatchingPath(JTree tree, String path) {
-    TreePath matchingPath = verifyJTreeIsReadyAndFindMatchingPath(tree, path, pathFinder);
-    makeVisible(tree, matchingPath, false);
+    TreePath matchingPath = makeMatchingPathVisible(tree, path);
     Pair<Boolean, Point> info = scrollToPathToSelect(tree, matchingPath, location);
     return new Triple<TreePath, Boolean, Point>(matchingPath, info.i, info.ii);
   }
 
+  @RunsInEDT
+  private TreePath makeMatchingPathVisible(JTree tree, String path) {
+    if (bulkExpansion) return expandMatchingPathInOneStep(tree, path, false);
+    TreePath matchingPath = verifyJTreeIsReadyAndFindMatchingPath(tree, path, pathFinder);
+    makeVisible(tree, matchingPath, false);
+    return matchingPath;
+  }
+
+  /*
+   * Expands all the ancestors of the matching path (and the path itself, if indicated) in a single task in the event
+   * dispatch thread. If the children of a node are lazily loaded, waits for the expansion or model events fired when
+   * they show up and continues from there.
+   */
+  @RunsInEDT
+  private TreePath expandMatchingPathInOneStep(JTree tree, String path, boolean expandWhenFound) {
+    JTreeExpansionEventCounter counter = attachExpansionEventCounterTo(tree);
+    try {
+      long deadline = currentTimeMillis() + robot.settings().timeoutToBeVisible();
+      while (true) {
+        int eventCount = counter.count();
+        Pair<TreePath, Boolean> result = expandMatchingPath(tree, path, pathFinder, expandWhenFound);
+        if (result.ii) return result.i;
+        if (!counter.waitForEventAfter(eventCount, deadline - currentTimeMillis()))
+          throw new LocationUnavailableException(concat("Timed out waiting for ", result.i.toString(), " to show"));
+      }
+    } finally {
+      detach(counter);
+    }
+  }
+
+  /*
+   * returns:
+   * 1. the matching path, or the path of the deepest node found if its children have not been loaded yet
+   * 2. whether the matching path was found
+   */
+  @RunsInEDT
+  private static Pair<TreePath, Boolean> expandMatchingPath(final JTree tree, final String path,
+      final JTreePathFinder pathFinder, final boolean expandWhenFound) {
+    return execute(new GuiQuery<Pair<TreePath, Boolean>>() {
+      @Override protected Pair<TreePath, Boolean> executeInEDT() {
+        validateIsEnabledAndShowing(tree);
+        Pair<TreePath, Boolean> result = pathFinder.expandMatchingPath(tree, path);
+        if (result.ii && expandWhenFound && !tree.isExpanded(result.i)) tree.expandPath(result.i);
+        return result;
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static JTreeExpansionEventCounter attachExpansionEventCounterTo(final JTree tree) {
+    return execute(new GuiQuery<JTreeExpansionEventCounter>() {
+      @Override protected JTreeExpansionEventCounter executeInEDT() {
+        return JTreeExpansionEventCounter.attachTo(tree);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static void detach(final JTreeExpansionEventCounter counter) {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        counter.detach();
+      }
+    });
+  }
+
   /*
    * returns:
    * 1. whether the path is already selected
@@ -857,6 +930,60 @@ public class JTreeDriver extends JComponentDriver {
     pathFinder.separator(newSeparator);
   }
 
+  /**
+   * Indicates whether paths are expanded in bulk. When expanding in bulk, all the ancestors of a path are expanded in
+   * a single task in the event dispatch thread (instead of clicking each node's toggle control,) and lazily loaded
+   * children are waited for by listening to the {@code JTree} and its model (instead of polling.) The default value is
+   * {@code false}.
+   * @return {@code true} if paths are expanded in bulk, {@code false} otherwise.
+   */
+  public boolean bulkExpansion() {
+    return bulkExpansion;
+  }
+
+  /**
+   * Updates whether paths are expanded in bulk. This affects <code>{@link #expandPath(JTree, String)}</code> and all
+   * the methods that need to make a path visible before acting on it (e.g. <code>{@link #selectPath(JTree, String)}
+   * </code>.)
+   * @param newBulkExpansion indicates whether paths should be expanded in bulk.
+   * @see #bulkExpansion()
+   */
+  public void bulkExpansion(boolean newBulkExpansion) {
+    bulkExpansion = newBulkExpansion;
+  }
+
+  /**
+   * Indicates whether this driver indexes the children of the nodes in a <code>{@link JTree}</code>, by the text this
+   * driver's <code>{@link JTreeCellReader}</code> reads from them, when looking up paths. The children of a node are
+   * read once, the first time a path goes through that node, and the index is shared by all the drivers that use the
+   * same cell reader. The index is invalidated when the tree's model notifies changes, or when the tree's model or cell
+   * renderer change. The default value is {@code false}.
+   * <p>
+   * Nodes changed without notifying the tree's model (e.g. adding a child to a
+   * <code>{@link javax.swing.tree.DefaultMutableTreeNode}</code> without calling
+   * <code>{@link javax.swing.tree.DefaultTreeModel#nodesWereInserted(javax.swing.tree.TreeNode, int[])}</code>) are
+   * not seen until the index is discarded with <code>{@link #clearPathIndex(JTree)}</code>.
+   * </p>
+   * @param index indicates whether the children of the nodes should be indexed.
+   */
+  public void indexPaths(boolean index) {
+    pathFinder.indexPaths(index);
+  }
+
+  /**
+   * Discards the index of the children of the nodes in the given <code>{@link JTree}</code>, if any.
+   * @param tree the target {@code JTree}.
+   * @see #indexPaths(boolean)
+   */
+  @RunsInEDT
+  public void clearPathIndex(final JTree tree) {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        discardIndexOf(tree);
+      }
+    });
+  }
+
   /**
    * Updates the implementation of <code>{@link JTreeCellReader}</code> to use when comparing internal values of a
    * <code>{@link JTree}</code> and the values expected in a test.
@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static java.lang.System.currentTimeMillis;
+
+import javax.swing.JTree;
+import javax.swing.event.*;
+import javax.swing.tree.TreeModel;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+
+/**
+ * Attaches itself to a <code>{@link JTree}</code> and its model, and counts the expansion and model events fired while
+ * attached. Used to wait for lazily loaded children to show up, instead of polling the {@code JTree}.
+ */
+@ThreadSafe
+final class JTreeExpansionEventCounter implements TreeExpansionListener, TreeModelListener {
+
+  private final JTree tree;
+  private final TreeModel model;
+
+  @GuardedBy("this") private int count;
+
+  @RunsInCurrentThread
+  static JTreeExpansionEventCounter attachTo(JTree tree) {
+    JTreeExpansionEventCounter counter = new JTreeExpansionEventCounter(tree);
+    tree.addTreeExpansionListener(counter);
+    counter.model.addTreeModelListener(counter);
+    return counter;
+  }
+
+  private JTreeExpansionEventCounter(JTree tree) {
+    this.tree = tree;
+    model = tree.getModel();
+  }
+
+  /** {@inheritDoc} */
+  public void treeExpanded(TreeExpansionEvent event) { eventFired(); }
+
+  /** {@inheritDoc} */
+  public void treeCollapsed(TreeExpansionEvent event) { eventFired(); }
+
+  /** {@inheritDoc} */
+  public void treeNodesChanged(TreeModelEvent e) { eventFired(); }
+
+  /** {@inheritDoc} */
+  public void treeNodesInserted(TreeModelEvent e) { eventFired(); }
+
+  /** {@inheritDoc} */
+  public void treeNodesRemoved(TreeModelEvent e) { eventFired(); }
+
+  /** {@inheritDoc} */
+  public void treeStructureChanged(TreeModelEvent e) { eventFired(); }
+
+  private synchronized void eventFired() {
+    count++;
+    notifyAll();
+  }
+
+  synchronized int count() { return count; }
+
+  /**
+   * Waits until an event is counted after the given count was read.
+   * @param lastCount the count read before the state of the {@code JTree} was last checked.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if an event was counted, {@code false} if the timeout expired.
+   */
+  synchronized boolean waitForEventAfter(int lastCount, long timeout) {
+    long deadline = currentTimeMillis() + timeout;
+    while (count == lastCount) {
+      long remaining = deadline - currentTimeMillis();
+      if (remaining <= 0) return false;
+      try {
+        wait(remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @RunsInCurrentThread
+  void detach() {
+    tree.removeTreeExpansionListener(this);
+    model.removeTreeModelListener(this);
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.fest.swing.driver;
 
+import static org.fest.swing.driver.JTreePathIndex.MULTIPLE_MATCHES;
 import static org.fest.util.Strings.*;
 
 import java.util.*;
@@ -25,6 +26,7 @@ import javax.swing.tree.*;
 import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.cell.JTreeCellReader;
 import org.fest.swing.exception.LocationUnavailableException;
+import org.fest.swing.util.Pair;
 
 /**
  * Understands lookup of <code>{@link TreePath}</code>s which text matches the given one.
@@ -36,42 +38,106 @@ class JTreePathFinder {
   // TODO TEST
   private static final String SEPARATOR = "/";
 
+  // shared, so all the finders that use the default cell reader can share the index of a tree
+  private static final JTreeCellReader DEFAULT_CELL_READER = new BasicJTreeCellReader();
+
   private JTreeCellReader cellReader;
   private String separator;
+  private boolean indexPaths;
 
   JTreePathFinder() {
-    cellReader(new BasicJTreeCellReader());
+    cellReader(DEFAULT_CELL_READER);
     separator(SEPARATOR);
   }
 
   @RunsInCurrentThread
   TreePath findMatchingPath(JTree tree, String path) {
     String[] pathStrings = splitPath(path);
-    TreeModel model = tree.getModel();
-    List<Object> newPathValues = new ArrayList<Object>(pathStrings.length + 1);
-    Object node = model.getRoot();
+    JTreePathIndex index = indexFor(tree);
+    Object node = tree.getModel().getRoot();
+    TreePath matchingPath = new TreePath(node);
     int pathElementCount = pathStrings.length;
     for (int stringIndex = 0; stringIndex < pathElementCount; stringIndex++) {
       String pathString = pathStrings[stringIndex];
-      Object match = null;
       if (stringIndex == 0 && tree.isRootVisible()) {
         if (!pathString.equals(value(tree, node))) throw pathNotFound(path);
-        newPathValues.add(node);
         continue;
       }
-      int childCount = model.getChildCount(node);
-      for (int childIndex = 0; childIndex < childCount; childIndex++) {
-        Object child = model.getChild(node, childIndex);
-        if (pathString.equals(value(tree, child))) {
-          if (match != null) throw multipleMatchingNodes(pathString, value(tree, node));
-          match = child;
-        }
-      }
+      Object match = matchingChild(tree, index, matchingPath, pathString);
+      if (match == MULTIPLE_MATCHES) throw multipleMatchingNodes(pathString, value(tree, node));
       if (match == null) throw pathNotFound(path);
-      newPathValues.add(match);
+      matchingPath = matchingPath.pathByAddingChild(match);
       node = match;
     }
-    return new TreePath(newPathValues.toArray());
+    if (!tree.isRootVisible()) return withoutRoot(matchingPath);
+    return matchingPath;
+  }
+
+  /*
+   * Expands the ancestors of the matching path while looking it up, since children may be lazily loaded when their
+   * parent is expanded. The root is always included in the returned path.
+   * returns:
+   * 1. the matching path, or the path of the deepest node found if it is not a leaf and its children have not been
+   *    loaded yet
+   * 2. whether the matching path was found
+   */
+  @RunsInCurrentThread
+  Pair<TreePath, Boolean> expandMatchingPath(JTree tree, String path) {
+    String[] pathStrings = splitPath(path);
+    JTreePathIndex index = indexFor(tree);
+    Object node = tree.getModel().getRoot();
+    TreePath matchingPath = new TreePath(node);
+    int pathElementCount = pathStrings.length;
+    for (int stringIndex = 0; stringIndex < pathElementCount; stringIndex++) {
+      String pathString = pathStrings[stringIndex];
+      if (stringIndex == 0 && tree.isRootVisible()) {
+        if (!pathString.equals(value(tree, node))) throw pathNotFound(path);
+        continue;
+      }
+      if (!tree.isExpanded(matchingPath)) tree.expandPath(matchingPath);
+      Object match = matchingChild(tree, index, matchingPath, pathString);
+      if (match == MULTIPLE_MATCHES) throw multipleMatchingNodes(pathString, value(tree, node));
+      if (match == null) {
+        if (childrenMayBeLoading(tree.getModel(), node)) return new Pair<TreePath, Boolean>(matchingPath, false);
+        throw pathNotFound(path);
+      }
+      matchingPath = matchingPath.pathByAddingChild(match);
+      node = match;
+    }
+    return new Pair<TreePath, Boolean>(matchingPath, true);
+  }
+
+  // a leaf never gets children, so there is no point in waiting for them
+  private static boolean childrenMayBeLoading(TreeModel model, Object node) {
+    return !model.isLeaf(node) && model.getChildCount(node) == 0;
+  }
+
+  private JTreePathIndex indexFor(JTree tree) {
+    if (!indexPaths) return null;
+    return JTreePathIndex.indexOf(tree, cellReader);
+  }
+
+  // returns the matching child, null if no child matches, or MULTIPLE_MATCHES if more than one child matches
+  private Object matchingChild(JTree tree, JTreePathIndex index, TreePath parentPath, String text) {
+    if (index != null) return index.matchingChild(parentPath, text);
+    TreeModel model = tree.getModel();
+    Object parent = parentPath.getLastPathComponent();
+    Object match = null;
+    int childCount = model.getChildCount(parent);
+    for (int childIndex = 0; childIndex < childCount; childIndex++) {
+      Object child = model.getChild(parent, childIndex);
+      if (!text.equals(value(tree, child))) continue;
+      if (match != null) return MULTIPLE_MATCHES;
+      match = child;
+    }
+    return match;
+  }
+
+  private static TreePath withoutRoot(TreePath path) {
+    Object[] nodes = path.getPath();
+    Object[] nodesWithoutRoot = new Object[nodes.length - 1];
+    System.arraycopy(nodes, 1, nodesWithoutRoot, 0, nodesWithoutRoot.length);
+    return new TreePath(nodesWithoutRoot);
   }
 
   private LocationUnavailableException pathNotFound(String path) {
@@ -114,4 +180,12 @@ class JTreePathFinder {
   }
 
   JTreeCellReader cellReader() { return cellReader; }
+
+  boolean indexPaths() {
+    return indexPaths;
+  }
+
+  void indexPaths(boolean newIndexPaths) {
+    indexPaths = newIndexPaths;
+  }
 }
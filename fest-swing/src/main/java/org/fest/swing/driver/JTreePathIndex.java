@@ -0,0 +1,191 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static javax.swing.JTree.*;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.*;
+
+import javax.swing.JTree;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.*;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTreeCellReader;
+
+/**
+ * Understands an index of the children of the nodes in a <code>{@link JTree}</code>, keyed by the text a
+ * <code>{@link JTreeCellReader}</code> reads from them. The children of a node are read once, the first time a path
+ * goes through that node. The index is invalidated per subtree when the tree's model notifies its
+ * <code>{@link TreeModelListener}</code>s of a change, and completely when the tree's model or cell renderer changes.
+ * <p>
+ * There is at most one index per tree, shared by all the drivers that use the same cell reader. Instances of this
+ * class must be accessed in the event dispatch thread.
+ * </p>
+ */
+final class JTreePathIndex implements TreeModelListener, PropertyChangeListener {
+
+  /** Returned by <code>{@link #matchingChild(TreePath, String)}</code> if more than one child matches. */
+  static final Object MULTIPLE_MATCHES = new Object();
+
+  private static final String CLIENT_PROPERTY_KEY = JTreePathIndex.class.getName();
+
+  private final JTree tree;
+  private final JTreeCellReader cellReader;
+  private final Map<TreePath, Map<String, Object>> childrenByParent = new HashMap<TreePath, Map<String, Object>>();
+
+  private TreeModel model;
+
+  /**
+   * Returns the index of the given tree that uses the given cell reader, creating it if necessary. The index is stored
+   * as a client property of the tree, so it can be garbage-collected together with the tree. An index that uses a
+   * different cell reader is discarded, since it contains text read by that cell reader.
+   * @param tree the target tree.
+   * @param cellReader reads the text of the nodes in the tree.
+   * @return the index of the given tree.
+   */
+  @RunsInCurrentThread
+  static JTreePathIndex indexOf(JTree tree, JTreeCellReader cellReader) {
+    Object property = tree.getClientProperty(CLIENT_PROPERTY_KEY);
+    if (property instanceof JTreePathIndex) {
+      JTreePathIndex index = (JTreePathIndex)property;
+      if (index.cellReader == cellReader) return index;
+      index.dispose();
+    }
+    JTreePathIndex index = new JTreePathIndex(tree, cellReader);
+    tree.putClientProperty(CLIENT_PROPERTY_KEY, index);
+    return index;
+  }
+
+  /**
+   * Discards the index of the given tree, if any.
+   * @param tree the target tree.
+   */
+  @RunsInCurrentThread
+  static void discardIndexOf(JTree tree) {
+    Object property = tree.getClientProperty(CLIENT_PROPERTY_KEY);
+    if (!(property instanceof JTreePathIndex)) return;
+    ((JTreePathIndex)property).dispose();
+    tree.putClientProperty(CLIENT_PROPERTY_KEY, null);
+  }
+
+  @RunsInCurrentThread
+  private JTreePathIndex(JTree tree, JTreeCellReader cellReader) {
+    this.tree = tree;
+    this.cellReader = cellReader;
+    listenTo(tree.getModel());
+    tree.addPropertyChangeListener(TREE_MODEL_PROPERTY, this);
+    tree.addPropertyChangeListener(CELL_RENDERER_PROPERTY, this);
+  }
+
+  @RunsInCurrentThread
+  private void dispose() {
+    tree.removePropertyChangeListener(TREE_MODEL_PROPERTY, this);
+    tree.removePropertyChangeListener(CELL_RENDERER_PROPERTY, this);
+    listenTo(null);
+  }
+
+  private void listenTo(TreeModel newModel) {
+    if (model != null) model.removeTreeModelListener(this);
+    model = newModel;
+    if (model != null) model.addTreeModelListener(this);
+    childrenByParent.clear();
+  }
+
+  /**
+   * Returns the child of the last node in the given path whose text is equal to the given one.
+   * @param parentPath the path of the parent node.
+   * @param text the text to match.
+   * @return the matching child, {@code null} if no child matches, or <code>{@link #MULTIPLE_MATCHES}</code> if more
+   * than one child matches.
+   */
+  @RunsInCurrentThread
+  Object matchingChild(TreePath parentPath, String text) {
+    return childrenOf(parentPath).get(text);
+  }
+
+  private Map<String, Object> childrenOf(TreePath parentPath) {
+    Map<String, Object> children = childrenByParent.get(parentPath);
+    if (children != null) return children;
+    TreeModel treeModel = tree.getModel();
+    Object parent = parentPath.getLastPathComponent();
+    int childCount = treeModel.getChildCount(parent);
+    children = new HashMap<String, Object>(childCount * 4 / 3 + 1);
+    for (int i = 0; i < childCount; i++) {
+      Object child = treeModel.getChild(parent, i);
+      String text = cellReader.valueAt(tree, child);
+      children.put(text, children.containsKey(text) ? MULTIPLE_MATCHES : child);
+    }
+    childrenByParent.put(parentPath, children);
+    return children;
+  }
+
+  /** {@inheritDoc} */
+  @RunsInEDT
+  public void propertyChange(PropertyChangeEvent e) {
+    if (TREE_MODEL_PROPERTY.equals(e.getPropertyName())) {
+      listenTo((TreeModel)e.getNewValue());
+      return;
+    }
+    childrenByParent.clear();
+  }
+
+  /** {@inheritDoc} */
+  @RunsInEDT
+  public void treeNodesChanged(TreeModelEvent e) {
+    invalidateChildrenOf(e.getTreePath());
+  }
+
+  /** {@inheritDoc} */
+  @RunsInEDT
+  public void treeNodesInserted(TreeModelEvent e) {
+    invalidateChildrenOf(e.getTreePath());
+  }
+
+  /** {@inheritDoc} */
+  @RunsInEDT
+  public void treeNodesRemoved(TreeModelEvent e) {
+    invalidateSubtree(e.getTreePath());
+  }
+
+  /** {@inheritDoc} */
+  @RunsInEDT
+  public void treeStructureChanged(TreeModelEvent e) {
+    invalidateSubtree(e.getTreePath());
+  }
+
+  private void invalidateChildrenOf(TreePath parentPath) {
+    if (parentPath == null) {
+      childrenByParent.clear();
+      return;
+    }
+    childrenByParent.remove(parentPath);
+  }
+
+  private void invalidateSubtree(TreePath path) {
+    if (path == null) {
+      childrenByParent.clear();
+      return;
+    }
+    Iterator<TreePath> parentPaths = childrenByParent.keySet().iterator();
+    while (parentPaths.hasNext())
+      if (path.isDescendant(parentPaths.next())) parentPaths.remove();
+  }
+}
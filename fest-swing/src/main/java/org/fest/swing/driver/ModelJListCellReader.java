@@ -0,0 +1,149 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.swing.driver.ModelValueToString.asText;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.JList;
+import javax.swing.ListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.cell.JListCellReader;
+
+/**
+ * Understands a <code>{@link JListCellReader}</code> that reads the values stored in the model of a
+ * <code>{@link JList}</code>, converting them using a <code>{@link ModelValueConverter}</code>, instead of reading the
+ * component returned by the list's cell renderer. This is considerably faster on large lists, but it should only be
+ * used when the values shown by the cell renderer can be derived from the model values alone.
+ * <p>
+ * Converted values are cached per <code>{@link ListModel}</code>. The cache of a model is invalidated when the model
+ * notifies its <code>{@link ListDataListener}</code>s of a change: models that change without notifying their
+ * listeners should not be read using this reader.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>
+ * JListFixture list = window.list("symbols");
+ * list.cellReader(new ModelJListCellReader());
+ * list.selectItem("XYZ");
+ * </pre>
+ * </p>
+ */
+public class ModelJListCellReader implements JListCellReader {
+
+  private static final ModelValueConverter TO_STRING = new ModelValueConverter() {
+    public String textFrom(Object modelValue) {
+      return asText(modelValue);
+    }
+  };
+
+  private final ModelValueConverter converter;
+  private final Map<ListModel, ValueCache> caches = new WeakHashMap<ListModel, ValueCache>();
+
+  /**
+   * Creates a new <code>{@link ModelJListCellReader}</code> that converts model values using their
+   * <code>toString</code> implementation. Values that do not override <code>toString</code> are read as {@code null}.
+   */
+  public ModelJListCellReader() {
+    this(TO_STRING);
+  }
+
+  /**
+   * Creates a new <code>{@link ModelJListCellReader}</code>.
+   * @param converter converts the values in the model of a <code>JList</code> into {@code String}s.
+   * @throws NullPointerException if <code>converter</code> is {@code null}.
+   */
+  public ModelJListCellReader(ModelValueConverter converter) {
+    if (converter == null) throw new NullPointerException("ModelValueConverter should not be null");
+    this.converter = converter;
+  }
+
+  /**
+   * Returns the value stored in the model of the given <code>{@link JList}</code> at the given index, converted into
+   * a {@code String}.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> guaranteed to be executed in the event dispatch thread (EDT.) Clients are
+   * responsible for calling this method from the EDT.
+   * </p>
+   * @param list the given <code>JList</code>.
+   * @param index the index of the cell.
+   * @return the converted value of the cell.
+   */
+  @RunsInCurrentThread
+  public String valueAt(JList list, int index) {
+    ListModel model = list.getModel();
+    return cacheFor(model).valueAt(model, index);
+  }
+
+  @RunsInCurrentThread
+  private ValueCache cacheFor(ListModel model) {
+    synchronized (caches) {
+      ValueCache cache = caches.get(model);
+      if (cache != null) return cache;
+      cache = new ValueCache(converter);
+      model.addListDataListener(cache);
+      caches.put(model, cache);
+      return cache;
+    }
+  }
+
+  private static class ValueCache implements ListDataListener {
+    private final ModelValueConverter converter;
+
+    private String[] values = new String[0];
+    private boolean[] cached = new boolean[0];
+
+    ValueCache(ModelValueConverter converter) {
+      this.converter = converter;
+    }
+
+    synchronized String valueAt(ListModel model, int index) {
+      int size = model.getSize();
+      if (values.length != size) clear(size);
+      if (index < 0 || index >= size) return converter.textFrom(model.getElementAt(index));
+      if (!cached[index]) {
+        values[index] = converter.textFrom(model.getElementAt(index));
+        cached[index] = true;
+      }
+      return values[index];
+    }
+
+    public synchronized void contentsChanged(ListDataEvent e) {
+      int first = Math.max(0, Math.min(e.getIndex0(), e.getIndex1()));
+      int last = Math.min(cached.length - 1, Math.max(e.getIndex0(), e.getIndex1()));
+      if (e.getIndex0() < 0 || e.getIndex1() < 0) last = cached.length - 1;
+      for (int i = first; i <= last; i++) cached[i] = false;
+    }
+
+    public synchronized void intervalAdded(ListDataEvent e) {
+      clear(0);
+    }
+
+    public synchronized void intervalRemoved(ListDataEvent e) {
+      clear(0);
+    }
+
+    private void clear(int size) {
+      values = new String[size];
+      cached = new boolean[size];
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+
+/**
+ * Converts a value stored in the model of a GUI component (e.g. an element of a <code>{@link javax.swing.ListModel}
+ * </code>) into the {@code String} expected in a test, without using any cell renderer.
+ * <p>
+ * <b>Note:</b> methods in this interface are <b>not</b> guaranteed to be executed in the event dispatch thread (EDT.)
+ * Clients are responsible for invoking them in the EDT.
+ * </p>
+ */
+@RunsInCurrentThread
+public interface ModelValueConverter {
+
+  /**
+   * Converts the given model value into a {@code String}.
+   * <p>
+   * <b>Note:</b> Implementations of this method <b>may not</b> be guaranteed to be executed in the event dispatch
+   * thread (EDT.) Clients are responsible for invoking this method in the EDT.
+   * </p>
+   * @param modelValue the value to convert, which may be {@code null}.
+   * @return the {@code String} representation of the given value, or {@code null} if it cannot be converted.
+   */
+  String textFrom(Object modelValue);
+}
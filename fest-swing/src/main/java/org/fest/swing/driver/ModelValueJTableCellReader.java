@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.swing.driver.ModelValueToString.asText;
+
+import javax.swing.JTable;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.cell.JTableCellReader;
+
+/**
+ * Implementation of <code>{@link JTableCellReader}</code> that reads the value of a cell directly from the
+ * {@code JTable}'s model, without preparing the cell renderer. This reader is considerably faster than
+ * <code>{@link BasicJTableCellReader}</code> when reading large tables, and it should be used when the values displayed
+ * by the cell renderers match the <code>toString</code> representation of the values in the model.
+ * <p>
+ * Fonts and colors are still read from the cell renderer.
+ * </p>
+ */
+public class ModelValueJTableCellReader extends BasicJTableCellReader {
+
+  /**
+   * Returns the <code>toString</code> representation of the value stored in the {@code JTable}'s model at the
+   * specified indices.
+   * <p>
+   * <b>Note:</b> This method is <b>not</b> guaranteed to be executed in the event dispatch thread (EDT.) Clients are
+   * responsible for calling this method from the EDT.
+   * </p>
+   * @param table the given {@code JTable}.
+   * @param row the row index of the cell.
+   * @param column the column index of the cell.
+   * @return the {@code String} representation of the value stored in the {@code JTable}'s model.
+   */
+  @Override
+  @RunsInCurrentThread
+  public String valueAt(JTable table, int row, int column) {
+    return asText(table.getValueAt(row, column));
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.fest.swing.driver;
 
+import static java.awt.AWTEvent.*;
 import static org.fest.swing.format.Formatting.format;
 import static org.fest.swing.query.ComponentShowingQuery.isShowing;
 import static org.fest.util.Strings.concat;
@@ -57,6 +58,15 @@ public class WaitForComponentToShowCondition extends Condition {
     return isShowing(c);
   }
 
+  /**
+   * Returns the types of AWT events that are dispatched when a <code>{@link Component}</code> or any of its ancestors
+   * is shown.
+   * @return the types of AWT events that may change the result of this condition.
+   */
+  @Override protected long awtEventMask() {
+    return COMPONENT_EVENT_MASK | HIERARCHY_EVENT_MASK | WINDOW_EVENT_MASK;
+  }
+
   /** ${@inheritDoc} */
   @Override protected void done() {
     c = null;
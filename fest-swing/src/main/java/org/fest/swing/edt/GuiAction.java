@@ -14,19 +14,43 @@
  */
 package org.fest.swing.edt;
 
+import static org.fest.swing.exception.UnexpectedException.unexpected;
+
 import java.util.concurrent.CountDownLatch;
 
+import org.fest.swing.exception.UnexpectedException;
+
 /**
  * Understands the base class for actions that are executed in the event dispatch thread.
  *
  * @author Alex Ruiz
  */
-abstract class GuiAction implements Runnable {
+public abstract class GuiAction implements Runnable {
 
   private boolean executedInEDT;
   private Throwable catchedException;
   private CountDownLatch executionNotification;
 
+  GuiAction() {}
+
+  /**
+   * Executes this action in the current thread, catching any exception thrown. Since the action is not executed in the
+   * event dispatch thread, any exception thrown is wrapped with a <code>{@link UnexpectedException}</code>.
+   */
+  final void runInCurrentThread() {
+    try {
+      doExecute();
+    } catch (Throwable t) {
+      catchedException(unexpected(t));
+    }
+  }
+
+  /**
+   * Executes the action specified by subclasses.
+   * @throws Throwable any error thrown when executing the action.
+   */
+  abstract void doExecute() throws Throwable;
+
   final Throwable catchedException() { return catchedException; }
 
   final void catchedException(Throwable catched) {
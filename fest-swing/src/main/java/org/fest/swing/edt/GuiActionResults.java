@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.edt;
+
+import static org.fest.swing.edt.GuiActionRunner.rethrow;
+
+import java.util.*;
+
+import org.fest.swing.exception.UnexpectedException;
+
+/**
+ * Understands the results of executing a batch of <code>{@link GuiQuery}</code>s and <code>{@link GuiTask}</code>s
+ * with <code>{@link GuiActionRunner#executeAll(GuiAction...)}</code>: the values returned by the queries and the
+ * exceptions thrown by the queries and tasks, if any.
+ */
+public final class GuiActionResults {
+
+  private final List<GuiAction> actions;
+  private final Map<GuiAction, Object> results = new IdentityHashMap<GuiAction, Object>();
+  private final Map<GuiAction, Throwable> exceptions = new IdentityHashMap<GuiAction, Throwable>();
+
+  GuiActionResults(List<GuiAction> actions) {
+    this.actions = actions;
+    for (GuiAction action : actions) collectOutcomeOf(action);
+  }
+
+  private void collectOutcomeOf(GuiAction action) {
+    if (action instanceof GuiQuery<?>) {
+      GuiQuery<?> query = (GuiQuery<?>)action;
+      results.put(query, query.result());
+      query.clearResult();
+    }
+    Throwable catchedException = action.catchedException();
+    action.clearCatchedException();
+    if (catchedException != null) exceptions.put(action, catchedException);
+  }
+
+  /**
+   * Returns the value returned by the given query. If the query threw an exception, this method re-throws it the same
+   * way <code>{@link GuiActionRunner#execute(GuiQuery)}</code> does.
+   * @param <T> the generic type of the return value.
+   * @param query the query whose result we want.
+   * @return the value returned by the given query.
+   * @throws IllegalArgumentException if the given query was not part of the executed batch.
+   * @throws UnexpectedException wrapping any <b>checked</b> exception thrown by the given query. Unchecked exceptions
+   * are re-thrown without any wrapping.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T resultOf(GuiQuery<T> query) {
+    validateIsPartOfBatch(query);
+    Throwable exception = exceptions.get(query);
+    if (exception != null) rethrow(exception, "resultOf");
+    return (T)results.get(query);
+  }
+
+  /**
+   * Returns the exception thrown by the given action, if any.
+   * @param action the action whose exception we want.
+   * @return the exception thrown by the given action, or {@code null} if the action did not throw any exception.
+   * @throws IllegalArgumentException if the given action was not part of the executed batch.
+   */
+  public Throwable exceptionOf(GuiAction action) {
+    validateIsPartOfBatch(action);
+    return exceptions.get(action);
+  }
+
+  private void validateIsPartOfBatch(GuiAction action) {
+    if (actions.contains(action)) return;
+    throw new IllegalArgumentException("The given action was not part of the executed batch");
+  }
+
+  /**
+   * Indicates whether any of the executed actions threw an exception.
+   * @return {@code true} if any of the executed actions threw an exception, {@code false} otherwise.
+   */
+  public boolean hasExceptions() {
+    return !exceptions.isEmpty();
+  }
+
+  /**
+   * Re-throws the exception thrown by the first action (in execution order) that failed, if any. The exception is
+   * re-thrown the same way <code>{@link GuiActionRunner#execute(GuiTask)}</code> does.
+   * @throws UnexpectedException wrapping any <b>checked</b> exception thrown by the first failed action. Unchecked
+   * exceptions are re-thrown without any wrapping.
+   */
+  public void rethrowFirstException() {
+    for (GuiAction action : actions) {
+      Throwable exception = exceptions.get(action);
+      if (exception != null) rethrow(exception, "rethrowFirstException");
+    }
+  }
+}
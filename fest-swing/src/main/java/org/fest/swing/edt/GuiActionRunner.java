@@ -15,15 +15,19 @@
  */
 package org.fest.swing.edt;
 
+import static java.util.Arrays.asList;
 import static javax.swing.SwingUtilities.*;
 import static org.fest.swing.exception.UnexpectedException.unexpected;
+import static org.fest.swing.timing.TimedActionType.EDT_HOP;
 import static org.fest.util.Throwables.appendCurrentThreadStackTraceToThrowable;
 
+import java.util.*;
 import java.util.concurrent.CountDownLatch;
 
 import net.jcip.annotations.*;
 
 import org.fest.swing.exception.UnexpectedException;
+import org.fest.swing.timing.Timings;
 
 /**
  * Understands running instances of <code>{@link GuiQuery}</code> and <code>{@link GuiTask}</code>.
@@ -66,19 +70,11 @@ public class GuiActionRunner {
    * @see #executeInEDT()
    */
   public static <T> T execute(GuiQuery<T> query) {
-    if (!executeInEDT) return executeInCurrentThread(query);
-    run(query);
+    if (!executeInEDT) query.runInCurrentThread();
+    else run(query);
     return resultOf(query);
   }
 
-  private static <T> T executeInCurrentThread(GuiQuery<T> query) {
-    try {
-      return query.executeInEDT();
-    } catch (Throwable e) {
-      throw unexpected(e);
-    }
-  }
-
   /**
    * Executes the given task in the event dispatch thread. This method waits until the task has finished its execution.
    * @param task the task to execute.
@@ -87,20 +83,53 @@ public class GuiActionRunner {
    * @see #executeInEDT()
    */
   public static void execute(GuiTask task) {
-    if (!executeInEDT) {
-      executeInCurrentThread(task);
-      return;
-    }
-    run(task);
+    if (!executeInEDT) task.runInCurrentThread();
+    else run(task);
     rethrowCatchedExceptionIn(task);
   }
 
-  private static void executeInCurrentThread(GuiTask task) {
-    try {
-      task.executeInEDT();
-    } catch (Throwable e) {
-      throw unexpected(e);
+  /**
+   * Executes the given actions, in the given order, in the event dispatch thread. All the actions are executed in a
+   * single trip to the event dispatch thread, which is cheaper than executing them one by one. An exception thrown by
+   * one of the actions does not prevent the rest of them from being executed. This method waits until all the actions
+   * have finished their execution.
+   * @param actions the actions to execute.
+   * @return the results of the executed queries and the exceptions thrown by the executed actions, if any.
+   * @throws NullPointerException if the given array of actions is {@code null}.
+   * @throws NullPointerException if the given array of actions has one or more {@code null} values.
+   * @see #executeInEDT()
+   */
+  public static GuiActionResults executeAll(GuiAction... actions) {
+    if (actions == null) throw new NullPointerException("The array of actions to execute should not be null");
+    return executeAll(asList(actions));
+  }
+
+  /**
+   * Executes the given actions, in the given order, in the event dispatch thread. All the actions are executed in a
+   * single trip to the event dispatch thread, which is cheaper than executing them one by one. An exception thrown by
+   * one of the actions does not prevent the rest of them from being executed. This method waits until all the actions
+   * have finished their execution.
+   * @param actions the actions to execute.
+   * @return the results of the executed queries and the exceptions thrown by the executed actions, if any.
+   * @throws NullPointerException if the given list of actions is {@code null}.
+   * @throws NullPointerException if the given list of actions has one or more {@code null} values.
+   * @see #executeInEDT()
+   */
+  public static GuiActionResults executeAll(List<? extends GuiAction> actions) {
+    if (actions == null) throw new NullPointerException("The list of actions to execute should not be null");
+    final List<GuiAction> batch = new ArrayList<GuiAction>(actions);
+    if (batch.contains(null))
+      throw new NullPointerException("The list of actions to execute should not contain null values");
+    if (!executeInEDT) {
+      for (GuiAction action : batch) action.runInCurrentThread();
+      return new GuiActionResults(batch);
     }
+    run(new GuiTask() {
+      @Override protected void executeInEDT() {
+        for (GuiAction action : batch) action.run();
+      }
+    });
+    return new GuiActionResults(batch);
   }
 
   private static void run(final GuiAction action) {
@@ -110,11 +139,14 @@ public class GuiActionRunner {
     }
     final CountDownLatch latch = new CountDownLatch(1);
     action.executionNotification(latch);
+    long start = Timings.start();
     invokeLater(action);
     try {
       latch.await();
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
+    } finally {
+      Timings.stop(EDT_HOP, action.getClass().getName(), start);
     }
   }
 
@@ -135,8 +167,12 @@ public class GuiActionRunner {
     Throwable catchedException = action.catchedException();
     action.clearCatchedException();
     if (catchedException == null) return;
+    rethrow(catchedException, "execute");
+  }
+
+  static void rethrow(Throwable catchedException, String methodToStartFrom) {
     if (catchedException instanceof RuntimeException) {
-      appendCurrentThreadStackTraceToThrowable(catchedException, "execute");
+      appendCurrentThreadStackTraceToThrowable(catchedException, methodToStartFrom);
       throw (RuntimeException)catchedException;
     }
     if (catchedException instanceof Error) {
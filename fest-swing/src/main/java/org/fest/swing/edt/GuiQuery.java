@@ -53,6 +53,10 @@ public abstract class GuiQuery<T> extends GuiAction {
    */
   protected abstract T executeInEDT() throws Throwable;
 
+  @Override final void doExecute() throws Throwable {
+    result = executeInEDT();
+  }
+
   final T result() { return result; }
 
   final void clearResult() {
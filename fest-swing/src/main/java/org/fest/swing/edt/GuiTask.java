@@ -47,4 +47,8 @@ public abstract class GuiTask extends GuiAction {
    * @throws Throwable any error thrown when executing an action in the event dispatch thread.
    */
   protected abstract void executeInEDT() throws Throwable;
+
+  @Override final void doExecute() throws Throwable {
+    executeInEDT();
+  }
 }
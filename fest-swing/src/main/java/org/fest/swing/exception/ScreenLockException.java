@@ -31,4 +31,13 @@ public final class ScreenLockException extends RuntimeException {
   public ScreenLockException(String message) {
     super(message);
   }
+
+  /**
+   * Creates a new <code>{@link ScreenLockException}</code>.
+   * @param message the detail message.
+   * @param cause the cause of the error.
+   */
+  public ScreenLockException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
@@ -19,6 +19,7 @@ import static org.fest.swing.driver.ComponentDriver.propertyName;
 import static org.fest.util.Strings.concat;
 
 import java.awt.*;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.JTable;
@@ -525,6 +526,63 @@ public class JTableFixture extends ComponentFixture<JTable> implements CommonCom
     return this;
   }
 
+  /**
+   * Enters the given block of values in this fixture's <code>{@link JTable}</code>, starting at the given cell. The
+   * value at <code>values[i][j]</code> is entered in the cell at row <code>origin.row + i</code> and column
+   * <code>origin.column + j</code>.
+   * @param origin the cell where the top-left value of the block is entered.
+   * @param values the values to enter.
+   * @return this fixture.
+   * @throws NullPointerException if the cell is {@code null}.
+   * @throws NullPointerException if the array of values, or any of its rows, is {@code null}.
+   * @throws IllegalStateException if this fixture's {@code JTable} is disabled, unless values are set directly in the
+   * model.
+   * @throws IllegalStateException if this fixture's {@code JTable} is not showing on the screen, unless values are set
+   * directly in the model.
+   * @throws ActionFailedException if any of the values cannot be entered. The message of the exception lists all the
+   * cells that failed.
+   * @see #enterValues(Map)
+   */
+  public JTableFixture enterValues(TableCell origin, String[][] values) {
+    driver.enterValues(target, origin, values);
+    return this;
+  }
+
+  /**
+   * Enters the given values in their cells of this fixture's <code>{@link JTable}</code>, row by row, using this
+   * fixture's <code>{@link JTableCellWriter}</code> (or directly in the table model, see
+   * <code>{@link #enterValuesThroughModel(boolean)}</code>.) All the cells that failed are reported together once all
+   * the values have been entered. Only setting the values in the model synchronizes with the GUI once for all the
+   * values: a <code>{@link JTableCellWriter}</code> still waits for the GUI to be idle while editing each cell.
+   * @param values the values to enter, by cell.
+   * @return this fixture.
+   * @throws NullPointerException if the map of values is {@code null}.
+   * @throws IllegalStateException if this fixture's {@code JTable} is disabled, unless values are set directly in the
+   * model.
+   * @throws IllegalStateException if this fixture's {@code JTable} is not showing on the screen, unless values are set
+   * directly in the model.
+   * @throws ActionFailedException if any of the values cannot be entered. The message of the exception lists all the
+   * cells that failed.
+   * @see #cellWriter(JTableCellWriter)
+   */
+  public JTableFixture enterValues(Map<TableCell, String> values) {
+    driver.enterValues(target, values);
+    return this;
+  }
+
+  /**
+   * Updates whether <code>{@link #enterValues(Map)}</code> and <code>{@link #enterValues(TableCell, String[][])}</code>
+   * set the values directly in the table model, instead of using this fixture's <code>{@link JTableCellWriter}</code>.
+   * This is useful to populate this fixture's <code>{@link JTable}</code> when editing cells through the GUI is not
+   * what a test verifies. The default value is {@code false}.
+   * @param throughModel indicates whether values should be set directly in the table model.
+   * @return this fixture.
+   */
+  public JTableFixture enterValuesThroughModel(boolean throughModel) {
+    driver.enterValuesThroughModel(throughModel);
+    return this;
+  }
+
   /**
    * Updates the implementation of <code>{@link JTableCellReader}</code> to use when comparing internal values of this
    * fixture's <code>{@link JTable}</code> and the values expected in a test. The default implementation to use is
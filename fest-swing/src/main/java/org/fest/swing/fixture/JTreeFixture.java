@@ -831,6 +831,31 @@ public class JTreeFixture extends ComponentFixture<JTree> implements CommonCompo
     return this;
   }
 
+  /**
+   * Updates whether paths are expanded in bulk: all the ancestors of a path are expanded in a single task in the event
+   * dispatch thread, and lazily loaded children are waited for by listening to this fixture's {@code JTree} (instead of
+   * polling.) The default value is {@code false}.
+   * @param bulkExpansion indicates whether paths should be expanded in bulk.
+   * @return this fixture.
+   */
+  public JTreeFixture bulkExpansion(boolean bulkExpansion) {
+    driver.bulkExpansion(bulkExpansion);
+    return this;
+  }
+
+  /**
+   * Updates whether the children of the nodes in this fixture's <code>{@link JTree}</code> are indexed by their text
+   * when looking up paths. The index is updated when the tree's model notifies changes. The default value is
+   * {@code false}.
+   * @param index indicates whether the children of the nodes should be indexed.
+   * @return this fixture.
+   * @see JTreeDriver#indexPaths(boolean)
+   */
+  public JTreeFixture indexPaths(boolean index) {
+    driver.indexPaths(index);
+    return this;
+  }
+
   /**
    * Updates the implementation of <code>{@link JTreeCellReader}</code> to use when comparing internal values of a
    * <code>{@link JTree}</code> and the values expected in a test. The default implementation to use
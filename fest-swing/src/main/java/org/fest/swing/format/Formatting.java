@@ -54,9 +54,20 @@ public class Formatting {
 
   private static final ConcurrentMap<Class<?>, ComponentFormatter> FORMATTERS = new ConcurrentHashMap<Class<?>, ComponentFormatter>();
 
+  // formatters found for concrete component types (including the ones inherited from a supertype,) replaced with an
+  // empty map every time a formatter is registered.
+  private static volatile ConcurrentMap<Class<?>, ComponentFormatter> resolvedFormatters = newResolvedFormatters();
+
+  // placeholder for types without formatter, since a ConcurrentHashMap cannot store null values.
+  private static final ComponentFormatter NO_FORMATTER = new IntrospectionComponentFormatter(Component.class);
+
   private static Logger logger = Logger.getLogger(Formatting.class.getName());
 
   static {
+    registerDefaultFormatters();
+  }
+
+  private static void registerDefaultFormatters() {
     register(instrospect(AbstractButton.class, NAME, TEXT, "selected", ENABLED, VISIBLE, SHOWING));
     register(instrospect(Dialog.class, NAME, TITLE, ENABLED, "modal", VISIBLE, SHOWING));
     register(instrospect(Frame.class, NAME, TITLE, ENABLED, VISIBLE, SHOWING));
@@ -103,11 +114,26 @@ public class Formatting {
   public static void register(ComponentFormatter formatter) {
     Class<?> key = formatter.targetType();
     ComponentFormatter previous = FORMATTERS.put(key, formatter);
+    resolvedFormatters = newResolvedFormatters();
     if (previous != null)
       logger.info(
           concat("Replaced formatter ", previous, " with ", formatter, " for the type ", key.getName()));
   }
 
+  /**
+   * Removes all the formatters registered using <code>{@link #register(ComponentFormatter)}</code>, restoring the
+   * default ones.
+   */
+  public static void restoreDefaultFormatters() {
+    FORMATTERS.clear();
+    registerDefaultFormatters();
+    resolvedFormatters = newResolvedFormatters();
+  }
+
+  private static ConcurrentMap<Class<?>, ComponentFormatter> newResolvedFormatters() {
+    return new ConcurrentHashMap<Class<?>, ComponentFormatter>();
+  }
+
   @VisibleForTesting
   static ComponentFormatter formatter(Class<?> type) {
     return FORMATTERS.get(type);
@@ -148,10 +174,21 @@ public class Formatting {
   }
 
   private static ComponentFormatter formatterFor(Class<?> type) {
+    // if a formatter is registered while resolving, the result is stored in a map that is no longer used.
+    ConcurrentMap<Class<?>, ComponentFormatter> resolved = resolvedFormatters;
+    ComponentFormatter formatter = resolved.get(type);
+    if (formatter == null) {
+      formatter = resolveFormatterFor(type);
+      resolved.put(type, formatter == null ? NO_FORMATTER : formatter);
+    }
+    return formatter == NO_FORMATTER ? null : formatter;
+  }
+
+  private static ComponentFormatter resolveFormatterFor(Class<?> type) {
     ComponentFormatter formatter = FORMATTERS.get(type);
     if (formatter != null) return formatter;
     Class<?> superType = type.getSuperclass();
-    if (superType != null) return formatterFor(superType);
+    if (superType != null) return resolveFormatterFor(superType);
     return null;
   }
 
@@ -21,7 +21,8 @@ import static org.fest.util.Strings.*;
 
 import java.awt.Component;
 import java.beans.*;
-import java.util.*;
+import java.lang.reflect.Method;
+import java.util.List;
 
 import org.fest.util.Arrays;
 
@@ -37,7 +38,9 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
   private final Class<? extends Component> targetType;
   private final List<String> propertyNames;
 
-  private final Map<String, PropertyDescriptor> descriptors = new HashMap<String, PropertyDescriptor>();
+  // the read methods of the properties to show, in the same order as the property names: they are looked up once,
+  // when this formatter is created, instead of every time a component is formatted.
+  private final Method[] readMethods;
 
   /**
    * Creates a new </code>{@link IntrospectionComponentFormatter}</code>.
@@ -50,6 +53,7 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
     if (targetType == null) throw new NullPointerException("targetType should not be null");
     this.targetType = targetType;
     this.propertyNames = list(propertyNames);
+    readMethods = new Method[this.propertyNames.size()];
     populate();
   }
 
@@ -65,8 +69,8 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
 
   private void register(PropertyDescriptor d) {
     String name = d.getName();
-    if (!propertyNames.contains(name)) return;
-    descriptors.put(name, d);
+    for (int i = 0; i < readMethods.length; i++)
+      if (name.equals(propertyNames.get(i))) readMethods[i] = d.getReadMethod();
   }
 
   /**
@@ -85,26 +89,26 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
     b.append(c.getClass().getName()).append("[");
     int max = propertyNames.size() - 1;
     for (int i = 0; i <= max; i++) {
-      appendProperty(b, propertyNames.get(i), c);
+      appendProperty(b, i, c);
       if (i < max) b.append(", ");
     }
     b.append("]");
     return b.toString();
   }
 
-  private void appendProperty(StringBuilder b, String name, Component c) {
+  private void appendProperty(StringBuilder b, int index, Component c) {
+    String name = propertyNames.get(index);
     b.append(name).append("=");
     try {
-      b.append(propertyValue(c, name));
+      b.append(propertyValue(c, name, readMethods[index]));
     } catch (Exception e) {
       b.append(concat("<Unable to read property [", e.getClass().getName(), ": ", quote(e.getMessage()), "]>"));
     }
   }
 
-  private Object propertyValue(Component c, String property) throws Exception {
+  private Object propertyValue(Component c, String property, Method readMethod) throws Exception {
     if ("showing".equals(property)) return c.isShowing();
-    PropertyDescriptor descriptor = descriptors.get(property);
-    Object value = descriptor.getReadMethod().invoke(c);
+    Object value = readMethod.invoke(c);
     if (isOneDimensionalArray(value)) return Arrays.format(value);
     return quote(value);
   }
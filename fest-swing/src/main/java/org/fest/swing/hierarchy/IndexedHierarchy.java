@@ -0,0 +1,278 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.hierarchy;
+
+import static java.awt.AWTEvent.*;
+import static java.awt.event.ContainerEvent.COMPONENT_ADDED;
+import static java.awt.event.WindowEvent.WINDOW_OPENED;
+
+import java.awt.*;
+import java.awt.event.*;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.List;
+
+import net.jcip.annotations.GuardedBy;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+
+/**
+ * Understands a <code>{@link ComponentHierarchy}</code> that keeps an index of its components by name and by type, so
+ * components can be looked up without traversing the whole hierarchy.
+ * <p>
+ * The index is built the first time it is queried, and it is kept up-to-date by listening to the
+ * <code>{@link ContainerEvent}</code>s and <code>{@link WindowEvent}</code>s posted to the
+ * <code>{@link Toolkit}</code>. Components are weakly referenced, so indexed windows can still be garbage-collected
+ * once disposed.
+ * </p>
+ * <p>
+ * The index is conservative: it may contain components that are no longer in the hierarchy, and it does not contain
+ * windows that were created, but not opened, after the index was built. Clients should verify the components
+ * returned by <code>{@link #componentsNamed(String)}</code> and <code>{@link #componentsOfType(Class)}</code>, and
+ * traverse the hierarchy if none of them is the component they are looking for.
+ * </p>
+ * <p>
+ * <b>Note:</b> methods in this class are <b>not</b> guaranteed to be executed in the event dispatch thread (EDT.)
+ * Clients are responsible for invoking them in the EDT.
+ * </p>
+ */
+public class IndexedHierarchy implements ComponentHierarchy {
+
+  private static final long EVENT_MASK = CONTAINER_EVENT_MASK | WINDOW_EVENT_MASK;
+  private static final String NAME_PROPERTY = "name";
+
+  private final ComponentHierarchy hierarchy;
+  private final IndexUpdater updater;
+  private final NameUpdater nameUpdater;
+
+  @GuardedBy("this") private final Map<String, Map<Component, Boolean>> byName =
+    new HashMap<String, Map<Component, Boolean>>();
+  @GuardedBy("this") private final Map<Class<?>, Map<Component, Boolean>> byType =
+    new WeakHashMap<Class<?>, Map<Component, Boolean>>();
+  @GuardedBy("this") private boolean indexed;
+
+  /**
+   * Creates a new </code>{@link IndexedHierarchy}</code>.
+   * @param hierarchy the hierarchy to index.
+   */
+  public IndexedHierarchy(ComponentHierarchy hierarchy) {
+    this(hierarchy, Toolkit.getDefaultToolkit());
+  }
+
+  IndexedHierarchy(ComponentHierarchy hierarchy, Toolkit toolkit) {
+    this.hierarchy = hierarchy;
+    updater = new IndexUpdater(this, toolkit);
+    nameUpdater = new NameUpdater(this);
+  }
+
+  /**
+   * Returns the components in this hierarchy whose name was equal to the given one when they were indexed. The returned
+   * collection may contain components that are no longer in this hierarchy.
+   * @param name the name of the components to look for.
+   * @return the components with the given name, or {@code null} if the index cannot be kept up-to-date (e.g. a
+   * <code>{@link SecurityManager}</code> does not allow listening to AWT events.)
+   */
+  @RunsInCurrentThread
+  public synchronized Collection<Component> componentsNamed(String name) {
+    if (!ensureIndexed()) return null;
+    return copyOf(byName.get(name));
+  }
+
+  /**
+   * Returns the components in this hierarchy that are instances of the given type. The returned collection may contain
+   * components that are no longer in this hierarchy.
+   * @param type the type of the components to look for.
+   * @return the components of the given type, or {@code null} if the index cannot be kept up-to-date (e.g. a
+   * <code>{@link SecurityManager}</code> does not allow listening to AWT events.)
+   */
+  @RunsInCurrentThread
+  public synchronized Collection<Component> componentsOfType(Class<?> type) {
+    if (!ensureIndexed()) return null;
+    List<Component> components = new ArrayList<Component>();
+    for (Map.Entry<Class<?>, Map<Component, Boolean>> entry : byType.entrySet())
+      if (type.isAssignableFrom(entry.getKey())) components.addAll(entry.getValue().keySet());
+    return components;
+  }
+
+  private static Collection<Component> copyOf(Map<Component, Boolean> components) {
+    if (components == null) return new ArrayList<Component>();
+    return new ArrayList<Component>(components.keySet());
+  }
+
+  // The roots are traversed only once: from then on, the index is kept up-to-date by listening to AWT events.
+  private boolean ensureIndexed() {
+    if (indexed) return true;
+    if (!updater.start()) return false;
+    indexed = true;
+    for (Container root : new ArrayList<Container>(hierarchy.roots())) indexTree(root);
+    return true;
+  }
+
+  /**
+   * Stops keeping the index up-to-date and discards it. The index is built again the next time it is queried.
+   */
+  public synchronized void stopIndexing() {
+    updater.stop();
+    for (Map<Component, Boolean> components : byType.values())
+      for (Component c : components.keySet()) c.removePropertyChangeListener(NAME_PROPERTY, nameUpdater);
+    indexed = false;
+    byName.clear();
+    byType.clear();
+  }
+
+  synchronized void componentAdded(Component c) {
+    if (indexed) indexTree(c);
+  }
+
+  private void indexTree(Component root) {
+    LinkedList<Component> pending = new LinkedList<Component>();
+    pending.add(root);
+    while (!pending.isEmpty()) {
+      Component c = pending.removeFirst();
+      if (!index(c)) continue;
+      pending.addAll(hierarchy.childrenOf(c));
+    }
+  }
+
+  private boolean index(Component c) {
+    Map<Component, Boolean> sameType = byType.get(c.getClass());
+    if (sameType == null) {
+      sameType = new WeakHashMap<Component, Boolean>();
+      byType.put(c.getClass(), sameType);
+    }
+    if (sameType.put(c, Boolean.TRUE) != null) return false; // already indexed, with its children
+    c.addPropertyChangeListener(NAME_PROPERTY, nameUpdater);
+    addToNameIndex(c, c.getName());
+    return true;
+  }
+
+  synchronized void nameChanged(Component c, String oldName, String newName) {
+    if (!indexed) return;
+    removeFromNameIndex(c, oldName);
+    addToNameIndex(c, newName);
+  }
+
+  private void addToNameIndex(Component c, String name) {
+    if (name == null) return;
+    Map<Component, Boolean> sameName = byName.get(name);
+    if (sameName == null) {
+      sameName = new WeakHashMap<Component, Boolean>();
+      byName.put(name, sameName);
+    }
+    sameName.put(c, Boolean.TRUE);
+  }
+
+  private void removeFromNameIndex(Component c, String name) {
+    if (name == null) return;
+    Map<Component, Boolean> sameName = byName.get(name);
+    if (sameName == null) return;
+    sameName.remove(c);
+    if (sameName.isEmpty()) byName.remove(name);
+  }
+
+  /** {@inheritDoc} */
+  public Collection<? extends Container> roots() {
+    return hierarchy.roots();
+  }
+
+  /** {@inheritDoc} */
+  public Collection<Component> childrenOf(Component c) {
+    return hierarchy.childrenOf(c);
+  }
+
+  /** {@inheritDoc} */
+  public Container parentOf(Component c) {
+    return hierarchy.parentOf(c);
+  }
+
+  /** {@inheritDoc} */
+  public boolean contains(Component c) {
+    return hierarchy.contains(c);
+  }
+
+  /** {@inheritDoc} */
+  public void dispose(Window w) {
+    hierarchy.dispose(w);
+  }
+
+  /**
+   * Returns the hierarchy indexed by this hierarchy.
+   * @return the hierarchy indexed by this hierarchy.
+   */
+  public ComponentHierarchy indexedHierarchy() {
+    return hierarchy;
+  }
+
+  /**
+   * Listens to AWT events on behalf of an <code>{@link IndexedHierarchy}</code>. The hierarchy is weakly referenced, so
+   * it can be garbage-collected even if this listener is still registered in the toolkit.
+   */
+  private static class IndexUpdater implements AWTEventListener {
+    private final WeakReference<IndexedHierarchy> hierarchy;
+    private final Toolkit toolkit;
+
+    IndexUpdater(IndexedHierarchy hierarchy, Toolkit toolkit) {
+      this.hierarchy = new WeakReference<IndexedHierarchy>(hierarchy);
+      this.toolkit = toolkit;
+    }
+
+    boolean start() {
+      try {
+        toolkit.addAWTEventListener(this, EVENT_MASK);
+        return true;
+      } catch (SecurityException e) {
+        return false;
+      }
+    }
+
+    void stop() {
+      try {
+        toolkit.removeAWTEventListener(this);
+      } catch (SecurityException ignored) {}
+    }
+
+    public void eventDispatched(AWTEvent event) {
+      IndexedHierarchy target = hierarchy.get();
+      if (target == null) {
+        stop();
+        return;
+      }
+      int id = event.getID();
+      if (id == COMPONENT_ADDED) target.componentAdded(((ContainerEvent)event).getChild());
+      else if (id == WINDOW_OPENED) target.componentAdded(((WindowEvent)event).getWindow());
+    }
+  }
+
+  /**
+   * Keeps the index by name up-to-date when components are renamed. The hierarchy is weakly referenced, since this
+   * listener is referenced by every indexed component.
+   */
+  private static class NameUpdater implements PropertyChangeListener {
+    private final WeakReference<IndexedHierarchy> hierarchy;
+
+    NameUpdater(IndexedHierarchy hierarchy) {
+      this.hierarchy = new WeakReference<IndexedHierarchy>(hierarchy);
+    }
+
+    public void propertyChange(PropertyChangeEvent e) {
+      IndexedHierarchy target = hierarchy.get();
+      if (target == null) return;
+      target.nameChanged((Component)e.getSource(), (String)e.getOldValue(), (String)e.getNewValue());
+    }
+  }
+}
@@ -48,6 +48,12 @@ public final class SingleComponentHierarchy implements ComponentHierarchy {
    */
   public Container root() { return root; }
 
+  /**
+   * Returns the base hierarchy this hierarchy is a subset of.
+   * @return the base hierarchy this hierarchy is a subset of.
+   */
+  public ComponentHierarchy baseHierarchy() { return hierarchy; }
+
   /**
    * Returns the parent component for the given <code>{@link Component}</code>.
    * @param c the given {@code Component}.
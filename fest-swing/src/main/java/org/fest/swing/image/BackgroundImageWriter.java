@@ -0,0 +1,151 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.lang.Math.*;
+import static java.util.concurrent.TimeUnit.*;
+import static java.util.logging.Level.SEVERE;
+import static org.fest.util.Strings.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Understands encoding and writing images to the file system in background threads, so the thread that took the
+ * screenshot does not have to wait for the (usually expensive) image compression.
+ * <p>
+ * The number of images waiting to be written is bounded: when the queue is full, the calling thread writes the image
+ * itself, which prevents running out of memory when many screenshots are taken in a short period of time. Failures are
+ * logged and not propagated.
+ * </p>
+ * <p>
+ * Pending images are written before the JVM exits. Test frameworks should call <code>{@link #flush(long)}</code> at the
+ * end of a test suite, so the images are available when the test report is generated.
+ * </p>
+ */
+@ThreadSafe
+final class BackgroundImageWriter {
+
+  private static final int QUEUE_CAPACITY = 8;
+  private static final long SHUTDOWN_TIMEOUT = 30000;
+
+  private static Logger logger = Logger.getAnonymousLogger();
+
+  private static final BackgroundImageWriter INSTANCE = new BackgroundImageWriter();
+
+  static BackgroundImageWriter instance() { return INSTANCE; }
+
+  private final ThreadPoolExecutor executor;
+
+  @GuardedBy("this") private final Set<Future<?>> pending = new HashSet<Future<?>>();
+
+  private BackgroundImageWriter() {
+    int threadCount = max(1, min(2, Runtime.getRuntime().availableProcessors() - 1));
+    executor = new ThreadPoolExecutor(threadCount, threadCount, 0, MILLISECONDS,
+        new ArrayBlockingQueue<Runnable>(QUEUE_CAPACITY), new WriterThreadFactory());
+    Runtime.getRuntime().addShutdownHook(new Thread("FEST image writer shutdown") {
+      @Override public void run() {
+        flush(SHUTDOWN_TIMEOUT);
+      }
+    });
+  }
+
+  /**
+   * Writes the given image in a background thread. If too many images are already waiting to be written, the image is
+   * written in the current thread.
+   * @param task writes the image to the file system.
+   * @param filePath the path of the file to write (used for logging failures.)
+   */
+  void write(final ImageWriteTask task, final String filePath) {
+    FutureTask<Void> future = new FutureTask<Void>(new Callable<Void>() {
+      public Void call() throws Exception {
+        try {
+          task.write();
+        } catch (Exception e) {
+          logger.log(SEVERE, concat("Unable to save image as ", quote(filePath)), e);
+        }
+        return null;
+      }
+    }) {
+      @Override protected void done() {
+        removePending(this);
+      }
+    };
+    addPending(future);
+    try {
+      executor.execute(future);
+    } catch (RejectedExecutionException e) {
+      future.run();
+    }
+  }
+
+  private synchronized void addPending(Future<?> future) {
+    pending.add(future);
+  }
+
+  private synchronized void removePending(Future<?> future) {
+    pending.remove(future);
+    notifyAll();
+  }
+
+  /**
+   * Waits until all the images waiting to be written are written to the file system.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if all pending images were written; {@code false} if the timeout expired or if the current
+   * thread was interrupted.
+   */
+  synchronized boolean flush(long timeout) {
+    long deadline = System.currentTimeMillis() + timeout;
+    while (!pending.isEmpty()) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) return false;
+      try {
+        wait(remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  synchronized int pendingCount() {
+    return pending.size();
+  }
+
+  /**
+   * Understands writing an image to the file system.
+   */
+  interface ImageWriteTask {
+    void write() throws Exception;
+  }
+
+  private static class WriterThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r, concat("FEST image writer-", String.valueOf(threadCount.incrementAndGet())));
+      t.setDaemon(true);
+      t.setPriority(Thread.NORM_PRIORITY - 1);
+      return t;
+    }
+  }
+}
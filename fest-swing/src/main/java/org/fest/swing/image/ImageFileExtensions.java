@@ -25,5 +25,8 @@ public final class ImageFileExtensions {
   /** PNG file extension */
   public static final String PNG = "png";
 
+  /** Extension of the files written in <code>{@link RunLengthImageFormat}</code> */
+  public static final String RLE = "rle";
+
   private ImageFileExtensions() {}
 }
@@ -16,19 +16,36 @@ package org.fest.swing.image;
 
 import static org.fest.swing.image.ImageFileExtensions.PNG;
 import static org.fest.util.Files.newFile;
+import static org.fest.util.Strings.*;
 
 import java.awt.image.BufferedImage;
-import java.io.IOException;
+import java.io.*;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.imageio.ImageIO;
 
 /**
  * Understands how to write an image as a file in the file system.
+ * <p>
+ * Besides PNG, this writer supports the formats registered through <code>{@link #register(ImageFormat)}</code> (by
+ * default, <code>{@link RunLengthImageFormat}</code>) and any format supported by <code>{@link ImageIO}</code>.
+ * </p>
  *
  * @author Alex Ruiz
  */
 public class ImageFileWriter {
 
+  private final ConcurrentMap<String, ImageFormat> formats = new ConcurrentHashMap<String, ImageFormat>();
+
+  /**
+   * Creates a new </code>{@link ImageFileWriter}</code>.
+   */
+  public ImageFileWriter() {
+    register(new RunLengthImageFormat());
+  }
+
   /**
    * Writes an image as a PNG file to the file system.
    * If there is already a <code>File</code> present, its contents are discarded.
@@ -40,4 +57,100 @@ public class ImageFileWriter {
   public boolean writeAsPng(BufferedImage image, String filePath) throws IOException {
     return ImageIO.write(image, PNG, newFile(filePath));
   }
+
+  /**
+   * Writes an image as a PNG file to the file system, using the given deflate compression level. Lower compression
+   * levels are considerably faster to encode, at the cost of bigger files.
+   * If there is already a <code>File</code> present, its contents are discarded.
+   * @param image a <code>BufferedImage</code> to be written.
+   * @param filePath the path of the image file to create.
+   * @param compressionLevel the compression level, from 0 (no compression) to 9 (best compression.)
+   * @exception IOException if an error occurs during writing.
+   * @throws IllegalArgumentException if the given compression level is not between 0 and 9.
+   */
+  public void writeAsPng(BufferedImage image, String filePath, int compressionLevel) throws IOException {
+    PngEncoder encoder = new PngEncoder(compressionLevel);
+    OutputStream out = new BufferedOutputStream(new FileOutputStream(newFile(filePath)), 1 << 16);
+    try {
+      encoder.encode(image, out);
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Writes an image in PNG format to the given stream, using the given deflate compression level. The stream is not
+   * closed.
+   * @param image a <code>BufferedImage</code> to be written.
+   * @param out the stream to write the image to.
+   * @param compressionLevel the compression level, from 0 (no compression) to 9 (best compression.)
+   * @exception IOException if an error occurs during writing.
+   * @throws IllegalArgumentException if the given compression level is not between 0 and 9.
+   */
+  public void writeAsPng(BufferedImage image, OutputStream out, int compressionLevel) throws IOException {
+    new PngEncoder(compressionLevel).encode(image, out);
+  }
+
+  /**
+   * Writes an image to the file system, using the given format.
+   * If there is already a <code>File</code> present, its contents are discarded.
+   * @param image a <code>BufferedImage</code> to be written.
+   * @param filePath the path of the image file to create.
+   * @param format the format to encode the image with.
+   * @exception IOException if an error occurs during writing.
+   */
+  public void write(BufferedImage image, String filePath, ImageFormat format) throws IOException {
+    OutputStream out = new BufferedOutputStream(new FileOutputStream(newFile(filePath)), 1 << 16);
+    try {
+      format.write(image, out);
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Registers the given image format. Files whose extension is the same as the one of the given format will be written
+   * using such format. PNG files are always written using <code>{@link #writeAsPng(BufferedImage, String)}</code> or
+   * <code>{@link #writeAsPng(BufferedImage, String, int)}</code>.
+   * @param format the format to register.
+   * @throws NullPointerException if the given format is {@code null}.
+   * @throws IllegalArgumentException if the extension of the given format is {@code null}, empty or "png".
+   */
+  public void register(ImageFormat format) {
+    if (format == null) throw new NullPointerException("The image format to register should not be null");
+    String extension = format.extension();
+    if (isEmpty(extension))
+      throw new IllegalArgumentException("The extension of the image format should not be empty");
+    String key = lowerCase(extension);
+    if (PNG.equals(key)) throw new IllegalArgumentException("PNG files are always written by this writer");
+    formats.put(key, format);
+  }
+
+  /**
+   * Returns the format to use to write the file with the given path, based on the file's extension. Registered formats
+   * take precedence over the formats supported by <code>{@link ImageIO}</code>.
+   * @param filePath the path of the image file to write.
+   * @return the format to use, or {@code null} if the extension of the file is not supported.
+   */
+  public ImageFormat formatFor(String filePath) {
+    String extension = extensionOf(filePath);
+    if (extension == null) return null;
+    ImageFormat format = formats.get(extension);
+    if (format != null) return format;
+    if (PNG.equals(extension)) return new PngImageFormat();
+    if (ImageIOImageFormat.isSupported(extension)) return new ImageIOImageFormat(extension);
+    return null;
+  }
+
+  private static String extensionOf(String filePath) {
+    if (isEmpty(filePath)) return null;
+    int dot = filePath.lastIndexOf('.');
+    if (dot < 0 || dot == filePath.length() - 1) return null;
+    if (filePath.indexOf('/', dot) >= 0 || filePath.indexOf(File.separatorChar, dot) >= 0) return null;
+    return lowerCase(filePath.substring(dot + 1));
+  }
+
+  private static String lowerCase(String s) {
+    return s.toLowerCase(Locale.ENGLISH);
+  }
 }
@@ -0,0 +1,42 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Understands how to encode an image in a particular file format. Implementations can be registered in a
+ * <code>{@link ImageFileWriter}</code> to save screenshots in formats other than PNG.
+ */
+public interface ImageFormat {
+
+  /**
+   * Returns the extension of the files written in this format (e.g. "png"), without the leading dot.
+   * @return the extension of the files written in this format.
+   */
+  String extension();
+
+  /**
+   * Encodes the given image in this format and writes it to the given stream. Implementations should not close the
+   * stream.
+   * @param image the image to encode.
+   * @param out the stream to write the encoded image to.
+   * @throws IOException if an error occurs during writing.
+   */
+  void write(BufferedImage image, OutputStream out) throws IOException;
+}
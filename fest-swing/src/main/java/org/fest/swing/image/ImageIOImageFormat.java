@@ -0,0 +1,110 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static javax.imageio.ImageWriteParam.MODE_EXPLICIT;
+import static org.fest.util.Strings.*;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.util.Iterator;
+
+import javax.imageio.*;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Understands an image format supported by one of the <code>{@link ImageWriter}</code>s registered in
+ * <code>{@link ImageIO}</code> (e.g. "bmp", "jpg" or "gif".) If the writer supports compression, the compression
+ * quality can be tuned through <code>{@link ImageWriteParam}</code>.
+ */
+public class ImageIOImageFormat implements ImageFormat {
+
+  private final String extension;
+  private final Float compressionQuality;
+
+  /**
+   * Creates a new </code>{@link ImageIOImageFormat}</code> that uses the default compression settings of the
+   * <code>{@link ImageWriter}</code>.
+   * @param extension the extension of the image files to write (e.g. "bmp".)
+   * @throws ImageException if {@code ImageIO} does not have a writer for the given extension.
+   */
+  public ImageIOImageFormat(String extension) {
+    this(extension, null);
+  }
+
+  /**
+   * Creates a new </code>{@link ImageIOImageFormat}</code>.
+   * @param extension the extension of the image files to write (e.g. "bmp".)
+   * @param compressionQuality the compression quality, from 0 (maximum compression) to 1 (maximum quality.) It is
+   * ignored if the {@code ImageWriter} does not support compression.
+   * @throws ImageException if {@code ImageIO} does not have a writer for the given extension.
+   * @throws IllegalArgumentException if the given compression quality is not between 0 and 1.
+   */
+  public ImageIOImageFormat(String extension, float compressionQuality) {
+    this(extension, Float.valueOf(compressionQuality));
+    if (compressionQuality < 0f || compressionQuality > 1f)
+      throw new IllegalArgumentException("The compression quality should be between 0 and 1");
+  }
+
+  private ImageIOImageFormat(String extension, Float compressionQuality) {
+    if (!isSupported(extension))
+      throw new ImageException(concat("Unable to find an ImageWriter for extension ", quote(extension)));
+    this.extension = extension;
+    this.compressionQuality = compressionQuality;
+  }
+
+  /**
+   * Indicates whether <code>{@link ImageIO}</code> has a writer for the given file extension.
+   * @param extension the file extension.
+   * @return {@code true} if {@code ImageIO} can write images with the given extension; {@code false} otherwise.
+   */
+  public static boolean isSupported(String extension) {
+    if (isEmpty(extension)) return false;
+    return ImageIO.getImageWritersBySuffix(extension).hasNext();
+  }
+
+  /** {@inheritDoc} */
+  public String extension() {
+    return extension;
+  }
+
+  /** {@inheritDoc} */
+  public void write(BufferedImage image, OutputStream out) throws IOException {
+    Iterator<ImageWriter> writers = ImageIO.getImageWritersBySuffix(extension);
+    if (!writers.hasNext())
+      throw new IOException(concat("Unable to find an ImageWriter for extension ", quote(extension)));
+    ImageWriter writer = writers.next();
+    ImageOutputStream imageOut = ImageIO.createImageOutputStream(out);
+    try {
+      writer.setOutput(imageOut);
+      writer.write(null, new IIOImage(image, null, null), writeParam(writer));
+      imageOut.flush();
+    } finally {
+      writer.dispose();
+      imageOut.close();
+    }
+  }
+
+  private ImageWriteParam writeParam(ImageWriter writer) {
+    ImageWriteParam param = writer.getDefaultWriteParam();
+    if (compressionQuality == null || !param.canWriteCompressed()) return param;
+    param.setCompressionMode(MODE_EXPLICIT);
+    String[] types = param.getCompressionTypes();
+    if (types != null && types.length > 0 && param.getCompressionType() == null) param.setCompressionType(types[0]);
+    param.setCompressionQuality(compressionQuality.floatValue());
+    return param;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Understands encoding an image as a PNG (24-bit RGB, no alpha) with a configurable deflate compression level.
+ * <code>{@link javax.imageio.ImageIO}</code>'s PNG writer always uses the highest compression level, which is
+ * expensive for large images such as screenshots of the desktop.
+ */
+final class PngEncoder {
+
+  private static final byte[] SIGNATURE = { (byte)137, 80, 78, 71, 13, 10, 26, 10 };
+
+  private static final int BIT_DEPTH = 8;
+  private static final int COLOR_TYPE_RGB = 2;
+  private static final int FILTER_SUB = 1;
+  private static final int BYTES_PER_PIXEL = 3;
+
+  private final int compressionLevel;
+
+  /**
+   * Creates a new </code>{@link PngEncoder}</code>.
+   * @param compressionLevel the deflate compression level, from 0 (no compression) to 9 (best compression.)
+   * @throws IllegalArgumentException if the given compression level is not between 0 and 9.
+   */
+  PngEncoder(int compressionLevel) {
+    if (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)
+      throw new IllegalArgumentException("The compression level should be between 0 and 9");
+    this.compressionLevel = compressionLevel;
+  }
+
+  void encode(BufferedImage image, OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.write(SIGNATURE);
+    writeHeader(image, data);
+    writeData(image, data);
+    writeChunk(data, "IEND", new byte[0], 0);
+    data.flush();
+  }
+
+  private void writeHeader(BufferedImage image, DataOutputStream out) throws IOException {
+    ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+    DataOutputStream data = new DataOutputStream(header);
+    data.writeInt(image.getWidth());
+    data.writeInt(image.getHeight());
+    data.writeByte(BIT_DEPTH);
+    data.writeByte(COLOR_TYPE_RGB);
+    data.writeByte(0); // compression method: deflate
+    data.writeByte(0); // filter method: adaptive
+    data.writeByte(0); // interlace method: none
+    writeChunk(out, "IHDR", header.toByteArray(), header.size());
+  }
+
+  private void writeData(BufferedImage image, DataOutputStream out) throws IOException {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(compressionLevel);
+    DeflaterOutputStream deflaterStream = new DeflaterOutputStream(compressed, deflater, 1 << 16);
+    try {
+      int[] pixels = new int[width];
+      byte[] scanline = new byte[1 + width * BYTES_PER_PIXEL];
+      scanline[0] = FILTER_SUB;
+      for (int y = 0; y < height; y++) {
+        image.getRGB(0, y, width, 1, pixels, 0, width);
+        filterSub(pixels, scanline);
+        deflaterStream.write(scanline);
+      }
+      deflaterStream.finish();
+    } finally {
+      deflater.end();
+    }
+    writeChunk(out, "IDAT", compressed.toByteArray(), compressed.size());
+  }
+
+  // "Sub" filter: each byte is stored as the difference with the same byte of the pixel to its left. This is cheap and
+  // makes the large flat areas typical of screenshots compress much better.
+  private static void filterSub(int[] pixels, byte[] scanline) {
+    int previous = 0;
+    int i = 1;
+    for (int pixel : pixels) {
+      scanline[i++] = (byte)(((pixel >> 16) & 0xff) - ((previous >> 16) & 0xff));
+      scanline[i++] = (byte)(((pixel >> 8) & 0xff) - ((previous >> 8) & 0xff));
+      scanline[i++] = (byte)((pixel & 0xff) - (previous & 0xff));
+      previous = pixel;
+    }
+  }
+
+  private static void writeChunk(DataOutputStream out, String type, byte[] data, int length) throws IOException {
+    byte[] typeBytes = type.getBytes("US-ASCII");
+    CRC32 crc = new CRC32();
+    crc.update(typeBytes);
+    crc.update(data, 0, length);
+    out.writeInt(length);
+    out.write(typeBytes);
+    out.write(data, 0, length);
+    out.writeInt((int)crc.getValue());
+  }
+}
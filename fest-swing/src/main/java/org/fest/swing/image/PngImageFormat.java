@@ -0,0 +1,63 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static org.fest.swing.image.ImageFileExtensions.PNG;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Understands the PNG image format, with a configurable deflate compression level. Lower compression levels are
+ * considerably faster to encode, at the cost of bigger files.
+ */
+public class PngImageFormat implements ImageFormat {
+
+  private final PngEncoder encoder;
+
+  /**
+   * Creates a new </code>{@link PngImageFormat}</code> that uses the default settings of
+   * <code>{@link ImageIO}</code>.
+   */
+  public PngImageFormat() {
+    encoder = null;
+  }
+
+  /**
+   * Creates a new </code>{@link PngImageFormat}</code>.
+   * @param compressionLevel the deflate compression level, from 0 (no compression) to 9 (best compression.)
+   * @throws IllegalArgumentException if the given compression level is not between 0 and 9.
+   */
+  public PngImageFormat(int compressionLevel) {
+    encoder = new PngEncoder(compressionLevel);
+  }
+
+  /** {@inheritDoc} */
+  public String extension() {
+    return PNG;
+  }
+
+  /** {@inheritDoc} */
+  public void write(BufferedImage image, OutputStream out) throws IOException {
+    if (encoder == null) {
+      ImageIO.write(image, PNG, out);
+      return;
+    }
+    encoder.encode(image, out);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static org.fest.swing.image.ImageFileExtensions.RLE;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * Understands a simple, uncompressed, run-length encoded image format. Encoding is much faster than PNG, and the
+ * resulting files are still small for typical screenshots (large areas of the same color.) This format is meant for
+ * images that are processed by tools (e.g. compared to a reference image) instead of being viewed by people.
+ * <p>
+ * The format is:
+ * <ol>
+ * <li>the magic number "FRLE" (4 bytes)</li>
+ * <li>the version of the format (1 byte, currently 1)</li>
+ * <li>the width and height of the image (two 32-bit big-endian integers)</li>
+ * <li>the pixels in row-major order, as a sequence of runs. Each run is a byte containing the length of the run minus
+ * one (runs are from 1 to 256 pixels long, and do not span rows) followed by the ARGB value of the pixels in the run
+ * (a 32-bit big-endian integer)</li>
+ * </ol>
+ * </p>
+ */
+public class RunLengthImageFormat implements ImageFormat {
+
+  private static final byte[] MAGIC = { 'F', 'R', 'L', 'E' };
+  private static final int VERSION = 1;
+  private static final int MAX_RUN_LENGTH = 256;
+
+  /** {@inheritDoc} */
+  public String extension() {
+    return RLE;
+  }
+
+  /** {@inheritDoc} */
+  public void write(BufferedImage image, OutputStream out) throws IOException {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+    data.write(MAGIC);
+    data.writeByte(VERSION);
+    data.writeInt(width);
+    data.writeInt(height);
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      writeRuns(row, data);
+    }
+    data.flush();
+  }
+
+  private static void writeRuns(int[] row, DataOutputStream out) throws IOException {
+    int x = 0;
+    while (x < row.length) {
+      int pixel = row[x];
+      int end = x + 1;
+      int maxEnd = Math.min(row.length, x + MAX_RUN_LENGTH);
+      while (end < maxEnd && row[end] == pixel) end++;
+      out.writeByte(end - x - 1);
+      out.writeInt(pixel);
+      x = end;
+    }
+  }
+
+  /**
+   * Reads an image in this format from the given stream. The stream is not closed.
+   * @param in the stream to read the image from.
+   * @return the read image, of type <code>{@link BufferedImage#TYPE_INT_ARGB}</code>.
+   * @throws IOException if the stream does not contain an image in this format, or if an I/O error occurs.
+   */
+  public static BufferedImage read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+    byte[] magic = new byte[MAGIC.length];
+    data.readFully(magic);
+    if (!Arrays.equals(magic, MAGIC) || data.readUnsignedByte() != VERSION)
+      throw new IOException("The stream does not contain a run-length encoded image");
+    int width = data.readInt();
+    int height = data.readInt();
+    BufferedImage image = new BufferedImage(width, height, TYPE_INT_ARGB);
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      int x = 0;
+      while (x < width) {
+        int length = data.readUnsignedByte() + 1;
+        if (x + length > width) throw new IOException("Run exceeds the width of the image");
+        Arrays.fill(row, x, x + length, data.readInt());
+        x += length;
+      }
+      image.setRGB(0, y, width, 1, row, 0, width);
+    }
+    return image;
+  }
+}
@@ -47,8 +47,33 @@ public class ScreenshotTaker {
    */
   @Deprecated public static final String PNG_EXTENSION = "png";
 
+  /**
+   * Indicates that PNG files should be written using the default settings of
+   * <code>{@link javax.imageio.ImageIO}</code>.
+   */
+  public static final int DEFAULT_COMPRESSION = -1;
+
+  /**
+   * Name of the system property that indicates whether FEST's test framework integrations (e.g. the TestNG
+   * <code>ScreenshotOnFailureListener</code>) should take screenshots of the active window only, instead of the whole
+   * desktop.
+   */
+  public static final String ACTIVE_WINDOW_ONLY_PROPERTY = "fest.swing.screenshot.activeWindowOnly";
+
+  /**
+   * Name of the system property that specifies the PNG compression level (0 to 9) used by FEST's test framework
+   * integrations when saving screenshots of failed tests.
+   */
+  public static final String COMPRESSION_LEVEL_PROPERTY = "fest.swing.screenshot.compressionLevel";
+
+  private static final int MAX_COMPRESSION = 9;
+
   private final Robot robot;
   private final ImageFileWriter writer;
+  private final BackgroundImageWriter backgroundWriter;
+
+  private volatile int compressionLevel = DEFAULT_COMPRESSION;
+  private volatile boolean writeInBackground;
 
   /**
    * Creates a new <code>{@link ScreenshotTaker}</code>.
@@ -60,7 +85,13 @@ public class ScreenshotTaker {
 
   @VisibleForTesting
   ScreenshotTaker(ImageFileWriter writer, RobotFactory robotFactory) {
+    this(writer, robotFactory, BackgroundImageWriter.instance());
+  }
+
+  @VisibleForTesting
+  ScreenshotTaker(ImageFileWriter writer, RobotFactory robotFactory, BackgroundImageWriter backgroundWriter) {
     this.writer = writer;
+    this.backgroundWriter = backgroundWriter;
     try {
       robot = robotFactory.newRobotInPrimaryScreen();
     } catch (AWTException e) {
@@ -103,6 +134,44 @@ public class ScreenshotTaker {
     saveImage(takeScreenshotOf(c), imageFilePath);
   }
 
+  /**
+   * Takes a screenshot of the active window and saves it as a PNG file. If there is no active window, this method takes
+   * a screenshot of the desktop.
+   * @param imageFilePath the path of the file to save the screenshot to.
+   * @throws ImageException if the given file path is {@code null} or empty.
+   * @throws ImageException if the given file path does not end with ".png".
+   * @throws ImageException if the given file path belongs to a non-empty directory.
+   * @throws ImageException if an I/O error prevents the image from being saved as a file.
+   */
+  public void saveActiveWindowAsPng(String imageFilePath) {
+    saveImage(takeActiveWindowScreenshot(), imageFilePath);
+  }
+
+  /**
+   * Takes a screenshot of the active window (usually the window of the failing test.) Capturing only the bounds of a
+   * window is considerably faster than capturing the whole desktop, and results in much smaller images. If there is no
+   * active window, this method takes a screenshot of the desktop.
+   * @return the screenshot of the active window, or the desktop if there is no active window.
+   * @throws SecurityException if <code>readDisplayPixels</code> permission is not granted.
+   */
+  public BufferedImage takeActiveWindowScreenshot() {
+    Rectangle bounds = activeWindowBounds();
+    if (bounds == null) return takeDesktopScreenshot();
+    return takeScreenshot(bounds);
+  }
+
+  @RunsInEDT
+  private static Rectangle activeWindowBounds() {
+    return execute(new GuiQuery<Rectangle>() {
+      @Override protected Rectangle executeInEDT() {
+        Window window = KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow();
+        if (window == null || !window.isShowing()) return null;
+        Rectangle bounds = new Rectangle(window.getLocationOnScreen(), window.getSize());
+        return bounds.isEmpty() ? null : bounds;
+      }
+    });
+  }
+
   /**
    * Takes a screenshot of the given <code>{@link java.awt.Component}</code>.
    * @param c the given component.
@@ -120,7 +189,7 @@ public class ScreenshotTaker {
     JTextComponent textComponent = findFocusOwnerAndHideItsCaret();
     robot.waitForIdle();
     try {
-      return takeScreenshot(robot, r);
+      return robot.createScreenCapture(r);
     } finally {
       showCaretIfPossible(textComponent);
     }
@@ -141,14 +210,6 @@ public class ScreenshotTaker {
     });
   }
 
-  private static BufferedImage takeScreenshot(final Robot robot, final Rectangle r) {
-    return execute(new GuiQuery<BufferedImage>() {
-      @Override protected BufferedImage executeInEDT() {
-        return robot.createScreenCapture(r);
-      }
-    });
-  }
-
   private void showCaretIfPossible(JTextComponent textComponent) {
     if (textComponent == null) return;
     showCaretOf(textComponent);
@@ -166,26 +227,117 @@ public class ScreenshotTaker {
   }
 
   /**
-   * Save the given image as a PNG file.
+   * Save the given image as a file. PNG files are written using the current compression level; files with other
+   * extensions are written using the format registered for their extension. If writing in the background is enabled,
+   * the image is encoded and written in a background thread, and any I/O error is logged instead of being thrown; in
+   * this case, the image must not be modified after calling this method.
    * @param image the image to save.
    * @param filePath the path of the file to save the image to.
    * @throws ImageException if the given file path is {@code null} or empty.
-   * @throws ImageException if the given file path does not end with ".png".
+   * @throws ImageException if the given file path does not end with ".png" or the extension of a registered
+   * <code>{@link ImageFormat}</code>.
    * @throws ImageException if the given file path belongs to a non-empty directory.
    * @throws ImageException if an I/O error prevents the image from being saved as a file.
    */
   public void saveImage(BufferedImage image, String filePath) {
     validate(filePath);
+    if (writeInBackground) {
+      saveImageInBackground(image, filePath);
+      return;
+    }
     try {
-      writer.writeAsPng(image, filePath);
+      write(image, filePath);
     } catch (Exception e) {
       throw new ImageException(concat("Unable to save image as ", quote(filePath)), e);
     }
   }
 
+  private void saveImageInBackground(final BufferedImage image, final String filePath) {
+    backgroundWriter.write(new BackgroundImageWriter.ImageWriteTask() {
+      public void write() throws Exception {
+        ScreenshotTaker.this.write(image, filePath);
+      }
+    }, filePath);
+  }
+
+  private void write(BufferedImage image, String filePath) throws Exception {
+    if (!isPng(filePath)) {
+      writer.write(image, filePath, writer.formatFor(filePath));
+      return;
+    }
+    int level = compressionLevel;
+    if (level == DEFAULT_COMPRESSION) {
+      writer.writeAsPng(image, filePath);
+      return;
+    }
+    writer.writeAsPng(image, filePath, level);
+  }
+
+  /**
+   * Sets the deflate compression level to use when saving PNG files, from 0 (no compression) to 9 (best compression.)
+   * Lower levels are considerably faster, which matters when saving screenshots of large displays. The default value is
+   * <code>{@link #DEFAULT_COMPRESSION}</code>.
+   * @param level the new compression level.
+   * @throws IllegalArgumentException if the given level is not <code>{@link #DEFAULT_COMPRESSION}</code> or a value
+   * between 0 and 9.
+   */
+  public void compressionLevel(int level) {
+    if (level < DEFAULT_COMPRESSION || level > MAX_COMPRESSION)
+      throw new IllegalArgumentException(concat("Invalid compression level: ", String.valueOf(level)));
+    compressionLevel = level;
+  }
+
+  /**
+   * Returns the deflate compression level to use when saving PNG files.
+   * @return the deflate compression level to use when saving PNG files.
+   */
+  public int compressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Indicates whether screenshots should be encoded and written to the file system in a background thread. The
+   * screenshot itself is always taken in the calling thread. The number of images waiting to be written is bounded:
+   * when too many images are pending, images are written in the calling thread. The default value is {@code false}.
+   * @param inBackground indicates whether screenshots should be written in a background thread.
+   * @see #flushPendingImages(long)
+   */
+  public void writeInBackground(boolean inBackground) {
+    writeInBackground = inBackground;
+  }
+
+  /**
+   * Waits until all the images being written in the background (by any <code>{@link ScreenshotTaker}</code>) are saved
+   * to the file system. Test frameworks should call this method at the end of a test suite. Pending images are also
+   * written before the JVM exits.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if all pending images were written; {@code false} otherwise.
+   */
+  public boolean flushPendingImages(long timeout) {
+    return backgroundWriter.flush(timeout);
+  }
+
+  /**
+   * Registers an image format, so screenshots can be saved in formats other than PNG (e.g. the uncompressed
+   * <code>{@link RunLengthImageFormat}</code>, which is registered by default.) <code>{@link #saveImage}</code> selects
+   * the format based on the extension of the file to write. Formats supported by {@code ImageIO} (e.g. "bmp") do not
+   * need to be registered.
+   * @param format the format to register.
+   * @throws NullPointerException if the given format is {@code null}.
+   * @throws IllegalArgumentException if the extension of the given format is {@code null}, empty or "png".
+   */
+  public void registerImageFormat(ImageFormat format) {
+    writer.register(format);
+  }
+
   private void validate(String imageFilePath) {
     if (isEmpty(imageFilePath)) throw new ImageException("The image path cannot be empty");
-    if (!imageFilePath.endsWith(PNG))
-      throw new ImageException(concat("The image file should be a ", PNG.toUpperCase(Locale.getDefault())));
+    if (isPng(imageFilePath) || writer.formatFor(imageFilePath) != null) return;
+    throw new ImageException(concat("The image file should be a ", PNG.toUpperCase(Locale.getDefault()),
+        " or have the extension of a registered image format"));
+  }
+
+  private static boolean isPng(String imageFilePath) {
+    return imageFilePath.endsWith(PNG);
   }
 }
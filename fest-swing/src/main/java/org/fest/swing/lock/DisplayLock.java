@@ -0,0 +1,129 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.lock;
+
+import static org.fest.util.Strings.*;
+
+import java.awt.GraphicsEnvironment;
+import java.io.*;
+import java.nio.channels.*;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import org.fest.swing.exception.ScreenLockException;
+
+/**
+ * Understands a lock on a display (e.g. an X server) that is shared by all the JVMs running in the same machine. The
+ * lock is implemented as an exclusive <code>{@link FileLock}</code> on a file whose name identifies the display. The
+ * operating system releases the lock if the JVM holding it dies.
+ * <p>
+ * This lock is not reentrant, and it does not coordinate threads in the same JVM: it is meant to be used by
+ * <code>{@link ScreenLock}</code>, which already does.
+ * </p>
+ */
+@ThreadSafe
+final class DisplayLock {
+
+  /** Name of the system property that specifies the directory where lock files are created. */
+  static final String LOCK_DIRECTORY_PROPERTY = "fest.swing.lock.dir";
+
+  private final File file;
+
+  @GuardedBy("this") private RandomAccessFile lockFile;
+  @GuardedBy("this") private FileLock lock;
+
+  /**
+   * Creates a new <code>{@link DisplayLock}</code> for the display used by this JVM.
+   * @return the created lock.
+   */
+  static DisplayLock forCurrentDisplay() {
+    return new DisplayLock(lockDirectory(), currentDisplay());
+  }
+
+  /**
+   * Returns the identity of the display used by this JVM: the value of the environment variable {@code DISPLAY} if
+   * set, or the identifier of the default screen device otherwise.
+   * @return the identity of the display used by this JVM.
+   */
+  static String currentDisplay() {
+    String display = System.getenv("DISPLAY");
+    if (!isEmpty(display)) return display;
+    if (GraphicsEnvironment.isHeadless()) return "headless";
+    return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getIDstring();
+  }
+
+  static File lockDirectory() {
+    return new File(System.getProperty(LOCK_DIRECTORY_PROPERTY, System.getProperty("java.io.tmpdir")));
+  }
+
+  /**
+   * Returns the file used to lock the given display, using the given prefix. Characters that are not valid in file
+   * names (e.g. the ':' in X displays) are replaced.
+   * @param directory the directory containing the lock file.
+   * @param prefix the prefix of the file name.
+   * @param display the identity of the display.
+   * @return the file used to lock the given display.
+   */
+  static File lockFileFor(File directory, String prefix, String display) {
+    return new File(directory, concat(prefix, display.replaceAll("[^A-Za-z0-9._-]", "_"), ".lock"));
+  }
+
+  DisplayLock(File directory, String display) {
+    file = lockFileFor(directory, "fest-swing-display", display);
+  }
+
+  /**
+   * Acquires this lock, blocking until no other JVM holds it.
+   * @throws ScreenLockException if the lock file cannot be created or locked.
+   */
+  synchronized void acquire() {
+    if (lock != null) return;
+    try {
+      lockFile = new RandomAccessFile(file, "rw");
+      lock = lockFile.getChannel().lock();
+    } catch (IOException e) {
+      closeLockFile();
+      throw new ScreenLockException(concat("Unable to lock display using file ", quote(file.getPath())), e);
+    }
+  }
+
+  /**
+   * Releases this lock, if held.
+   */
+  synchronized void release() {
+    if (lock == null) return;
+    try {
+      lock.release();
+    } catch (IOException ignored) {
+    } finally {
+      lock = null;
+      closeLockFile();
+    }
+  }
+
+  private void closeLockFile() {
+    if (lockFile == null) return;
+    try {
+      lockFile.close();
+    } catch (IOException ignored) {}
+    lockFile = null;
+  }
+
+  synchronized boolean held() { return lock != null; }
+
+  File file() { return file; }
+}
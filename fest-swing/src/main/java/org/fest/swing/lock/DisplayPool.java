@@ -0,0 +1,185 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.lock;
+
+import static java.lang.System.currentTimeMillis;
+import static org.fest.swing.lock.DisplayLock.*;
+import static org.fest.swing.timing.Pause.pause;
+import static org.fest.util.Strings.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import org.fest.swing.exception.ScreenLockException;
+
+/**
+ * Understands a pool of displays (e.g. X servers started with Xvfb) shared by all the JVMs running in the same machine.
+ * Each display can be allocated by only one JVM at a time; a display is released when the JVM that allocated it
+ * releases it or dies.
+ * <p>
+ * A typical use is a launcher that starts several test JVMs in parallel, allocating a display for each of them and
+ * passing it in the {@code DISPLAY} environment variable:
+ * <pre>
+ * DisplayPool pool = DisplayPool.fromSystemProperty(); // e.g. -Dfest.swing.displays=:1,:2,:3
+ * String display = pool.allocate(60000);
+ * ProcessBuilder builder = new ProcessBuilder(command);
+ * builder.environment().put("DISPLAY", display);
+ * Process process = builder.start();
+ * ...
+ * pool.release(display);
+ * </pre>
+ * Test JVMs sharing a display can still be serialized by enabling the cross-process <code>{@link ScreenLock}</code>.
+ * </p>
+ */
+@ThreadSafe
+public final class DisplayPool {
+
+  /** Name of the system property that specifies the displays in the pool, separated by commas. */
+  public static final String DISPLAYS_PROPERTY = "fest.swing.displays";
+
+  private static final int RETRY_DELAY = 100;
+
+  private final List<String> displays;
+  private final File lockDirectory;
+
+  @GuardedBy("this") private final Map<String, Allocation> allocations = new HashMap<String, Allocation>();
+
+  /**
+   * Creates a new <code>{@link DisplayPool}</code> containing the displays specified in the system property
+   * <code>{@link #DISPLAYS_PROPERTY}</code>.
+   * @return the created pool.
+   * @throws IllegalStateException if the system property is not set.
+   */
+  public static DisplayPool fromSystemProperty() {
+    String property = System.getProperty(DISPLAYS_PROPERTY);
+    if (isEmpty(property)) throw new IllegalStateException(concat("The system property ", quote(DISPLAYS_PROPERTY),
+        " should specify the displays in the pool"));
+    List<String> displays = new ArrayList<String>();
+    for (String display : property.split(",")) {
+      String trimmed = display.trim();
+      if (!isEmpty(trimmed)) displays.add(trimmed);
+    }
+    return new DisplayPool(displays.toArray(new String[displays.size()]));
+  }
+
+  /**
+   * Creates a new <code>{@link DisplayPool}</code>.
+   * @param displays the displays in the pool.
+   * @throws IllegalArgumentException if no displays are specified.
+   */
+  public DisplayPool(String... displays) {
+    this(lockDirectory(), displays);
+  }
+
+  DisplayPool(File lockDirectory, String... displays) {
+    if (displays == null || displays.length == 0)
+      throw new IllegalArgumentException("The pool should contain at least one display");
+    this.lockDirectory = lockDirectory;
+    this.displays = Collections.unmodifiableList(Arrays.asList(displays));
+  }
+
+  /**
+   * Returns the displays in this pool.
+   * @return the displays in this pool.
+   */
+  public List<String> displays() { return displays; }
+
+  /**
+   * Allocates a display that is not allocated by any other JVM, waiting up to the given timeout for one to be
+   * released.
+   * @param timeout the time to wait for a display to be available, in milliseconds.
+   * @return the allocated display.
+   * @throws ScreenLockException if no display is available before the timeout expires.
+   */
+  public String allocate(long timeout) {
+    long deadline = currentTimeMillis() + timeout;
+    while (true) {
+      String display = tryAllocate();
+      if (display != null) return display;
+      if (currentTimeMillis() >= deadline)
+        throw new ScreenLockException(concat("No display in ", displays, " was available after ", timeout, "ms"));
+      pause(RETRY_DELAY);
+    }
+  }
+
+  /**
+   * Allocates a display that is not allocated by any other JVM, without waiting.
+   * @return the allocated display, or {@code null} if all the displays are allocated.
+   */
+  public synchronized String tryAllocate() {
+    for (String display : displays) {
+      if (allocations.containsKey(display)) continue;
+      Allocation allocation = Allocation.tryLock(lockFileFor(lockDirectory, "fest-swing-pool", display));
+      if (allocation == null) continue;
+      allocations.put(display, allocation);
+      return display;
+    }
+    return null;
+  }
+
+  /**
+   * Releases the given display, making it available to other JVMs.
+   * @param display the display to release.
+   * @throws ScreenLockException if the given display was not allocated through this pool.
+   */
+  public synchronized void release(String display) {
+    Allocation allocation = allocations.remove(display);
+    if (allocation == null) throw new ScreenLockException(concat("The display ", quote(display), " is not allocated"));
+    allocation.release();
+  }
+
+  private static class Allocation {
+    private final RandomAccessFile file;
+    private final FileLock lock;
+
+    static Allocation tryLock(File lockFile) {
+      RandomAccessFile file = null;
+      try {
+        file = new RandomAccessFile(lockFile, "rw");
+        FileLock lock = file.getChannel().tryLock();
+        if (lock != null) return new Allocation(file, lock);
+      } catch (IOException ignored) {
+      } catch (OverlappingFileLockException ignored) {
+        // allocated by another pool in this JVM
+      }
+      close(file);
+      return null;
+    }
+
+    private Allocation(RandomAccessFile file, FileLock lock) {
+      this.file = file;
+      this.lock = lock;
+    }
+
+    void release() {
+      try {
+        lock.release();
+      } catch (IOException ignored) {}
+      close(file);
+    }
+
+    private static void close(RandomAccessFile file) {
+      if (file == null) return;
+      try {
+        file.close();
+      } catch (IOException ignored) {}
+    }
+  }
+}
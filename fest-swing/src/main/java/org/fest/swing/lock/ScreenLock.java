@@ -26,6 +26,12 @@ import org.fest.swing.exception.ScreenLockException;
 /**
  * Understands a lock that each GUI test should acquire before being executed, to guarantee sequential execution of
  * GUI tests and to prevent GUI tests from blocking each other.
+ * <p>
+ * By default this lock only coordinates the GUI tests running in the same JVM. If the system property
+ * <code>{@link #CROSS_PROCESS_PROPERTY}</code> is set to {@code true}, this lock also coordinates the GUI tests running
+ * in other JVMs that use the same display (e.g. the same {@code DISPLAY} in X11,) by locking a file shared by those
+ * JVMs. Tests using different displays can then be executed in parallel (see <code>{@link DisplayPool}</code>.)
+ * </p>
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
@@ -33,6 +39,14 @@ import org.fest.swing.exception.ScreenLockException;
 @ThreadSafe
 public final class ScreenLock {
 
+  /**
+   * Name of the system property that indicates whether this lock should coordinate GUI tests running in other JVMs
+   * that use the same display.
+   */
+  public static final String CROSS_PROCESS_PROPERTY = "fest.swing.screenLock.crossProcess";
+
+  private final DisplayLock displayLock;
+
   private final Lock lock = new ReentrantLock();
   private final Condition released = lock.newCondition();
 
@@ -56,9 +70,23 @@ public final class ScreenLock {
       acquired = true;
     } catch (InterruptedException ignored) {
       Thread.currentThread().interrupt();
+      return;
     } finally {
       lock.unlock();
     }
+    acquireDisplayLock(newOwner);
+  }
+
+  // Done without holding the lock: other JVMs may hold the display for a long time, and threads in this JVM should
+  // still be able to query this lock.
+  private void acquireDisplayLock(Object newOwner) {
+    if (displayLock == null) return;
+    try {
+      displayLock.acquire();
+    } catch (RuntimeException e) {
+      release(newOwner);
+      throw e;
+    }
   }
 
   /**
@@ -72,6 +100,7 @@ public final class ScreenLock {
     try {
       if (!acquired) throw new ScreenLockException("No lock to release");
       if (owner != currentOwner) throw new ScreenLockException(concat(currentOwner, " is not the lock owner"));
+      if (displayLock != null) displayLock.release();
       acquired = false;
       owner = null;
       released.signal();
@@ -120,8 +149,18 @@ public final class ScreenLock {
   public static ScreenLock instance() { return ScreenLockHolder.instance; }
 
   private static class ScreenLockHolder {
-    static ScreenLock instance = new ScreenLock();
+    static ScreenLock instance = new ScreenLock(Boolean.getBoolean(CROSS_PROCESS_PROPERTY));
+  }
+
+  ScreenLock() {
+    this(false);
   }
 
-  ScreenLock() {}
+  ScreenLock(boolean crossProcess) {
+    this(crossProcess ? DisplayLock.forCurrentDisplay() : null);
+  }
+
+  ScreenLock(DisplayLock displayLock) {
+    this.displayLock = displayLock;
+  }
 }
@@ -42,11 +42,14 @@ class Context {
 
   private final Object lock = new Object();
 
+  private final Toolkit toolkit;
+
   Context(Toolkit toolkit) {
     this(toolkit, new WindowEventQueueMapping(), new EventQueueMapping());
   }
 
   Context(Toolkit toolkit, WindowEventQueueMapping windowEventQueueMapping, EventQueueMapping eventQueueMapping) {
+    this.toolkit = toolkit;
     this.windowEventQueueMapping = windowEventQueueMapping;
     this.eventQueueMapping = eventQueueMapping;
     this.windowEventQueueMapping.addQueueFor(toolkit);
@@ -74,6 +77,16 @@ class Context {
     }
   }
 
+  /**
+   * Removes all the mappings between event queues and GUI components, except the system event queue.
+   */
+  void reset() {
+    synchronized (lock) {
+      windowEventQueueMapping.clear(toolkit);
+      eventQueueMapping.clear();
+    }
+  }
+
   void removeContextFor(Component component) {
     synchronized (lock) {
       windowEventQueueMapping.removeMappingFor(component);
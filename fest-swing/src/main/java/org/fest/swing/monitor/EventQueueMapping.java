@@ -44,6 +44,10 @@ class EventQueueMapping {
     return queue;
   }
 
+  void clear() {
+    queueMap.clear();
+  }
+
   EventQueue storedQueueFor(Component c) {
     return queueFrom(queueMap.get(c));
   }
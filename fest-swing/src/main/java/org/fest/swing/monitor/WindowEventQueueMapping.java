@@ -37,6 +37,11 @@ class WindowEventQueueMapping {
     queueMap.put(toolkit.getSystemEventQueue(), new WeakHashMap<Window, Boolean>());
   }
 
+  void clear(Toolkit toolkit) {
+    queueMap.clear();
+    addQueueFor(toolkit);
+  }
+
   void addQueueFor(Component component) {
     EventQueue queue = component.getToolkit().getSystemEventQueue();
     Map<Window, Boolean> windowMapping = queueMap.get(queue);
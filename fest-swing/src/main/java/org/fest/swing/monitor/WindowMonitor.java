@@ -117,6 +117,16 @@ public class WindowMonitor {
     return context.rootWindows();
   }
 
+  /**
+   * Forgets all the windows and event queues known by this monitor. Windows shown after calling this method are
+   * monitored as usual. This method is meant to be called after all the windows have been disposed, to reuse this
+   * monitor in another GUI test session in the same JVM.
+   */
+  public void reset() {
+    windows.clear();
+    context.reset();
+  }
+
   /**
    * Returns the singleton instance of this class.
    * @return the singleton instance of this class.
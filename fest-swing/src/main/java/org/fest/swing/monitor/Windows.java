@@ -15,14 +15,16 @@
  */
 package org.fest.swing.monitor;
 
-import java.awt.Component;
-import java.awt.Window;
+import java.awt.*;
+import java.awt.event.InvocationEvent;
 import java.util.*;
+import java.util.Timer;
 
 import net.jcip.annotations.GuardedBy;
 import net.jcip.annotations.ThreadSafe;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
 import org.fest.util.VisibleForTesting;
 
 /**
@@ -47,13 +49,12 @@ class Windows {
   /** Not visible. */
   @GuardedBy("lock") final Map<Window, Boolean> hidden = new WeakHashMap<Window, Boolean>();
 
-  private final Timer windowReadyTimer;
+  /** Shared by all instances, instead of starting one thread per monitor. */
+  private static final Timer WINDOW_READY_TIMER = new Timer("Window Ready Timer", true);
 
   private final Object lock = new Object();
 
-  Windows() {
-    windowReadyTimer = new Timer("Window Ready Timer", true);
-  }
+  Windows() {}
 
   /**
    * Creates a new <code>{@link WindowVisibilityMonitor}</code> and attaches it to the given
@@ -90,7 +91,10 @@ class Windows {
   }
 
   /**
-   * Marks the given window as "showing."
+   * Marks the given window as "showing." The window is marked as "ready" as soon as a marker event, posted to its
+   * event queue, is dispatched while the window is showing. If the marker event cannot be posted, or the window is not
+   * showing when the event is dispatched, the window is marked as "ready" after
+   * <code>{@link #WINDOW_READY_DELAY}</code> milliseconds, or when it receives a mouse event.
    * @param w the given window.
    */
   void markAsShowing(final Window w) {
@@ -98,8 +102,37 @@ class Windows {
       TimerTask task = new TimerTask() {
         @Override public void run() { markAsReady(w); }
       };
-      windowReadyTimer.schedule(new ProtectingTimerTask(task), WINDOW_READY_DELAY);
+      WINDOW_READY_TIMER.schedule(new ProtectingTimerTask(task), WINDOW_READY_DELAY);
       pending.put(w, task);
+      postReadyProbe(w, task);
+    }
+  }
+
+  /*
+   * Events generated by showing the window (e.g. WINDOW_OPENED) are posted before the marker event: once the marker
+   * is dispatched, those events have been processed too.
+   */
+  private void postReadyProbe(final Window w, final TimerTask task) {
+    EventQueue queue;
+    try {
+      queue = w.getToolkit().getSystemEventQueue();
+    } catch (SecurityException e) {
+      return;
+    }
+    queue.postEvent(new InvocationEvent(w, new Runnable() {
+      @RunsInEDT
+      public void run() {
+        if (w.isShowing()) markAsReady(w, task);
+      }
+    }));
+  }
+
+  private void markAsReady(Window w, TimerTask task) {
+    synchronized(lock) {
+      // the window may have been hidden and shown again since the marker event was posted
+      if (pending.get(w) != task) return;
+      task.cancel();
+      markAsReady(w);
     }
   }
 
@@ -126,6 +159,20 @@ class Windows {
     }
   }
 
+  /**
+   * Forgets all the known windows, cancelling any pending "ready" notification.
+   */
+  void clear() {
+    synchronized(lock) {
+      for (TimerTask task : pending.values()) if (task != null) task.cancel();
+      WINDOW_READY_TIMER.purge();
+      pending.clear();
+      open.clear();
+      closed.clear();
+      hidden.clear();
+    }
+  }
+
   private void addWindowTo(Window w, Map<Window, Boolean> map) {
     map.put(w, true);
   }
@@ -74,6 +74,18 @@ public abstract class Condition {
     return EMPTY_TEXT;
   }
 
+  /**
+   * Returns the types of AWT events that may change the result of this condition, as a bitwise combination of the
+   * event masks defined in <code>{@link java.awt.AWTEvent}</code> (e.g. <code>AWTEvent.WINDOW_EVENT_MASK</code>.)
+   * <code>{@link Pause#pause(Condition)}</code> (and all overloaded methods) evaluate this condition again as soon as
+   * one of those events is dispatched, and poll less often while no event arrives. The default value is 0, meaning
+   * that this condition is only polled.
+   * @return the types of AWT events that may change the result of this condition.
+   */
+  protected long awtEventMask() {
+    return 0;
+  }
+
   /**
    * Notification that this condition has been evaluated. This method is invoked by
    * <code>{@link Pause#pause(Condition)}</code> (and all overloaded methods) when this condition is evaluated (either
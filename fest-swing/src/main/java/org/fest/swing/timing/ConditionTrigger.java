@@ -0,0 +1,110 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static java.lang.Math.min;
+
+import java.awt.*;
+import java.awt.event.AWTEventListener;
+
+import net.jcip.annotations.GuardedBy;
+
+/**
+ * Understands when a <code>{@link Condition}</code> should be evaluated again. A condition is re-evaluated as soon as
+ * an AWT event it is interested in is dispatched. If no event arrives, the condition is re-evaluated using an adaptive
+ * backoff: the time between evaluations starts at 1 millisecond and doubles until it reaches a maximum.
+ */
+final class ConditionTrigger implements AWTEventListener {
+
+  static final long MIN_INTERVAL = 1;
+  static final long POLLING_MAX_INTERVAL = 10;
+  static final long EVENT_DRIVEN_MAX_INTERVAL = 100;
+
+  private final Toolkit toolkit;
+  private final long eventMask;
+  private final long maxInterval;
+
+  @GuardedBy("this") private long eventCount;
+  @GuardedBy("this") private long evaluatedEventCount;
+  @GuardedBy("this") private long interval = MIN_INTERVAL;
+
+  private boolean listening;
+
+  static ConditionTrigger triggerFor(Condition... conditions) {
+    long eventMask = 0;
+    for (Condition c : conditions) eventMask |= c.awtEventMask();
+    return new ConditionTrigger(Toolkit.getDefaultToolkit(), eventMask);
+  }
+
+  ConditionTrigger(Toolkit toolkit, long eventMask) {
+    this.toolkit = toolkit;
+    this.eventMask = eventMask;
+    maxInterval = eventMask != 0 ? EVENT_DRIVEN_MAX_INTERVAL : POLLING_MAX_INTERVAL;
+  }
+
+  void start() {
+    if (eventMask == 0) return;
+    try {
+      toolkit.addAWTEventListener(this, eventMask);
+      listening = true;
+    } catch (SecurityException e) {
+      // we cannot listen to events, fall back to polling.
+    }
+  }
+
+  void stop() {
+    if (!listening) return;
+    toolkit.removeAWTEventListener(this);
+    listening = false;
+  }
+
+  /** {@inheritDoc} */
+  public synchronized void eventDispatched(AWTEvent event) {
+    eventCount++;
+    notifyAll();
+  }
+
+  /**
+   * Indicates that the condition is about to be evaluated. Any event dispatched from now on will trigger a new
+   * evaluation.
+   */
+  synchronized void aboutToEvaluate() {
+    evaluatedEventCount = eventCount;
+  }
+
+  /**
+   * Waits until an event of interest is dispatched or until the current backoff interval expires, whichever happens
+   * first.
+   */
+  synchronized void awaitNextEvaluation() {
+    if (eventCount == evaluatedEventCount) {
+      try {
+        wait(interval);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    interval = eventCount != evaluatedEventCount ? MIN_INTERVAL : nextInterval();
+  }
+
+  private long nextInterval() {
+    return min(interval * 2, maxInterval);
+  }
+
+  synchronized long interval() {
+    return interval;
+  }
+}
@@ -15,6 +15,8 @@
  */
 package org.fest.swing.timing;
 
+import static org.fest.swing.timing.ConditionTrigger.triggerFor;
+import static org.fest.swing.timing.TimedActionType.PAUSE;
 import static org.fest.swing.util.TimeoutWatch.startWatchWithTimeoutOf;
 import static org.fest.util.Arrays.*;
 import static org.fest.util.Strings.concat;
@@ -26,6 +28,11 @@ import org.fest.swing.util.TimeoutWatch;
 
 /**
  * Understands waiting for period of time or for a particular condition to be satisfied.
+ * <p>
+ * Conditions are evaluated again as soon as an AWT event they are interested in is dispatched (see
+ * <code>{@link Condition#awtEventMask()}</code>.) Between events, conditions are polled using an adaptive backoff that
+ * starts at 1 millisecond.
+ * </p>
  *
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -67,15 +74,29 @@ public final class Pause {
    */
   public static void pause(Condition condition, long timeout) {
     if (condition == null) throw new NullPointerException("The condition to verify should not be null");
+    ConditionTrigger trigger = triggerFor(condition);
+    long start = Timings.start();
+    trigger.start();
+    try {
+      waitFor(condition, timeout, trigger);
+    } finally {
+      trigger.stop();
+      Timings.stop(PAUSE, condition.getClass().getName(), start);
+    }
+    condition.done();
+  }
+
+  private static void waitFor(Condition condition, long timeout, ConditionTrigger trigger) {
     TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
+    trigger.aboutToEvaluate();
     while (!condition.test()) {
       if (watch.isTimeOut() && !condition.test()) {
         condition.done();
         throw timeoutExpired(condition);
       }
-      pause(SLEEP_INTERVAL);
+      trigger.awaitNextEvaluation();
+      trigger.aboutToEvaluate();
     }
-    condition.done();
   }
 
   private static WaitTimedOutError timeoutExpired(Condition condition) {
@@ -119,15 +140,29 @@ public final class Pause {
    */
   public static void pause(Condition[] conditions, long timeout) {
     validate(conditions);
+    ConditionTrigger trigger = triggerFor(conditions);
+    long start = Timings.start();
+    trigger.start();
+    try {
+      waitFor(conditions, timeout, trigger);
+    } finally {
+      trigger.stop();
+      Timings.stop(PAUSE, "conditions", start);
+    }
+    done(conditions);
+  }
+
+  private static void waitFor(Condition[] conditions, long timeout, ConditionTrigger trigger) {
     TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
+    trigger.aboutToEvaluate();
     while (!areSatisfied(conditions)) {
       if (watch.isTimeOut()) {
         done(conditions);
         throw timeoutExpired(conditions);
       }
-      pause(SLEEP_INTERVAL);
+      trigger.awaitNextEvaluation();
+      trigger.aboutToEvaluate();
     }
-    done(conditions);
   }
 
   private static void validate(Condition[] conditions) {
@@ -175,10 +210,13 @@ public final class Pause {
    * @param ms the time to sleep in milliseconds.
    */
   public static void pause(long ms) {
+    long start = Timings.start();
     try {
       Thread.sleep(ms);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
+    } finally {
+      Timings.stop(PAUSE, "sleep", start);
     }
   }
 
@@ -0,0 +1,47 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+/**
+ * Understands the kinds of operations timed by <code>{@link Timings}</code>. Durations are inclusive: the time spent
+ * in a robot action also includes the idle waits, pauses and generated input events it triggered.
+ */
+public enum TimedActionType {
+
+  /**
+   * An action performed by a <code>{@link org.fest.swing.core.Robot}</code> decorated with
+   * <code>{@link org.fest.swing.core.TimedRobot}</code> (e.g. a click or typing text.)
+   */
+  ROBOT_ACTION,
+
+  /**
+   * Waiting for a <code>{@link org.fest.swing.edt.GuiQuery}</code> or <code>{@link org.fest.swing.edt.GuiTask}</code>
+   * to be executed in the event dispatch thread.
+   */
+  EDT_HOP,
+
+  /**
+   * Waiting for the event queue(s) to be idle, using a <code>{@link org.fest.swing.core.Robot}</code> decorated with
+   * <code>{@link org.fest.swing.core.TimedRobot}</code>.
+   */
+  IDLE_WAIT,
+
+  /** Sleeping or waiting for a <code>{@link Condition}</code> using <code>{@link Pause}</code>. */
+  PAUSE,
+
+  /** Generating a single mouse or keyboard input event. */
+  INPUT_EVENT;
+}
@@ -0,0 +1,32 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+/**
+ * Understands a listener notified every time an operation timed by <code>{@link Timings}</code> finishes. Listeners
+ * are notified in the thread that performed the operation, which may be the event dispatch thread: implementations
+ * should be thread-safe and return quickly.
+ */
+public interface TimingListener {
+
+  /**
+   * Notification that a timed operation finished.
+   * @param type the type of operation.
+   * @param action the description of the operation (e.g. "click" or the name of a {@code GuiQuery}.)
+   * @param durationInNanos how long the operation took, in nanoseconds.
+   */
+  void actionTimed(TimedActionType type, String action, long durationInNanos);
+}
@@ -0,0 +1,283 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.fest.swing.exception.UnexpectedException.unexpected;
+import static org.fest.swing.timing.TimedActionType.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import javax.management.*;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Understands a <code>{@link TimingListener}</code> that aggregates timings per test and per action. The breakdown can
+ * be written as CSV or JSON, and the totals per type of operation are exposed over JMX.
+ * <p>
+ * Example:
+ * <pre>
+ * TimingRecorder recorder = new TimingRecorder();
+ * recorder.attach();
+ * recorder.registerMBean();
+ *
+ * // robot actions and idle waits are timed only through the decorator
+ * Robot robot = TimedRobot.timed(BasicRobot.robotWithNewAwtHierarchy());
+ *
+ * // before each test
+ * recorder.startTest("MyTest.should_enter_text");
+ *
+ * // at the end of the test run
+ * recorder.writeCsv(new FileWriter("timings.csv"));
+ * recorder.detach();
+ * </pre>
+ * </p>
+ */
+@ThreadSafe
+public class TimingRecorder implements TimingListener, TimingRecorderMBean {
+
+  /** The name of the MBean registered by <code>{@link #registerMBean()}</code>. */
+  public static final String MBEAN_NAME = "org.fest.swing:type=TimingRecorder";
+
+  private static final String NO_TEST = "<no test>";
+
+  @GuardedBy("this")
+  private final Map<String, Map<String, Stats>> tests = new LinkedHashMap<String, Map<String, Stats>>();
+
+  @GuardedBy("this") private final long[] counts = new long[TimedActionType.values().length];
+  @GuardedBy("this") private final long[] nanos = new long[TimedActionType.values().length];
+  @GuardedBy("this") private String currentTest = NO_TEST;
+
+  /**
+   * Registers this recorder with <code>{@link Timings}</code>.
+   */
+  public void attach() {
+    Timings.addListener(this);
+  }
+
+  /**
+   * Removes this recorder from <code>{@link Timings}</code>.
+   */
+  public void detach() {
+    Timings.removeListener(this);
+  }
+
+  /**
+   * Registers this recorder with the platform MBean server, using <code>{@link #MBEAN_NAME}</code> as its name.
+   * @throws org.fest.swing.exception.UnexpectedException if the MBean cannot be registered.
+   */
+  public void registerMBean() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(MBEAN_NAME));
+    } catch (JMException e) {
+      throw unexpected(e);
+    }
+  }
+
+  /**
+   * Removes this recorder from the platform MBean server.
+   * @throws org.fest.swing.exception.UnexpectedException if the MBean cannot be unregistered.
+   */
+  public void unregisterMBean() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(MBEAN_NAME));
+    } catch (JMException e) {
+      throw unexpected(e);
+    }
+  }
+
+  /**
+   * Indicates that the test with the given name is starting. Timings recorded from now on are attributed to it.
+   * @param name the name of the test.
+   */
+  public synchronized void startTest(String name) {
+    currentTest = name;
+  }
+
+  /** {@inheritDoc} */
+  public synchronized void actionTimed(TimedActionType type, String action, long durationInNanos) {
+    counts[type.ordinal()]++;
+    nanos[type.ordinal()] += durationInNanos;
+    Map<String, Stats> actions = tests.get(currentTest);
+    if (actions == null) {
+      actions = new LinkedHashMap<String, Stats>();
+      tests.put(currentTest, actions);
+    }
+    String key = type.name() + ":" + action;
+    Stats stats = actions.get(key);
+    if (stats == null) {
+      stats = new Stats(type, action);
+      actions.put(key, stats);
+    }
+    stats.add(durationInNanos);
+  }
+
+  /**
+   * Writes the recorded timings as CSV, one line per test and action, with the columns "test", "type", "action",
+   * "count", "totalMillis" and "maxMillis". The given {@code Writer} is flushed but not closed.
+   * @param writer the destination of the CSV data.
+   * @throws IOException if an I/O error occurs.
+   */
+  public synchronized void writeCsv(Writer writer) throws IOException {
+    writer.write("test,type,action,count,totalMillis,maxMillis\n");
+    for (Map.Entry<String, Map<String, Stats>> test : tests.entrySet()) {
+      for (Stats stats : test.getValue().values()) {
+        writer.write(csv(test.getKey()));
+        writer.write(',');
+        writer.write(stats.type.name());
+        writer.write(',');
+        writer.write(csv(stats.action));
+        writer.write(',');
+        writer.write(String.valueOf(stats.count));
+        writer.write(',');
+        writer.write(String.valueOf(millis(stats.totalNanos)));
+        writer.write(',');
+        writer.write(String.valueOf(millis(stats.maxNanos)));
+        writer.write('\n');
+      }
+    }
+    writer.flush();
+  }
+
+  private static String csv(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) return value;
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+
+  /**
+   * Writes the recorded timings as a JSON object with a "tests" array. Each test has a "name" and an "actions" array,
+   * and each action has a "type", an "action", a "count", a "totalMillis" and a "maxMillis". The given {@code Writer}
+   * is flushed but not closed.
+   * @param writer the destination of the JSON data.
+   * @throws IOException if an I/O error occurs.
+   */
+  public synchronized void writeJson(Writer writer) throws IOException {
+    writer.write("{\"tests\":[");
+    boolean firstTest = true;
+    for (Map.Entry<String, Map<String, Stats>> test : tests.entrySet()) {
+      if (!firstTest) writer.write(',');
+      firstTest = false;
+      writer.write("{\"name\":");
+      writer.write(json(test.getKey()));
+      writer.write(",\"actions\":[");
+      boolean firstAction = true;
+      for (Stats stats : test.getValue().values()) {
+        if (!firstAction) writer.write(',');
+        firstAction = false;
+        writer.write("{\"type\":\"");
+        writer.write(stats.type.name());
+        writer.write("\",\"action\":");
+        writer.write(json(stats.action));
+        writer.write(",\"count\":");
+        writer.write(String.valueOf(stats.count));
+        writer.write(",\"totalMillis\":");
+        writer.write(String.valueOf(millis(stats.totalNanos)));
+        writer.write(",\"maxMillis\":");
+        writer.write(String.valueOf(millis(stats.maxNanos)));
+        writer.write('}');
+      }
+      writer.write("]}");
+    }
+    writer.write("]}");
+    writer.flush();
+  }
+
+  private static String json(String value) {
+    StringBuilder b = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') b.append('\\').append(c);
+      else if (c < ' ') b.append(String.format("\\u%04x", (int)c));
+      else b.append(c);
+    }
+    return b.append('"').toString();
+  }
+
+  /** {@inheritDoc} */
+  public synchronized String getCurrentTest() { return currentTest; }
+
+  /** {@inheritDoc} */
+  public long getRobotActionCount() { return countOf(ROBOT_ACTION); }
+
+  /** {@inheritDoc} */
+  public long getRobotActionMillis() { return millisOf(ROBOT_ACTION); }
+
+  /** {@inheritDoc} */
+  public long getEdtHopCount() { return countOf(EDT_HOP); }
+
+  /** {@inheritDoc} */
+  public long getEdtHopMillis() { return millisOf(EDT_HOP); }
+
+  /** {@inheritDoc} */
+  public long getIdleWaitCount() { return countOf(IDLE_WAIT); }
+
+  /** {@inheritDoc} */
+  public long getIdleWaitMillis() { return millisOf(IDLE_WAIT); }
+
+  /** {@inheritDoc} */
+  public long getPauseCount() { return countOf(PAUSE); }
+
+  /** {@inheritDoc} */
+  public long getPauseMillis() { return millisOf(PAUSE); }
+
+  /** {@inheritDoc} */
+  public long getInputEventCount() { return countOf(INPUT_EVENT); }
+
+  /** {@inheritDoc} */
+  public long getInputEventMillis() { return millisOf(INPUT_EVENT); }
+
+  private synchronized long countOf(TimedActionType type) {
+    return counts[type.ordinal()];
+  }
+
+  private synchronized long millisOf(TimedActionType type) {
+    return millis(nanos[type.ordinal()]);
+  }
+
+  private static long millis(long nanos) {
+    return NANOSECONDS.toMillis(nanos);
+  }
+
+  /** {@inheritDoc} */
+  public synchronized void reset() {
+    tests.clear();
+    Arrays.fill(counts, 0);
+    Arrays.fill(nanos, 0);
+  }
+
+  private static class Stats {
+    final TimedActionType type;
+    final String action;
+    long count;
+    long totalNanos;
+    long maxNanos;
+
+    Stats(TimedActionType type, String action) {
+      this.type = type;
+      this.action = action;
+    }
+
+    void add(long durationInNanos) {
+      count++;
+      totalNanos += durationInNanos;
+      if (durationInNanos > maxNanos) maxNanos = durationInNanos;
+    }
+  }
+}
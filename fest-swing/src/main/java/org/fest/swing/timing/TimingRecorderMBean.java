@@ -0,0 +1,93 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+/**
+ * Understands the management interface of a <code>{@link TimingRecorder}</code>. Times are in milliseconds.
+ */
+public interface TimingRecorderMBean {
+
+  /**
+   * Returns the name of the test currently being recorded.
+   * @return the name of the test currently being recorded.
+   */
+  String getCurrentTest();
+
+  /**
+   * Returns the number of robot actions recorded.
+   * @return the number of robot actions recorded.
+   */
+  long getRobotActionCount();
+
+  /**
+   * Returns the total time spent in robot actions.
+   * @return the total time spent in robot actions.
+   */
+  long getRobotActionMillis();
+
+  /**
+   * Returns the number of trips to the event dispatch thread recorded.
+   * @return the number of trips to the event dispatch thread recorded.
+   */
+  long getEdtHopCount();
+
+  /**
+   * Returns the total time spent waiting for actions to be executed in the event dispatch thread.
+   * @return the total time spent waiting for actions to be executed in the event dispatch thread.
+   */
+  long getEdtHopMillis();
+
+  /**
+   * Returns the number of idle waits recorded.
+   * @return the number of idle waits recorded.
+   */
+  long getIdleWaitCount();
+
+  /**
+   * Returns the total time spent waiting for the event queue(s) to be idle.
+   * @return the total time spent waiting for the event queue(s) to be idle.
+   */
+  long getIdleWaitMillis();
+
+  /**
+   * Returns the number of pauses recorded.
+   * @return the number of pauses recorded.
+   */
+  long getPauseCount();
+
+  /**
+   * Returns the total time spent in pauses.
+   * @return the total time spent in pauses.
+   */
+  long getPauseMillis();
+
+  /**
+   * Returns the number of generated input events recorded.
+   * @return the number of generated input events recorded.
+   */
+  long getInputEventCount();
+
+  /**
+   * Returns the total time spent generating input events.
+   * @return the total time spent generating input events.
+   */
+  long getInputEventMillis();
+
+  /**
+   * Discards all the recorded timings.
+   */
+  void reset();
+}
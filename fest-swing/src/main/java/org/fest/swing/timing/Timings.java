@@ -0,0 +1,107 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static java.lang.System.nanoTime;
+import static java.util.logging.Level.WARNING;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Understands timing the operations performed by FEST-Swing (robot actions, trips to the event dispatch thread, idle
+ * waits, pauses and generated input events) and notifying registered <code>{@link TimingListener}</code>s.
+ * <p>
+ * When no listener is registered, timing an operation is limited to reading a {@code volatile} field.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>
+ * long start = Timings.start();
+ * try {
+ *   // perform the operation
+ * } finally {
+ *   Timings.stop(ROBOT_ACTION, "click", start);
+ * }
+ * </pre>
+ * </p>
+ */
+@ThreadSafe
+public final class Timings {
+
+  private static final long NOT_STARTED = -1;
+
+  private static Logger logger = Logger.getLogger(Timings.class.getName());
+
+  private static final List<TimingListener> LISTENERS = new CopyOnWriteArrayList<TimingListener>();
+
+  private static volatile boolean enabled;
+
+  /**
+   * Registers the given listener.
+   * @param listener the listener to register.
+   * @throws NullPointerException if the given listener is {@code null}.
+   */
+  public static synchronized void addListener(TimingListener listener) {
+    if (listener == null) throw new NullPointerException("The listener to add should not be null");
+    LISTENERS.add(listener);
+    enabled = true;
+  }
+
+  /**
+   * Removes the given listener.
+   * @param listener the listener to remove.
+   */
+  public static synchronized void removeListener(TimingListener listener) {
+    LISTENERS.remove(listener);
+    enabled = !LISTENERS.isEmpty();
+  }
+
+  /**
+   * Marks the start of an operation to time.
+   * @return the value to pass to <code>{@link #stop(TimedActionType, Object, long)}</code> once the operation
+   * finishes.
+   */
+  public static long start() {
+    return enabled ? nanoTime() : NOT_STARTED;
+  }
+
+  /**
+   * Marks the end of a timed operation, notifying the registered listeners.
+   * @param type the type of operation.
+   * @param action describes the operation. It is converted to a {@code String} only if there are listeners to notify.
+   * Listeners usually aggregate timings by action, so the description should not vary from one call to another (e.g.
+   * use the name of a class instead of the {@code toString()} of an instance.)
+   * @param start the value returned by <code>{@link #start()}</code> when the operation started.
+   */
+  public static void stop(TimedActionType type, Object action, long start) {
+    if (start == NOT_STARTED || !enabled) return;
+    long duration = nanoTime() - start;
+    String description = String.valueOf(action);
+    for (TimingListener listener : LISTENERS) {
+      try {
+        listener.actionTimed(type, description, duration);
+      } catch (RuntimeException e) {
+        logger.log(WARNING, "Exception thrown by a TimingListener", e);
+      }
+    }
+  }
+
+  private Timings() {}
+}
@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.awt.*;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ActivityTrackingEventQueue#installIn(Toolkit)}</code> and
+ * <code>{@link ActivityTrackingEventQueue#uninstallFrom(Toolkit)}</code>.
+ */
+public class ActivityTrackingEventQueue_installIn_Test {
+
+  private Toolkit toolkit;
+  private EventQueue originalQueue;
+
+  @Before public void setUp() {
+    toolkit = Toolkit.getDefaultToolkit();
+    originalQueue = toolkit.getSystemEventQueue();
+  }
+
+  @After public void tearDown() {
+    ActivityTrackingEventQueue.uninstallFrom(toolkit);
+  }
+
+  @Test
+  public void should_be_installed_only_once() {
+    ActivityTrackingEventQueue queue = ActivityTrackingEventQueue.installIn(toolkit);
+    assertThat(toolkit.getSystemEventQueue()).isSameAs(queue);
+    assertThat(ActivityTrackingEventQueue.installIn(toolkit)).isSameAs(queue);
+  }
+
+  @Test
+  public void should_not_push_another_queue_if_installed_queue_is_not_at_top() {
+    ActivityTrackingEventQueue.installIn(toolkit);
+    PoppableEventQueue other = new PoppableEventQueue();
+    toolkit.getSystemEventQueue().push(other);
+    try {
+      assertThat(ActivityTrackingEventQueue.installIn(toolkit)).isNull();
+      assertThat(toolkit.getSystemEventQueue()).isSameAs(other);
+    } finally {
+      other.pop();
+    }
+  }
+
+  @Test
+  public void should_pop_installed_queue() {
+    ActivityTrackingEventQueue.installIn(toolkit);
+    ActivityTrackingEventQueue.uninstallFrom(toolkit);
+    assertThat(toolkit.getSystemEventQueue()).isSameAs(originalQueue);
+  }
+
+  private static class PoppableEventQueue extends EventQueue {
+    @Override public void pop() {
+      super.pop();
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.timing.Pause.pause;
+
+import java.awt.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ActivityTrackingEventQueue#waitForQuiescence(long)}</code>.
+ */
+public class ActivityTrackingEventQueue_waitForQuiescence_Test {
+
+  private ActivityTrackingEventQueue queue;
+
+  @Before public void setUp() {
+    queue = ActivityTrackingEventQueue.installIn(Toolkit.getDefaultToolkit());
+  }
+
+  @After public void tearDown() {
+    ActivityTrackingEventQueue.uninstallFrom(Toolkit.getDefaultToolkit());
+  }
+
+  @Test
+  public void should_wait_until_pending_events_are_dispatched() {
+    final AtomicBoolean dispatched = new AtomicBoolean();
+    EventQueue.invokeLater(new Runnable() {
+      public void run() {
+        pause(200);
+        dispatched.set(true);
+      }
+    });
+    assertThat(queue.waitForQuiescence(5000)).isTrue();
+    assertThat(dispatched.get()).isTrue();
+  }
+
+  @Test
+  public void should_time_out_if_queue_never_becomes_idle() {
+    final AtomicBoolean stop = new AtomicBoolean();
+    EventQueue.invokeLater(new Runnable() {
+      public void run() {
+        if (!stop.get()) EventQueue.invokeLater(this);
+      }
+    });
+    try {
+      assertThat(queue.waitForQuiescence(200)).isFalse();
+    } finally {
+      stop.set(true);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.classextension.EasyMock.createMock;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.TestComponentFinders.newComponentFinderMock;
+import static org.fest.swing.test.awt.TestContainers.singletonContainerMock;
+
+import java.awt.*;
+import java.util.ArrayList;
+
+import org.fest.mocks.EasyMockTemplate;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ComponentFoundCondition#test()}</code> when a matching component cannot be found.
+ */
+public class ComponentFoundCondition_test_withComponentNotFound_Test extends EDTSafeTestCase {
+
+  private ComponentFinder finder;
+  private ComponentMatcher matcher;
+  private static Container root;
+
+  private ComponentFoundCondition condition;
+
+  @BeforeClass
+  public static void setUpOnce() {
+    root = singletonContainerMock();
+  }
+
+  @Before
+  public void setUp() {
+    finder = newComponentFinderMock();
+    matcher = createMock(ComponentMatcher.class);
+    condition = new ComponentFoundCondition("Component to be found", finder, matcher, root);
+  }
+
+  @Test
+  public void should_build_lookup_error_only_once_when_description_is_requested() {
+    new EasyMockTemplate(finder, matcher) {
+      @Override protected void expectations() {
+        expect(finder.findAll(root, matcher)).andReturn(new ArrayList<Component>()).times(3);
+        expect(finder.includeHierarchyIfComponentNotFound()).andReturn(false).once();
+      }
+
+      @Override protected void codeToTest() {
+        for (int i = 0; i < 3; i++) assertThat(condition.test()).isFalse();
+        assertThat(condition.toString()).contains("Unable to find component using matcher");
+        assertThat(condition.toString()).contains("Unable to find component using matcher");
+      }
+    }.run();
+  }
+}
@@ -20,11 +20,12 @@ import static org.easymock.classextension.EasyMock.createMock;
 import static org.fest.swing.core.TestComponentFinders.newComponentFinderMock;
 import static org.fest.swing.test.awt.TestComponents.singletonComponentMock;
 import static org.fest.swing.test.awt.TestContainers.singletonContainerMock;
+import static org.fest.util.Collections.list;
 
-import java.awt.Container;
+import java.awt.*;
+import java.util.ArrayList;
 
 import org.fest.mocks.EasyMockTemplate;
-import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.test.core.EDTSafeTestCase;
 import org.junit.*;
 
@@ -58,7 +59,7 @@ public class ComponentFoundCondition_test_withResettableComponentMatcher_Test ex
   public void should_reset_matcher_when_match_not_found() {
     new EasyMockTemplate(finder, matcher) {
       @Override protected void expectations() {
-        expect(finder.find(root, matcher)).andThrow(new ComponentLookupException("Thrown on purpose"));
+        expect(finder.findAll(root, matcher)).andReturn(new ArrayList<Component>());
         matcher.reset(false);
       }
 
@@ -72,7 +73,7 @@ public class ComponentFoundCondition_test_withResettableComponentMatcher_Test ex
   public void should_reset_matcher_when_match_found() {
     new EasyMockTemplate(finder, matcher) {
       @Override protected void expectations() {
-        expect(finder.find(root, matcher)).andReturn(singletonComponentMock());
+        expect(finder.findAll(root, matcher)).andReturn(list(singletonComponentMock()));
         matcher.reset(true);
       }
 
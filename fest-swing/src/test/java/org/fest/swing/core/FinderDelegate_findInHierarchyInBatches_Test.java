@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.FinderDelegate.WHOLE_HIERARCHY;
+
+import java.awt.Component;
+import java.util.*;
+
+import javax.swing.JTextField;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link FinderDelegate#find(org.fest.swing.hierarchy.ComponentHierarchy, ComponentMatcher, int)}</code>.
+ */
+public class FinderDelegate_findInHierarchyInBatches_Test extends FinderDelegate_TestCase {
+
+  private final ComponentMatcher anyComponent = new ComponentMatcher() {
+    public boolean matches(Component c) {
+      return true;
+    }
+  };
+
+  @Test
+  public void should_return_components_matching_ComponentMatcher_in_batches() {
+    ComponentMatcher matcher = new TypeMatcher(JTextField.class);
+    Collection<Component> found = finder.find(hierarchy, matcher, 1);
+    assertThat(found).containsOnly(window.textField);
+  }
+
+  @Test
+  public void should_return_components_in_same_order_regardless_of_batch_size() {
+    List<Component> inSingleTrip = new ArrayList<Component>(finder.find(hierarchy, anyComponent, WHOLE_HIERARCHY));
+    assertThat(inSingleTrip).isNotEmpty();
+    for (int batchSize = 1; batchSize <= inSingleTrip.size() + 1; batchSize++) {
+      List<Component> inBatches = new ArrayList<Component>(finder.find(hierarchy, anyComponent, batchSize));
+      assertThat(inBatches).isEqualTo(inSingleTrip);
+    }
+  }
+
+  @Test
+  public void should_visit_children_before_their_parent() {
+    List<Component> found = new ArrayList<Component>(finder.find(hierarchy, anyComponent, 2));
+    assertThat(found.indexOf(window.textField)).isLessThan(found.indexOf(window.textField.getParent()));
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+
+import javax.swing.*;
+
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.hierarchy.*;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link FinderDelegate#find(ComponentHierarchy, ComponentMatcher)}</code>, using an
+ * <code>{@link IndexedHierarchy}</code>.
+ */
+public class FinderDelegate_findInIndexedHierarchy_Test extends SequentialEDTSafeTestCase {
+
+  private MutableHierarchy roots;
+  private IndexedHierarchy hierarchy;
+  private FinderDelegate finder;
+
+  @Override protected final void onSetUp() {
+    roots = new MutableHierarchy();
+    hierarchy = new IndexedHierarchy(roots);
+    finder = new FinderDelegate();
+  }
+
+  @Override protected final void onTearDown() {
+    hierarchy.stopIndexing();
+  }
+
+  @Test
+  public void should_find_components_not_in_index_if_matcher_does_not_require_showing() {
+    JPanel indexedRoot = newPanel();
+    roots.roots.add(indexedRoot);
+    JButton indexed = buttonIn(indexedRoot);
+    // created before the index is built, like a window that is created but not opened
+    JPanel notIndexedRoot = newPanel();
+    JButton notIndexed = buttonIn(notIndexedRoot);
+    assertThat(finder.find(hierarchy, new NameMatcher("ok"))).containsOnly(indexed);
+    roots.roots.add(notIndexedRoot);
+    assertThat(finder.find(hierarchy, new NameMatcher("ok"))).containsOnly(indexed, notIndexed);
+    assertThat(finder.find(hierarchy, new TypeMatcher(JButton.class))).containsOnly(indexed, notIndexed);
+  }
+
+  private static JPanel newPanel() {
+    return execute(new GuiQuery<JPanel>() {
+      @Override protected JPanel executeInEDT() {
+        return new JPanel();
+      }
+    });
+  }
+
+  private static JButton buttonIn(final JPanel root) {
+    return execute(new GuiQuery<JButton>() {
+      @Override protected JButton executeInEDT() {
+        JButton button = new JButton();
+        button.setName("ok");
+        root.add(button);
+        return button;
+      }
+    });
+  }
+
+  private static class MutableHierarchy implements ComponentHierarchy {
+    final List<Container> roots = new ArrayList<Container>();
+
+    public Collection<? extends Container> roots() {
+      return new ArrayList<Container>(roots);
+    }
+
+    public Collection<Component> childrenOf(Component c) {
+      if (!(c instanceof Container)) return emptyList();
+      return asList(((Container)c).getComponents());
+    }
+
+    public Container parentOf(Component c) {
+      return c.getParent();
+    }
+
+    public boolean contains(Component c) {
+      return true;
+    }
+
+    public void dispose(Window w) {}
+  }
+}
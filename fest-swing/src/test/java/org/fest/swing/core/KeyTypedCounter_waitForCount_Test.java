@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.event.KeyEvent.*;
+import static java.lang.System.currentTimeMillis;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.awt.*;
+import java.awt.event.KeyEvent;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link KeyTypedCounter#waitForCount(int, long)}</code>.
+ */
+public class KeyTypedCounter_waitForCount_Test {
+
+  private KeyTypedCounter counter;
+  private Component source;
+
+  @Before public void setUp() {
+    counter = KeyTypedCounter.attachTo(Toolkit.getDefaultToolkit());
+    source = new Canvas();
+  }
+
+  @After public void tearDown() {
+    counter.detach();
+  }
+
+  @Test
+  public void should_count_only_KEY_TYPED_events() {
+    counter.eventDispatched(new KeyEvent(source, KEY_PRESSED, currentTimeMillis(), 0, VK_A, 'a'));
+    counter.eventDispatched(new KeyEvent(source, KEY_TYPED, currentTimeMillis(), 0, VK_UNDEFINED, 'a'));
+    counter.eventDispatched(new KeyEvent(source, KEY_RELEASED, currentTimeMillis(), 0, VK_A, 'a'));
+    assertThat(counter.count()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_return_true_when_expected_count_is_reached() throws Exception {
+    Thread typist = new Thread() {
+      @Override public void run() {
+        for (int i = 0; i < 3; i++)
+          counter.eventDispatched(new KeyEvent(source, KEY_TYPED, currentTimeMillis(), 0, VK_UNDEFINED, 'a'));
+      }
+    };
+    typist.start();
+    assertThat(counter.waitForCount(3, 5000)).isTrue();
+    typist.join();
+  }
+
+  @Test
+  public void should_return_false_if_no_event_is_counted_in_time() {
+    assertThat(counter.waitForCount(1, 10)).isFalse();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Toolkit;
+
+import javax.swing.*;
+
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link PopupMenuTracker#track(JPopupMenu)}</code>.
+ */
+public class PopupMenuTracker_track_Test extends SequentialEDTSafeTestCase {
+
+  private Toolkit toolkit;
+  private PopupMenuTracker tracker;
+
+  @Override protected final void onSetUp() {
+    toolkit = Toolkit.getDefaultToolkit();
+    tracker = execute(new GuiQuery<PopupMenuTracker>() {
+      @Override protected PopupMenuTracker executeInEDT() {
+        return new PopupMenuTracker(toolkit);
+      }
+    });
+  }
+
+  @Override protected final void onTearDown() {
+    toolkit.removeAWTEventListener(tracker);
+  }
+
+  @Test
+  public void should_record_JPopupMenu_added_to_Container() {
+    assertThat(tracker.isTracking()).isTrue();
+    long changeCount = tracker.changeCount();
+    JPopupMenu popupMenu = addPopupMenuToPanel();
+    assertThat(tracker.popupMenus()).contains(popupMenu);
+    assertThat(tracker.waitForChangeAfter(changeCount, 0)).isTrue();
+  }
+
+  @Test
+  public void should_time_out_if_nothing_changed() {
+    assertThat(tracker.waitForChangeAfter(tracker.changeCount(), 10)).isFalse();
+  }
+
+  private static JPopupMenu addPopupMenuToPanel() {
+    return execute(new GuiQuery<JPopupMenu>() {
+      @Override protected JPopupMenu executeInEDT() {
+        JPopupMenu popupMenu = new JPopupMenu();
+        new JPanel().add(popupMenu);
+        return popupMenu;
+      }
+    });
+  }
+}
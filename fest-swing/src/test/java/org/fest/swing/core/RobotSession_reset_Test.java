@@ -0,0 +1,47 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.swing.RepaintManager;
+
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link RobotSession#reset()}</code>.
+ */
+public class RobotSession_reset_Test extends EDTSafeTestCase {
+
+  private RepaintManager repaintManager;
+
+  @Before public void setUp() {
+    repaintManager = RepaintManager.currentManager(null);
+  }
+
+  @After public void tearDown() {
+    RepaintManager.setCurrentManager(repaintManager);
+  }
+
+  @Test
+  public void should_restore_RepaintManager_recorded_when_session_started() {
+    RobotSession session = RobotSession.start();
+    RepaintManager.setCurrentManager(new RepaintManager());
+    session.reset();
+    assertThat(RepaintManager.currentManager(null)).isSameAs(repaintManager);
+  }
+}
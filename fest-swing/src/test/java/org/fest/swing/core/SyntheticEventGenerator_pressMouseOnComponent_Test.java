@@ -0,0 +1,31 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+/**
+ * Tests for <code>{@link SyntheticEventGenerator#pressMouse(java.awt.Component, java.awt.Point, int)}</code> and
+ * <code>{@link SyntheticEventGenerator#releaseMouse(int)}</code>.
+ */
+public class SyntheticEventGenerator_pressMouseOnComponent_Test extends InputEventGenerator_pressMouseOnComponent_TestCase {
+
+  public SyntheticEventGenerator_pressMouseOnComponent_Test(MouseButton button) {
+    super(button);
+  }
+
+  @Override InputEventGenerator eventGenerator() {
+    return new SyntheticEventGenerator();
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.easymock.EasyMock.*;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.fest.mocks.EasyMockTemplate;
+import org.fest.swing.timing.*;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link TimedRobot#timed(Robot)}</code>.
+ */
+public class TimedRobot_timed_Test {
+
+  private Robot delegate;
+  private Robot robot;
+  private Listener listener;
+
+  @Before public void setUp() {
+    delegate = createMock(Robot.class);
+    robot = TimedRobot.timed(delegate);
+    listener = new Listener();
+    Timings.addListener(listener);
+  }
+
+  @After public void tearDown() {
+    Timings.removeListener(listener);
+  }
+
+  @Test
+  public void should_time_robot_actions_and_idle_waits() {
+    new EasyMockTemplate(delegate) {
+      @Override protected void expectations() {
+        delegate.pressKey(10);
+        expectLastCall().once();
+        delegate.waitForIdle();
+        expectLastCall().once();
+      }
+
+      @Override protected void codeToTest() {
+        robot.pressKey(10);
+        robot.waitForIdle();
+      }
+    }.run();
+    assertThat(listener.actions).containsExactly("ROBOT_ACTION:pressKey", "IDLE_WAIT:waitForIdle");
+  }
+
+  @Test
+  public void should_not_time_other_methods() {
+    new EasyMockTemplate(delegate) {
+      @Override protected void expectations() {
+        expect(delegate.isActive()).andReturn(true);
+      }
+
+      @Override protected void codeToTest() {
+        assertThat(robot.isActive()).isTrue();
+      }
+    }.run();
+    assertThat(listener.actions).isEmpty();
+  }
+
+  @Test
+  public void should_rethrow_exception_thrown_by_decorated_robot() {
+    final RuntimeException error = new RuntimeException("Thrown on purpose");
+    new EasyMockTemplate(delegate) {
+      @Override protected void expectations() {
+        delegate.releaseMouseButtons();
+        expectLastCall().andThrow(error);
+      }
+
+      @Override protected void codeToTest() {
+        try {
+          robot.releaseMouseButtons();
+          failWhenExpectingException();
+        } catch (RuntimeException e) {
+          assertThat(e).isSameAs(error);
+        }
+      }
+    }.run();
+    assertThat(listener.actions).containsOnly("ROBOT_ACTION:releaseMouseButtons");
+  }
+
+  @Test
+  public void should_implement_capabilities_of_decorated_robot() {
+    Robot popupMenuFinder = createMock(PopupMenuFinderRobot.class);
+    assertThat(TimedRobot.timed(popupMenuFinder)).isInstanceOf(PopupMenuFinder.class);
+    assertThat(robot instanceof PopupMenuFinder).isFalse();
+  }
+
+  @Test
+  public void should_forward_capabilities_to_decorated_robot() {
+    final PopupMenuFinderRobot delegate = createMock(PopupMenuFinderRobot.class);
+    final Robot robot = TimedRobot.timed(delegate);
+    new EasyMockTemplate(delegate) {
+      @Override protected void expectations() {
+        expect(delegate.findActivePopupMenu(100)).andReturn(null);
+      }
+
+      @Override protected void codeToTest() {
+        assertThat(((PopupMenuFinder)robot).findActivePopupMenu(100)).isNull();
+      }
+    }.run();
+  }
+
+  @Test
+  public void should_time_streamed_text() {
+    final TextStreamerRobot delegate = createMock(TextStreamerRobot.class);
+    final Robot robot = TimedRobot.timed(delegate);
+    new EasyMockTemplate(delegate) {
+      @Override protected void expectations() {
+        delegate.streamText("Hello");
+        expectLastCall().once();
+      }
+
+      @Override protected void codeToTest() {
+        ((TextStreamer)robot).streamText("Hello");
+      }
+    }.run();
+    assertThat(listener.actions).containsOnly("ROBOT_ACTION:streamText");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_robot_is_null() {
+    TimedRobot.timed(null);
+  }
+
+  private interface PopupMenuFinderRobot extends Robot, PopupMenuFinder {}
+
+  private interface TextStreamerRobot extends Robot, TextStreamer {}
+
+  private static class Listener implements TimingListener {
+    final List<String> actions = new ArrayList<String>();
+
+    public void actionTimed(TimedActionType type, String action, long durationInNanos) {
+      actions.add(type.name() + ":" + action);
+    }
+  }
+}
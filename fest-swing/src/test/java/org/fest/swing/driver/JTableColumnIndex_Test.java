@@ -0,0 +1,132 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.driver.JTableColumnIndex.*;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.util.regex.Pattern;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.fest.swing.util.*;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link JTableColumnIndex}</code>.
+ */
+public class JTableColumnIndex_Test extends EDTSafeTestCase {
+
+  @Test
+  public void should_find_cell_in_indexed_columns_only() {
+    TableCell found = execute(new GuiQuery<TableCell>() {
+      @Override protected TableCell executeInEDT() {
+        JTable table = new JTable(new DefaultTableModel(new Object[][] { { "a", "b" }, { "b", "c" } }, columns(2)));
+        indexColumns(table, new int[] { 1 });
+        return cellWithValue(table, "b", new CountingCellReader());
+      }
+    });
+    assertThat(found).isEqualTo(row(0).column(1));
+  }
+
+  @Test
+  public void should_read_each_indexed_cell_only_once() {
+    final CountingCellReader reader = new CountingCellReader();
+    TableCell found = execute(new GuiQuery<TableCell>() {
+      @Override protected TableCell executeInEDT() {
+        JTable table = new JTable(new DefaultTableModel(new Object[][] { { "a", "b" }, { "c", "d" } }, columns(2)));
+        indexColumns(table, new int[] { 0 });
+        cellWithValue(table, "a", reader);
+        return cellWithValue(table, "c", reader);
+      }
+    });
+    assertThat(found).isEqualTo(row(1).column(0));
+    assertThat(reader.readCount).isEqualTo(2);
+  }
+
+  @Test
+  public void should_reflect_updated_inserted_and_removed_rows() {
+    final CountingCellReader reader = new CountingCellReader();
+    TableCell[] found = execute(new GuiQuery<TableCell[]>() {
+      @Override protected TableCell[] executeInEDT() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] { { "a" }, { "b" }, { "c" } }, columns(1));
+        JTable table = new JTable(model);
+        indexColumns(table, new int[] { 0 });
+        cellWithValue(table, "a", reader);
+        model.setValueAt("e", 1, 0);
+        model.addRow(new Object[] { "d" });
+        model.removeRow(0);
+        return new TableCell[] {
+            cellWithValue(table, "b", reader), cellWithValue(table, "e", reader), cellWithValue(table, "d", reader) };
+      }
+    });
+    assertThat(found).isEqualTo(new TableCell[] { null, row(0).column(0), row(2).column(0) });
+  }
+
+  @Test
+  public void should_track_indexed_columns_when_moved() {
+    TableCell found = execute(new GuiQuery<TableCell>() {
+      @Override protected TableCell executeInEDT() {
+        JTable table = new JTable(new DefaultTableModel(new Object[][] { { "a", "b" }, { "c", "d" } }, columns(2)));
+        indexColumns(table, new int[] { 1 });
+        cellWithValue(table, "d", new CountingCellReader());
+        table.moveColumn(1, 0);
+        return cellWithValue(table, "d", new CountingCellReader());
+      }
+    });
+    assertThat(found).isEqualTo(row(1).column(0));
+  }
+
+  @Test
+  public void should_find_cell_matching_pattern() {
+    TableCell found = execute(new GuiQuery<TableCell>() {
+      @Override protected TableCell executeInEDT() {
+        JTable table = new JTable(new DefaultTableModel(new Object[][] { { "a1", "b1" }, { "a2", "b2" } }, columns(2)));
+        indexColumns(table, new int[] { 0, 1 });
+        return columnIndexOf(table).cellWithValue(new PatternTextMatcher(Pattern.compile("b.")), null,
+            new CountingCellReader());
+      }
+    });
+    assertThat(found).isEqualTo(row(0).column(1));
+  }
+
+  @RunsInEDT
+  private static TableCell cellWithValue(JTable table, String value, CountingCellReader reader) {
+    return columnIndexOf(table).cellWithValue(new StringTextMatcher(value), value, reader);
+  }
+
+  private static Object[] columns(int count) {
+    Object[] columns = new Object[count];
+    for (int i = 0; i < count; i++) columns[i] = String.valueOf(i);
+    return columns;
+  }
+
+  private static class CountingCellReader extends ModelValueJTableCellReader {
+    int readCount;
+
+    @RunsInEDT @Override public String valueAt(JTable table, int row, int column) {
+      readCount++;
+      return super.valueAt(table, row, column);
+    }
+  }
+}
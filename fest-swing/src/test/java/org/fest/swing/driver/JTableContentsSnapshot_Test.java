@@ -0,0 +1,144 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.fest.swing.util.StringTextMatcher;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link JTableContentsSnapshot}</code>.
+ */
+public class JTableContentsSnapshot_Test extends EDTSafeTestCase {
+
+  @Test
+  public void should_read_each_cell_only_once() {
+    final CountingCellReader reader = new CountingCellReader();
+    int readCount = execute(new GuiQuery<Integer>() {
+      @Override protected Integer executeInEDT() {
+        JTable table = new JTable(new DefaultTableModel(new Object[][] { { "a", "b" }, { "c", "d" } }, columns(2)));
+        JTableContentsSnapshot snapshot = JTableContentsSnapshot.snapshotOf(table, reader);
+        snapshot.contents();
+        snapshot.contents();
+        snapshot.valueAt(1, 1);
+        return reader.readCount;
+      }
+    });
+    assertThat(readCount).isEqualTo(4);
+  }
+
+  @Test
+  public void should_read_again_only_updated_rows() {
+    final CountingCellReader reader = new CountingCellReader();
+    String[][] contents = execute(new GuiQuery<String[][]>() {
+      @Override protected String[][] executeInEDT() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] { { "a", "b" }, { "c", "d" } }, columns(2));
+        JTable table = new JTable(model);
+        JTableContentsSnapshot snapshot = JTableContentsSnapshot.snapshotOf(table, reader);
+        snapshot.contents();
+        model.setValueAt("e", 1, 0);
+        return snapshot.contents();
+      }
+    });
+    assertThat(contents).isEqualTo(new String[][] { { "a", "b" }, { "e", "d" } });
+    assertThat(reader.readCount).isEqualTo(6);
+  }
+
+  @Test
+  public void should_reflect_inserted_and_removed_rows() {
+    final CountingCellReader reader = new CountingCellReader();
+    String[][] contents = execute(new GuiQuery<String[][]>() {
+      @Override protected String[][] executeInEDT() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] { { "a" }, { "b" }, { "c" } }, columns(1));
+        JTable table = new JTable(model);
+        JTableContentsSnapshot snapshot = JTableContentsSnapshot.snapshotOf(table, reader);
+        snapshot.contents();
+        model.removeRow(0);
+        model.addRow(new Object[] { "d" });
+        return snapshot.contents();
+      }
+    });
+    assertThat(contents).isEqualTo(new String[][] { { "b" }, { "c" }, { "d" } });
+  }
+
+  @Test
+  public void should_be_discarded_when_model_changes() {
+    final CountingCellReader reader = new CountingCellReader();
+    String[][] contents = execute(new GuiQuery<String[][]>() {
+      @Override protected String[][] executeInEDT() {
+        JTable table = new JTable(new DefaultTableModel(new Object[][] { { "a" } }, columns(1)));
+        JTableContentsSnapshot snapshot = JTableContentsSnapshot.snapshotOf(table, reader);
+        snapshot.contents();
+        table.setModel(new DefaultTableModel(new Object[][] { { "b" }, { "c" } }, columns(1)));
+        return snapshot.contents();
+      }
+    });
+    assertThat(contents).isEqualTo(new String[][] { { "b" }, { "c" } });
+  }
+
+  @Test
+  public void should_not_be_discarded_when_columns_are_indexed() {
+    final CountingCellReader reader = new CountingCellReader();
+    int readCount = execute(new GuiQuery<Integer>() {
+      @Override protected Integer executeInEDT() {
+        JTable table = new JTable(new DefaultTableModel(new Object[][] { { "a", "b" }, { "c", "d" } }, columns(2)));
+        JTableContentsSnapshot snapshot = JTableContentsSnapshot.snapshotOf(table, reader);
+        snapshot.contents();
+        JTableColumnIndex.indexColumns(table, new int[] { 0 });
+        snapshot.contents();
+        return reader.readCount;
+      }
+    });
+    assertThat(readCount).isEqualTo(4);
+  }
+
+  @Test
+  public void should_find_cell_with_matching_value() {
+    TableCell found = execute(new GuiQuery<TableCell>() {
+      @Override protected TableCell executeInEDT() {
+        JTable table = new JTable(new DefaultTableModel(new Object[][] { { "a", "b" }, { "c", "d" } }, columns(2)));
+        return JTableContentsSnapshot.snapshotOf(table, new CountingCellReader()).cellWithValue(
+            new StringTextMatcher("d"));
+      }
+    });
+    assertThat(found).isEqualTo(row(1).column(1));
+  }
+
+  private static Object[] columns(int count) {
+    Object[] columns = new Object[count];
+    for (int i = 0; i < count; i++) columns[i] = String.valueOf(i);
+    return columns;
+  }
+
+  private static class CountingCellReader extends ModelValueJTableCellReader {
+    int readCount;
+
+    @RunsInEDT @Override public String valueAt(JTable table, int row, int column) {
+      readCount++;
+      return super.valueAt(table, row, column);
+    }
+  }
+}
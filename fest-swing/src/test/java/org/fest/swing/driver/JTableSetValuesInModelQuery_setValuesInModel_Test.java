@@ -0,0 +1,85 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.driver.JTableSetValuesInModelQuery.setValuesInModel;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Collections.list;
+
+import java.util.*;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link JTableSetValuesInModelQuery#setValuesInModel(JTable, List, Map)}</code>.
+ */
+public class JTableSetValuesInModelQuery_setValuesInModel_Test extends SequentialEDTSafeTestCase {
+
+  private DefaultTableModel model;
+  private JTable table;
+
+  @Override protected void onSetUp() {
+    model = new DefaultTableModel(new Object[][] { { "a", 1 }, { "b", 2 } }, new Object[] { "name", "count" }) {
+      private static final long serialVersionUID = 1L;
+
+      @Override public Class<?> getColumnClass(int column) {
+        return column == 1 ? Integer.class : String.class;
+      }
+    };
+    table = execute(new GuiQuery<JTable>() {
+      @Override protected JTable executeInEDT() {
+        return new JTable(model);
+      }
+    });
+  }
+
+  @Test
+  public void should_set_values_converted_to_column_class() {
+    TableCell name = row(0).column(0);
+    TableCell count = row(0).column(1);
+    Map<TableCell, String> values = new HashMap<TableCell, String>();
+    values.put(name, "c");
+    values.put(count, "3");
+    List<String> failures = setValuesInModel(table, list(name, count), values);
+    assertThat(failures).isEmpty();
+    assertThat(model.getValueAt(0, 0)).isEqualTo("c");
+    assertThat(model.getValueAt(0, 1)).isEqualTo(3);
+  }
+
+  @Test
+  public void should_report_failures_and_set_other_values() {
+    TableCell count = row(1).column(1);
+    TableCell name = row(1).column(0);
+    TableCell outOfBounds = row(8).column(0);
+    Map<TableCell, String> values = new HashMap<TableCell, String>();
+    values.put(count, "many");
+    values.put(name, "d");
+    values.put(outOfBounds, "e");
+    List<String> failures = setValuesInModel(table, list(count, name, outOfBounds), values);
+    assertThat(failures).hasSize(2);
+    assertThat(failures.get(0)).startsWith(count.toString());
+    assertThat(failures.get(1)).startsWith(outOfBounds.toString());
+    assertThat(model.getValueAt(1, 0)).isEqualTo("d");
+  }
+}
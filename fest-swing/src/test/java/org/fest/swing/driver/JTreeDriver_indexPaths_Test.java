@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.swing.JTree;
+
+import org.fest.swing.cell.JTreeCellReader;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link JTreeDriver#indexPaths(boolean)}</code>.
+ */
+public class JTreeDriver_indexPaths_Test extends JTreeDriver_TestCase {
+
+  @Test
+  public void should_share_index_between_drivers_using_default_cell_reader() {
+    JTreeDriver otherDriver = new JTreeDriver(robot);
+    assertThat(otherDriver.cellReader()).isSameAs(driver.cellReader());
+  }
+
+  @Test
+  public void should_read_children_only_once_when_two_drivers_look_up_paths_in_same_tree() {
+    CountingCellReader cellReader = new CountingCellReader();
+    JTreeDriver otherDriver = new JTreeDriver(robot);
+    for (JTreeDriver d : new JTreeDriver[] { driver, otherDriver }) {
+      d.cellReader(cellReader);
+      d.indexPaths(true);
+    }
+    driver.validatePath(tree, "root/branch1/branch1.1");
+    int reads = cellReader.reads;
+    otherDriver.validatePath(tree, "root/branch1/branch1.1");
+    assertThat(cellReader.reads).isEqualTo(reads + 1); // only the root is read again
+  }
+
+  @Test
+  public void should_read_children_every_time_if_paths_are_not_indexed() {
+    CountingCellReader cellReader = new CountingCellReader();
+    driver.cellReader(cellReader);
+    driver.validatePath(tree, "root/branch1/branch1.1");
+    int reads = cellReader.reads;
+    driver.validatePath(tree, "root/branch1/branch1.1");
+    assertThat(cellReader.reads).isEqualTo(reads * 2);
+  }
+
+  private static class CountingCellReader implements JTreeCellReader {
+    private final JTreeCellReader delegate = new BasicJTreeCellReader();
+    int reads;
+
+    public String valueAt(JTree tree, Object modelValue) {
+      reads++;
+      return delegate.valueAt(tree, modelValue);
+    }
+  }
+}
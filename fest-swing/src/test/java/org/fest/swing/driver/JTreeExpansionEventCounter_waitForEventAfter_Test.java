@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JTree;
+import javax.swing.tree.*;
+
+import org.fest.swing.edt.*;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link JTreeExpansionEventCounter#waitForEventAfter(int, long)}</code>.
+ */
+public class JTreeExpansionEventCounter_waitForEventAfter_Test extends SequentialEDTSafeTestCase {
+
+  private DefaultMutableTreeNode root;
+  private DefaultTreeModel model;
+  private JTreeExpansionEventCounter counter;
+
+  @Override protected void onSetUp() {
+    root = new DefaultMutableTreeNode("root");
+    model = new DefaultTreeModel(root);
+    counter = execute(new GuiQuery<JTreeExpansionEventCounter>() {
+      @Override protected JTreeExpansionEventCounter executeInEDT() {
+        return JTreeExpansionEventCounter.attachTo(new JTree(model));
+      }
+    });
+  }
+
+  @Override protected void onTearDown() {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        counter.detach();
+      }
+    });
+  }
+
+  @Test
+  public void should_return_true_when_model_changes() {
+    final int count = counter.count();
+    Thread loader = new Thread() {
+      @Override public void run() {
+        execute(new GuiTask() {
+          @Override protected void executeInEDT() {
+            model.insertNodeInto(new DefaultMutableTreeNode("child"), root, 0);
+          }
+        });
+      }
+    };
+    loader.start();
+    assertThat(counter.waitForEventAfter(count, 5000)).isTrue();
+  }
+
+  @Test
+  public void should_return_false_if_no_event_is_fired_in_time() {
+    assertThat(counter.waitForEventAfter(counter.count(), 10)).isFalse();
+  }
+}
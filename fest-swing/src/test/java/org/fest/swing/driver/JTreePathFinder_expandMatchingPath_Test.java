@@ -0,0 +1,145 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Arrays.array;
+
+import javax.swing.JTree;
+import javax.swing.event.*;
+import javax.swing.tree.*;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.*;
+import org.fest.swing.exception.LocationUnavailableException;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.fest.swing.util.Pair;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link JTreePathFinder#expandMatchingPath(JTree, String)}</code>.
+ */
+public class JTreePathFinder_expandMatchingPath_Test extends SequentialEDTSafeTestCase {
+
+  private DefaultMutableTreeNode root;
+  private DefaultMutableTreeNode branch;
+  private DefaultMutableTreeNode leaf;
+  private DefaultTreeModel model;
+  private JTree tree;
+  private JTreePathFinder finder;
+
+  @Override protected void onSetUp() {
+    root = new DefaultMutableTreeNode("root");
+    branch = new DefaultMutableTreeNode("branch");
+    leaf = new DefaultMutableTreeNode("leaf");
+    root.add(branch);
+    branch.add(leaf);
+    model = new DefaultTreeModel(root, true);
+    tree = execute(new GuiQuery<JTree>() {
+      @Override protected JTree executeInEDT() {
+        JTree tree = new JTree(model);
+        tree.collapseRow(0);
+        return tree;
+      }
+    });
+    finder = new JTreePathFinder();
+  }
+
+  @Test
+  public void should_expand_ancestors_of_matching_path() {
+    Pair<TreePath, Boolean> result = expandMatchingPath("root/branch/leaf");
+    assertThat(result.ii).isTrue();
+    assertThat(result.i.getPath()).isEqualTo(array(root, branch, leaf));
+    assertThat(isExpanded(new TreePath(array(root, branch)))).isTrue();
+  }
+
+  @Test
+  public void should_include_invisible_root_in_matching_path() {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        tree.setRootVisible(false);
+      }
+    });
+    assertThat(expandMatchingPath("branch/leaf").i.getPath()).isEqualTo(array(root, branch, leaf));
+  }
+
+  @Test
+  public void should_find_children_loaded_when_parent_is_expanded() {
+    final DefaultMutableTreeNode lazyLeaf = new DefaultMutableTreeNode("lazyLeaf");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        tree.addTreeWillExpandListener(new TreeWillExpandListener() {
+          public void treeWillExpand(TreeExpansionEvent event) {
+            if (event.getPath().getLastPathComponent() == branch) model.insertNodeInto(lazyLeaf, branch, 1);
+          }
+
+          public void treeWillCollapse(TreeExpansionEvent event) {}
+        });
+      }
+    });
+    Pair<TreePath, Boolean> result = expandMatchingPath("root/branch/lazyLeaf");
+    assertThat(result.ii).isTrue();
+    assertThat(result.i.getLastPathComponent()).isSameAs(lazyLeaf);
+  }
+
+  @Test
+  public void should_return_deepest_node_found_if_its_children_are_not_loaded_yet() {
+    final DefaultMutableTreeNode lazyBranch = new DefaultMutableTreeNode("lazyBranch", true);
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        model.insertNodeInto(lazyBranch, root, 1);
+      }
+    });
+    Pair<TreePath, Boolean> result = expandMatchingPath("root/lazyBranch/child");
+    assertThat(result.ii).isFalse();
+    assertThat(result.i.getPath()).isEqualTo(array(root, lazyBranch));
+  }
+
+  @Test(expected = LocationUnavailableException.class)
+  public void should_throw_error_if_path_goes_through_leaf() {
+    final DefaultMutableTreeNode realLeaf = new DefaultMutableTreeNode("realLeaf", false);
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        model.insertNodeInto(realLeaf, branch, 1);
+      }
+    });
+    expandMatchingPath("root/branch/realLeaf/child");
+  }
+
+  @Test(expected = LocationUnavailableException.class)
+  public void should_throw_error_if_loaded_children_do_not_match() {
+    expandMatchingPath("root/branch/someLeaf");
+  }
+
+  @RunsInEDT
+  private Pair<TreePath, Boolean> expandMatchingPath(final String path) {
+    return execute(new GuiQuery<Pair<TreePath, Boolean>>() {
+      @Override protected Pair<TreePath, Boolean> executeInEDT() {
+        return finder.expandMatchingPath(tree, path);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private boolean isExpanded(final TreePath path) {
+    return execute(new GuiQuery<Boolean>() {
+      @Override protected Boolean executeInEDT() {
+        return tree.isExpanded(path);
+      }
+    });
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Arrays.array;
+
+import javax.swing.JTree;
+import javax.swing.tree.*;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTreeCellReader;
+import org.fest.swing.edt.*;
+import org.fest.swing.exception.LocationUnavailableException;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link JTreePathFinder#findMatchingPath(JTree, String)}</code>.
+ */
+public class JTreePathFinder_findMatchingPath_Test extends SequentialEDTSafeTestCase {
+
+  private DefaultMutableTreeNode root;
+  private DefaultMutableTreeNode branch;
+  private DefaultMutableTreeNode leaf;
+  private DefaultTreeModel model;
+  private JTree tree;
+  private CountingCellReader cellReader;
+  private JTreePathFinder finder;
+
+  @Override protected void onSetUp() {
+    root = new DefaultMutableTreeNode("root");
+    branch = new DefaultMutableTreeNode("branch");
+    leaf = new DefaultMutableTreeNode("leaf");
+    root.add(branch);
+    branch.add(leaf);
+    model = new DefaultTreeModel(root);
+    tree = execute(new GuiQuery<JTree>() {
+      @Override protected JTree executeInEDT() {
+        return new JTree(model);
+      }
+    });
+    cellReader = new CountingCellReader();
+    finder = newFinder();
+  }
+
+  @Test
+  public void should_find_path_including_visible_root() {
+    assertThat(findMatchingPath("root/branch/leaf").getPath()).isEqualTo(array(root, branch, leaf));
+  }
+
+  @Test
+  public void should_find_path_without_invisible_root() {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        tree.setRootVisible(false);
+      }
+    });
+    assertThat(findMatchingPath("branch/leaf").getPath()).isEqualTo(array(branch, leaf));
+  }
+
+  @Test
+  public void should_read_children_only_once() {
+    findMatchingPath("root/branch/leaf");
+    int reads = cellReader.reads;
+    findMatchingPath("root/branch/leaf");
+    assertThat(cellReader.reads).isEqualTo(reads + 1); // only the root is read again
+  }
+
+  @Test
+  public void should_share_index_with_finders_using_same_cell_reader() {
+    findMatchingPath("root/branch/leaf");
+    int reads = cellReader.reads;
+    finder = newFinder();
+    findMatchingPath("root/branch/leaf");
+    assertThat(cellReader.reads).isEqualTo(reads + 1); // only the root is read again
+  }
+
+  @Test
+  public void should_read_children_again_if_cell_reader_changes() {
+    findMatchingPath("root/branch/leaf");
+    CountingCellReader newCellReader = new CountingCellReader();
+    finder.cellReader(newCellReader);
+    findMatchingPath("root/branch/leaf");
+    assertThat(newCellReader.reads).isEqualTo(3);
+  }
+
+  @Test
+  public void should_find_renamed_node() {
+    findMatchingPath("root/branch/leaf");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        model.valueForPathChanged(new TreePath(array(root, branch, leaf)), "renamed");
+      }
+    });
+    assertThat(findMatchingPath("root/branch/renamed").getLastPathComponent()).isSameAs(leaf);
+  }
+
+  @Test
+  public void should_find_inserted_node() {
+    findMatchingPath("root/branch/leaf");
+    final DefaultMutableTreeNode newLeaf = new DefaultMutableTreeNode("newLeaf");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        model.insertNodeInto(newLeaf, branch, 1);
+      }
+    });
+    assertThat(findMatchingPath("root/branch/newLeaf").getLastPathComponent()).isSameAs(newLeaf);
+  }
+
+  @Test(expected = LocationUnavailableException.class)
+  public void should_throw_error_if_removed_node_is_not_found() {
+    findMatchingPath("root/branch/leaf");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        model.removeNodeFromParent(branch);
+      }
+    });
+    findMatchingPath("root/branch/leaf");
+  }
+
+  @Test(expected = LocationUnavailableException.class)
+  public void should_throw_error_if_more_than_one_node_matches() {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        model.insertNodeInto(new DefaultMutableTreeNode("branch"), root, 1);
+      }
+    });
+    findMatchingPath("root/branch");
+  }
+
+  @Test
+  public void should_share_default_cell_reader_between_finders() {
+    assertThat(new JTreePathFinder().cellReader()).isSameAs(new JTreePathFinder().cellReader());
+  }
+
+  @Test
+  public void should_find_node_added_without_notifying_model_if_paths_are_not_indexed() {
+    finder.indexPaths(false);
+    findMatchingPath("root/branch/leaf");
+    final DefaultMutableTreeNode newLeaf = new DefaultMutableTreeNode("newLeaf");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        branch.add(newLeaf);
+      }
+    });
+    assertThat(findMatchingPath("root/branch/newLeaf").getLastPathComponent()).isSameAs(newLeaf);
+  }
+
+  @Test
+  public void should_find_node_added_without_notifying_model_after_index_is_discarded() {
+    findMatchingPath("root/branch/leaf");
+    final DefaultMutableTreeNode newLeaf = new DefaultMutableTreeNode("newLeaf");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        branch.add(newLeaf);
+        JTreePathIndex.discardIndexOf(tree);
+      }
+    });
+    assertThat(findMatchingPath("root/branch/newLeaf").getLastPathComponent()).isSameAs(newLeaf);
+  }
+
+  private JTreePathFinder newFinder() {
+    JTreePathFinder newFinder = new JTreePathFinder();
+    newFinder.cellReader(cellReader);
+    newFinder.indexPaths(true);
+    return newFinder;
+  }
+
+  @RunsInEDT
+  private TreePath findMatchingPath(final String path) {
+    return execute(new GuiQuery<TreePath>() {
+      @Override protected TreePath executeInEDT() {
+        return finder.findMatchingPath(tree, path);
+      }
+    });
+  }
+
+  private static class CountingCellReader implements JTreeCellReader {
+    int reads;
+
+    public String valueAt(JTree tree, Object modelValue) {
+      reads++;
+      return modelValue.toString();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.*;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.*;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ModelJListCellReader#valueAt(JList, int)}</code>.
+ */
+public class ModelJListCellReader_valueAt_Test extends SequentialEDTSafeTestCase {
+
+  private DefaultListModel model;
+  private JList list;
+  private CountingConverter converter;
+  private ModelJListCellReader reader;
+
+  @Override protected void onSetUp() {
+    model = new DefaultListModel();
+    list = execute(new GuiQuery<JList>() {
+      @Override protected JList executeInEDT() {
+        model.addElement("One");
+        model.addElement("Two");
+        return new JList(model);
+      }
+    });
+    converter = new CountingConverter();
+    reader = new ModelJListCellReader(converter);
+  }
+
+  @Test
+  public void should_convert_model_value() {
+    assertThat(valueAt(1)).isEqualTo("TWO");
+  }
+
+  @Test
+  public void should_convert_model_value_only_once() {
+    valueAt(1);
+    valueAt(1);
+    assertThat(converter.conversions).isEqualTo(1);
+  }
+
+  @Test
+  public void should_convert_model_value_again_after_model_changes() {
+    valueAt(0);
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        model.set(0, "Three");
+      }
+    });
+    assertThat(valueAt(0)).isEqualTo("THREE");
+  }
+
+  @Test
+  public void should_read_shifted_values_after_element_is_removed() {
+    valueAt(0);
+    valueAt(1);
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        model.remove(0);
+      }
+    });
+    assertThat(valueAt(0)).isEqualTo("TWO");
+  }
+
+  @Test
+  public void should_use_toString_by_default() {
+    reader = new ModelJListCellReader();
+    assertThat(valueAt(0)).isEqualTo("One");
+  }
+
+  @RunsInEDT
+  private String valueAt(final int index) {
+    return execute(new GuiQuery<String>() {
+      @Override protected String executeInEDT() {
+        return reader.valueAt(list, index);
+      }
+    });
+  }
+
+  private static class CountingConverter implements ModelValueConverter {
+    int conversions;
+
+    public String textFrom(Object modelValue) {
+      conversions++;
+      return modelValue.toString().toUpperCase();
+    }
+  }
+}
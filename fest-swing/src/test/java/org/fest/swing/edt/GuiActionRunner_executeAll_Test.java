@@ -0,0 +1,140 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.edt;
+
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+
+import java.util.*;
+
+import org.fest.swing.exception.UnexpectedException;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link GuiActionRunner#executeAll(GuiAction...)}</code>.
+ */
+public class GuiActionRunner_executeAll_Test extends SequentialEDTSafeTestCase {
+
+  @Override protected final void onSetUp() {
+    GuiActionRunner.executeInEDT(true);
+  }
+
+  @Test
+  public void should_execute_all_actions_in_order_in_EDT() {
+    final List<String> executed = new ArrayList<String>();
+    GuiQuery<Boolean> first = new GuiQuery<Boolean>() {
+      @Override protected Boolean executeInEDT() {
+        executed.add("first");
+        return isEventDispatchThread();
+      }
+    };
+    GuiTask second = new GuiTask() {
+      @Override protected void executeInEDT() {
+        executed.add("second");
+      }
+    };
+    GuiQuery<String> third = new GuiQuery<String>() {
+      @Override protected String executeInEDT() {
+        executed.add("third");
+        return "Hello";
+      }
+    };
+    GuiActionResults results = GuiActionRunner.executeAll(first, second, third);
+    assertThat(executed).containsExactly("first", "second", "third");
+    assertThat(results.resultOf(first)).isTrue();
+    assertThat(results.resultOf(third)).isEqualTo("Hello");
+    assertThat(results.hasExceptions()).isFalse();
+  }
+
+  @Test
+  public void should_execute_remaining_actions_and_report_exceptions_together() {
+    final RuntimeException error = new RuntimeException("Thrown on purpose");
+    GuiTask failing = new GuiTask() {
+      @Override protected void executeInEDT() {
+        throw error;
+      }
+    };
+    GuiQuery<String> query = new GuiQuery<String>() {
+      @Override protected String executeInEDT() {
+        return "Hello";
+      }
+    };
+    GuiActionResults results = GuiActionRunner.executeAll(failing, query);
+    assertThat(results.hasExceptions()).isTrue();
+    assertThat(results.exceptionOf(failing)).isSameAs(error);
+    assertThat(results.exceptionOf(query)).isNull();
+    assertThat(results.resultOf(query)).isEqualTo("Hello");
+    try {
+      results.rethrowFirstException();
+      failWhenExpectingException();
+    } catch (RuntimeException e) {
+      assertThat(e).isSameAs(error);
+    }
+  }
+
+  @Test
+  public void should_execute_all_actions_in_current_thread() {
+    GuiQuery<Boolean> query = new GuiQuery<Boolean>() {
+      @Override protected Boolean executeInEDT() {
+        return isEventDispatchThread();
+      }
+    };
+    GuiActionRunner.executeInEDT(false);
+    try {
+      GuiActionResults results = GuiActionRunner.executeAll(query);
+      assertThat(results.resultOf(query)).isFalse();
+    } finally {
+      GuiActionRunner.executeInEDT(true);
+    }
+  }
+
+  @Test
+  public void should_wrap_exceptions_thrown_in_current_thread_like_execute_does() {
+    final Exception error = new Exception("Thrown on purpose");
+    GuiQuery<String> query = new GuiQuery<String>() {
+      @Override protected String executeInEDT() throws Exception {
+        throw error;
+      }
+    };
+    GuiActionRunner.executeInEDT(false);
+    try {
+      GuiActionResults results = GuiActionRunner.executeAll(query);
+      Throwable thrown = results.exceptionOf(query);
+      assertThat(thrown).isInstanceOf(UnexpectedException.class);
+      assertThat(thrown.getCause()).isSameAs(error);
+    } finally {
+      GuiActionRunner.executeInEDT(true);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_action_was_not_part_of_batch() {
+    GuiTask task = new GuiTask() {
+      @Override protected void executeInEDT() {}
+    };
+    GuiActionResults results = GuiActionRunner.executeAll(task);
+    results.exceptionOf(new GuiTask() {
+      @Override protected void executeInEDT() {}
+    });
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_array_of_actions_is_null() {
+    GuiActionRunner.executeAll((GuiAction[])null);
+  }
+}
@@ -470,6 +470,35 @@ public class JTableFixtureTest extends JTableFixture_TestCase {
     }.run();
   }
 
+  @Test
+  public void shouldEnterBlockOfValues() {
+    final String[][] values = { { "Hello", "World" } };
+    new EasyMockTemplate(driver()) {
+      @Override protected void expectations() {
+        driver().enterValues(target(), cell, values);
+        expectLastCall().once();
+      }
+
+      @Override protected void codeToTest() {
+        assertThatReturnsSelf(fixture().enterValues(cell, values));
+      }
+    }.run();
+  }
+
+  @Test
+  public void shouldEnterValuesThroughModelInDriver() {
+    new EasyMockTemplate(driver()) {
+      @Override protected void expectations() {
+        driver().enterValuesThroughModel(true);
+        expectLastCall().once();
+      }
+
+      @Override protected void codeToTest() {
+        assertThatReturnsSelf(fixture().enterValuesThroughModel(true));
+      }
+    }.run();
+  }
+
   @Test
   public void shouldReturnCell() {
     new EasyMockTemplate(driver()) {
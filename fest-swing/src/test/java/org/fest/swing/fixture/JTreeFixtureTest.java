@@ -384,6 +384,20 @@ public class JTreeFixtureTest extends JTreeFixture_TestCase {
     }.run();
   }
 
+  @Test
+  public void shouldSetBulkExpansionInDriver() {
+    new EasyMockTemplate(driver()) {
+      @Override protected void expectations() {
+        driver().bulkExpansion(true);
+        expectLastCall().once();
+      }
+
+      @Override protected void codeToTest() {
+        assertThatReturnsSelf(fixture().bulkExpansion(true));
+      }
+    }.run();
+  }
+
   @Test
   public void shouldShowPopupMenuAtRow() {
     final int row = 0;
@@ -0,0 +1,80 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.format;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+
+import javax.swing.JComboBox;
+
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Formatting#register(ComponentFormatter)}</code>.
+ */
+public class Formatting_register_Test extends EDTSafeTestCase {
+
+  private MyComboBox comboBox;
+
+  @Before
+  public void setUp() {
+    comboBox = execute(new GuiQuery<MyComboBox>() {
+      @Override protected MyComboBox executeInEDT() {
+        return new MyComboBox();
+      }
+    });
+  }
+
+  @After
+  public void tearDown() {
+    Formatting.restoreDefaultFormatters();
+  }
+
+  @Test
+  public void should_use_formatter_registered_after_formatting_component_of_same_type() {
+    assertThat(Formatting.format(comboBox)).startsWith(MyComboBox.class.getName());
+    Formatting.register(new ComponentFormatterTemplate() {
+      @Override protected String doFormat(Component c) { return "MyComboBox"; }
+
+      public Class<? extends Component> targetType() {
+        return MyComboBox.class;
+      }
+    });
+    assertThat(Formatting.format(comboBox)).isEqualTo("MyComboBox");
+  }
+
+  @Test
+  public void should_use_inherited_formatter_after_restoring_default_formatters() {
+    Formatting.register(new ComponentFormatterTemplate() {
+      @Override protected String doFormat(Component c) { return "MyComboBox"; }
+
+      public Class<? extends Component> targetType() {
+        return MyComboBox.class;
+      }
+    });
+    assertThat(Formatting.format(comboBox)).isEqualTo("MyComboBox");
+    Formatting.restoreDefaultFormatters();
+    assertThat(Formatting.format(comboBox)).isEqualTo(new JComboBoxFormatter().format(comboBox));
+  }
+
+  static class MyComboBox extends JComboBox {
+    private static final long serialVersionUID = 1L;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.format;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.awt.Component;
+
+import javax.swing.JComboBox;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Formatting#restoreDefaultFormatters()}</code>
+ */
+public class Formatting_restoreDefaultFormatters_Test {
+
+  private ComponentFormatter defaultFormatter;
+
+  @Before
+  public void setUp() {
+    defaultFormatter = Formatting.formatter(JComboBox.class);
+  }
+
+  @After
+  public void tearDown() {
+    Formatting.register(defaultFormatter);
+  }
+
+  @Test
+  public void should_replace_registered_formatter_with_default_one() {
+    Formatting.register(new ComponentFormatterTemplate() {
+      @Override protected String doFormat(Component c) { return null; }
+
+      public Class<? extends Component> targetType() {
+        return JComboBox.class;
+      }
+    });
+    Formatting.restoreDefaultFormatters();
+    assertThat(Formatting.formatter(JComboBox.class)).isInstanceOf(JComboBoxFormatter.class);
+  }
+}
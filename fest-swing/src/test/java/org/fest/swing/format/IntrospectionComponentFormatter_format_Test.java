@@ -54,6 +54,12 @@ public class IntrospectionComponentFormatter_format_Test extends EDTSafeTestCase
                          .contains("text='Click Me'");
   }
 
+  @Test
+  public void should_format_property_listed_more_than_once() {
+    IntrospectionComponentFormatter formatter = new IntrospectionComponentFormatter(JButton.class, "text", "text");
+    assertThat(formatter.format(button)).isEqualTo("javax.swing.JButton[text='Click Me', text='Click Me']");
+  }
+
   @Test
   public void should_format_property_showing() {
     IntrospectionComponentFormatter formatter = new IntrospectionComponentFormatter(JButton.class, "showing");
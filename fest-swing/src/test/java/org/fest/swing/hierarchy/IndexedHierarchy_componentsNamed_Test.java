@@ -0,0 +1,148 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.hierarchy;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.*;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.*;
+import java.util.*;
+
+import javax.swing.*;
+
+import org.fest.swing.edt.*;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link IndexedHierarchy#componentsNamed(String)}</code> and
+ * <code>{@link IndexedHierarchy#componentsOfType(Class)}</code>.
+ */
+public class IndexedHierarchy_componentsNamed_Test extends SequentialEDTSafeTestCase {
+
+  private JPanel root;
+  private JButton button;
+  private IndexedHierarchy hierarchy;
+
+  @Override protected final void onSetUp() {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        root = new JPanel();
+        button = new JButton();
+        button.setName("ok");
+        JPanel panel = new JPanel();
+        panel.add(button);
+        root.add(panel);
+      }
+    });
+    hierarchy = new IndexedHierarchy(new PanelHierarchy(root));
+  }
+
+  @Override protected final void onTearDown() {
+    hierarchy.stopIndexing();
+  }
+
+  @Test
+  public void should_find_existing_Component_by_name_and_type() {
+    assertThat(componentsNamed("ok")).containsOnly(button);
+    assertThat(componentsOfType(AbstractButton.class)).containsOnly(button);
+  }
+
+  @Test
+  public void should_find_Component_added_after_index_was_built() {
+    componentsNamed("ok");
+    JCheckBox checkBox = execute(new GuiQuery<JCheckBox>() {
+      @Override protected JCheckBox executeInEDT() {
+        JCheckBox c = new JCheckBox();
+        c.setName("check");
+        root.add(c);
+        return c;
+      }
+    });
+    assertThat(componentsNamed("check")).containsOnly(checkBox);
+    assertThat(componentsOfType(AbstractButton.class)).containsOnly(button, checkBox);
+  }
+
+  @Test
+  public void should_find_Component_renamed_after_index_was_built() {
+    componentsNamed("ok");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        button.setName("cancel");
+      }
+    });
+    assertThat(componentsNamed("ok")).isEmpty();
+    assertThat(componentsNamed("cancel")).containsOnly(button);
+  }
+
+  @Test
+  public void should_build_index_again_after_indexing_was_stopped() {
+    componentsNamed("ok");
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {
+        hierarchy.stopIndexing();
+        button.setName("cancel");
+      }
+    });
+    assertThat(componentsNamed("ok")).isEmpty();
+    assertThat(componentsNamed("cancel")).containsOnly(button);
+  }
+
+  private Collection<Component> componentsNamed(final String name) {
+    return execute(new GuiQuery<Collection<Component>>() {
+      @Override protected Collection<Component> executeInEDT() {
+        return hierarchy.componentsNamed(name);
+      }
+    });
+  }
+
+  private Collection<Component> componentsOfType(final Class<?> type) {
+    return execute(new GuiQuery<Collection<Component>>() {
+      @Override protected Collection<Component> executeInEDT() {
+        return hierarchy.componentsOfType(type);
+      }
+    });
+  }
+
+  private static class PanelHierarchy implements ComponentHierarchy {
+    private final Container root;
+
+    PanelHierarchy(Container root) {
+      this.root = root;
+    }
+
+    public Collection<? extends Container> roots() {
+      return singletonList(root);
+    }
+
+    public Collection<Component> childrenOf(Component c) {
+      if (!(c instanceof Container)) return emptyList();
+      return asList(((Container)c).getComponents());
+    }
+
+    public Container parentOf(Component c) {
+      return c.getParent();
+    }
+
+    public boolean contains(Component c) {
+      return true;
+    }
+
+    public void dispose(Window w) {}
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fest.swing.image.BackgroundImageWriter.ImageWriteTask;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link BackgroundImageWriter#flush(long)}</code>.
+ */
+public class BackgroundImageWriter_flush_Test {
+
+  private BackgroundImageWriter writer;
+
+  @Before public void setUp() {
+    writer = BackgroundImageWriter.instance();
+  }
+
+  @Test
+  public void should_wait_until_pending_images_are_written() {
+    final AtomicInteger written = new AtomicInteger();
+    for (int i = 0; i < 20; i++) {
+      writer.write(new ImageWriteTask() {
+        public void write() throws Exception {
+          Thread.sleep(10);
+          written.incrementAndGet();
+        }
+      }, "image.png");
+    }
+    assertThat(writer.flush(10000)).isTrue();
+    assertThat(written.get()).isEqualTo(20);
+    assertThat(writer.pendingCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_time_out_if_images_are_not_written_in_time() {
+    final CountDownLatch release = new CountDownLatch(1);
+    writer.write(new ImageWriteTask() {
+      public void write() throws Exception {
+        release.await();
+      }
+    }, "image.png");
+    try {
+      assertThat(writer.flush(100)).isFalse();
+    } finally {
+      release.countDown();
+    }
+    assertThat(writer.flush(10000)).isTrue();
+  }
+
+  @Test
+  public void should_not_propagate_failures() {
+    writer.write(new ImageWriteTask() {
+      public void write() throws Exception {
+        throw new Exception("Thrown on purpose");
+      }
+    }, "image.png");
+    assertThat(writer.flush(10000)).isTrue();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ImageFileWriter#formatFor(String)}</code>.
+ */
+public class ImageFileWriter_formatFor_Test {
+
+  private ImageFileWriter writer;
+
+  @Before public void setUp() {
+    writer = new ImageFileWriter();
+  }
+
+  @Test
+  public void should_return_run_length_format_by_default() {
+    assertThat(writer.formatFor("image.rle")).isInstanceOf(RunLengthImageFormat.class);
+  }
+
+  @Test
+  public void should_return_ImageIO_format_if_extension_is_supported_by_ImageIO() {
+    ImageFormat format = writer.formatFor("image.BMP");
+    assertThat(format).isInstanceOf(ImageIOImageFormat.class);
+    assertThat(format.extension()).isEqualTo("bmp");
+  }
+
+  @Test
+  public void should_return_registered_format() {
+    ImageFormat format = new ImageFormat() {
+      public String extension() { return "raw"; }
+      public void write(BufferedImage image, OutputStream out) {}
+    };
+    writer.register(format);
+    assertThat(writer.formatFor("folder.with.dots/image.raw")).isSameAs(format);
+  }
+
+  @Test
+  public void should_return_null_if_extension_is_not_supported() {
+    assertThat(writer.formatFor("image.unknown")).isNull();
+    assertThat(writer.formatFor("folder.png/image")).isNull();
+    assertThat(writer.formatFor("image")).isNull();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_not_register_PNG_format() {
+    writer.register(new PngImageFormat(1));
+  }
+}
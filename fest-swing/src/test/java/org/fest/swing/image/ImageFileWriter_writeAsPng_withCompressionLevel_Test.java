@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+import static org.fest.util.Files.newTemporaryFile;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+import javax.imageio.ImageIO;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ImageFileWriter#writeAsPng(BufferedImage, String, int)}</code>.
+ */
+public class ImageFileWriter_writeAsPng_withCompressionLevel_Test {
+
+  private ImageFileWriter writer;
+  private BufferedImage image;
+  private File file;
+
+  @Before public void setUp() {
+    writer = new ImageFileWriter();
+    image = new BufferedImage(37, 11, TYPE_INT_RGB);
+    for (int x = 0; x < image.getWidth(); x++)
+      for (int y = 0; y < image.getHeight(); y++)
+        image.setRGB(x, y, (x * 7) << 16 | (y * 23) << 8 | (x * y) & 0xff);
+    file = newTemporaryFile();
+    file.delete();
+  }
+
+  @After public void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  public void should_write_image_readable_by_ImageIO() throws Exception {
+    for (int level = 0; level <= 9; level += 9) {
+      file.delete();
+      writer.writeAsPng(image, file.getPath(), level);
+      BufferedImage read = ImageIO.read(file);
+      assertThat(read.getWidth()).isEqualTo(image.getWidth());
+      assertThat(read.getHeight()).isEqualTo(image.getHeight());
+      for (int x = 0; x < image.getWidth(); x++)
+        for (int y = 0; y < image.getHeight(); y++)
+          assertThat(read.getRGB(x, y)).isEqualTo(image.getRGB(x, y));
+    }
+  }
+
+  @Test
+  public void should_throw_error_if_compression_level_is_invalid() throws Exception {
+    try {
+      writer.writeAsPng(image, file.getPath(), 10);
+      failWhenExpectingException();
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("The compression level should be between 0 and 9");
+    }
+  }
+}
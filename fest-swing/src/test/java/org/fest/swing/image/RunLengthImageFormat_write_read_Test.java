@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link RunLengthImageFormat#write(BufferedImage, OutputStream)}</code> and
+ * <code>{@link RunLengthImageFormat#read(InputStream)}</code>.
+ */
+public class RunLengthImageFormat_write_read_Test {
+
+  private RunLengthImageFormat format;
+
+  @Before public void setUp() {
+    format = new RunLengthImageFormat();
+  }
+
+  @Test
+  public void should_read_written_image() throws IOException {
+    BufferedImage image = new BufferedImage(300, 4, TYPE_INT_ARGB);
+    for (int x = 0; x < image.getWidth(); x++) {
+      image.setRGB(x, 0, 0xff112233);
+      image.setRGB(x, 1, x % 3 == 0 ? 0x80ffffff : 0xff000000);
+      image.setRGB(x, 2, x << 8 | 0xff000000);
+      image.setRGB(x, 3, x < 280 ? 0xff0000ff : 0xffff0000);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    format.write(image, out);
+    BufferedImage read = RunLengthImageFormat.read(new ByteArrayInputStream(out.toByteArray()));
+    assertThat(read.getWidth()).isEqualTo(image.getWidth());
+    assertThat(read.getHeight()).isEqualTo(image.getHeight());
+    for (int y = 0; y < image.getHeight(); y++)
+      for (int x = 0; x < image.getWidth(); x++)
+        assertThat(read.getRGB(x, y)).isEqualTo(image.getRGB(x, y));
+  }
+
+  @Test
+  public void should_encode_runs_of_same_color() throws IOException {
+    BufferedImage image = new BufferedImage(512, 1, TYPE_INT_ARGB);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    format.write(image, out);
+    // header (13 bytes) + 2 runs of 256 pixels (5 bytes each)
+    assertThat(out.size()).isEqualTo(23);
+  }
+
+  @Test
+  public void should_throw_error_if_stream_does_not_contain_image() {
+    try {
+      RunLengthImageFormat.read(new ByteArrayInputStream("Hello".getBytes()));
+      failWhenExpectingException();
+    } catch (IOException e) {
+      assertThat(e.getMessage()).isEqualTo("The stream does not contain a run-length encoded image");
+    }
+  }
+}
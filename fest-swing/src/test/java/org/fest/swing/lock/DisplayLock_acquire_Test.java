@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.lock;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link DisplayLock#acquire()}</code> and <code>{@link DisplayLock#release()}</code>, through
+ * <code>{@link ScreenLock}</code>.
+ */
+public class DisplayLock_acquire_Test {
+
+  private DisplayLock displayLock;
+  private ScreenLock lock;
+  private Object owner;
+
+  @Before
+  public void setUp() {
+    displayLock = new DisplayLock(new File(System.getProperty("java.io.tmpdir")), ":93.0");
+    lock = new ScreenLock(displayLock);
+    owner = new Object();
+  }
+
+  @After
+  public void tearDown() {
+    if (lock.acquiredBy(owner)) lock.release(owner);
+  }
+
+  @Test
+  public void should_use_file_name_valid_in_all_platforms() {
+    assertThat(displayLock.file().getName()).isEqualTo("fest-swing-display_93.0.lock");
+  }
+
+  @Test
+  public void should_hold_display_lock_while_screen_lock_is_acquired() {
+    lock.acquire(owner);
+    assertThat(displayLock.held()).isTrue();
+    lock.release(owner);
+    assertThat(displayLock.held()).isFalse();
+  }
+}
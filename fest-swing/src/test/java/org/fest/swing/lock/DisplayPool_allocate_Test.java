@@ -0,0 +1,81 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.lock;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+
+import org.fest.swing.exception.ScreenLockException;
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link DisplayPool#allocate(long)}</code> and <code>{@link DisplayPool#release(String)}</code>.
+ */
+public class DisplayPool_allocate_Test {
+
+  private File lockDirectory;
+  private DisplayPool pool;
+  private DisplayPool otherPool;
+
+  @Before
+  public void setUp() {
+    lockDirectory = new File(System.getProperty("java.io.tmpdir"));
+    pool = new DisplayPool(lockDirectory, ":91", ":92");
+    otherPool = new DisplayPool(lockDirectory, ":91", ":92");
+  }
+
+  @After
+  public void tearDown() {
+    releaseAll(pool);
+    releaseAll(otherPool);
+  }
+
+  private static void releaseAll(DisplayPool pool) {
+    for (String display : pool.displays()) {
+      try {
+        pool.release(display);
+      } catch (ScreenLockException ignored) {}
+    }
+  }
+
+  @Test
+  public void should_allocate_different_displays() {
+    assertThat(pool.allocate(0)).isEqualTo(":91");
+    assertThat(otherPool.allocate(0)).isEqualTo(":92");
+    assertThat(pool.tryAllocate()).isNull();
+  }
+
+  @Test
+  public void should_allocate_released_display() {
+    pool.allocate(0);
+    pool.allocate(0);
+    pool.release(":91");
+    assertThat(otherPool.allocate(0)).isEqualTo(":91");
+  }
+
+  @Test(expected = ScreenLockException.class)
+  public void should_throw_error_if_no_display_is_available_before_timeout() {
+    pool.allocate(0);
+    pool.allocate(0);
+    otherPool.allocate(10);
+  }
+
+  @Test(expected = ScreenLockException.class)
+  public void should_throw_error_if_releasing_display_not_allocated() {
+    pool.release(":91");
+  }
+}
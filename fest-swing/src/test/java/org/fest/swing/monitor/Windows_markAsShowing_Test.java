@@ -18,11 +18,13 @@ package org.fest.swing.monitor;
 import static java.lang.String.valueOf;
 import static java.util.logging.Logger.getAnonymousLogger;
 import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.timing.Pause.pause;
 import static org.fest.util.Strings.concat;
 
 import java.util.logging.Logger;
 
+import org.fest.swing.edt.GuiTask;
 import org.junit.Test;
 
 /**
@@ -44,4 +46,17 @@ public class Windows_markAsShowing_Test extends Windows_TestCase {
     assertThat(windowState()).isReady();
   }
 
+  @Test
+  public void should_mark_showing_Window_as_ready_once_marker_event_is_dispatched() {
+    window.display();
+    windows.markAsShowing(window);
+    waitForMarkerEvent();
+    assertThat(windowState()).isReady();
+  }
+
+  private static void waitForMarkerEvent() {
+    execute(new GuiTask() {
+      @Override protected void executeInEDT() {}
+    });
+  }
 }
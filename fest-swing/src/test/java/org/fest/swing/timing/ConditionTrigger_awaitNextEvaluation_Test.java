@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.timing.ConditionTrigger.*;
+
+import java.awt.*;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ConditionTrigger#awaitNextEvaluation()}</code>.
+ */
+public class ConditionTrigger_awaitNextEvaluation_Test {
+
+  private ConditionTrigger trigger;
+
+  @Before public void setUp() {
+    trigger = new ConditionTrigger(Toolkit.getDefaultToolkit(), WINDOW_EVENT_MASK);
+  }
+
+  @Test
+  public void should_back_off_until_maximum_interval_if_no_event_was_dispatched() {
+    long expected = MIN_INTERVAL;
+    while (expected < EVENT_DRIVEN_MAX_INTERVAL) {
+      trigger.aboutToEvaluate();
+      trigger.awaitNextEvaluation();
+      expected = Math.min(expected * 2, EVENT_DRIVEN_MAX_INTERVAL);
+      assertThat(trigger.interval()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void should_reset_interval_if_event_was_dispatched() {
+    for (int i = 0; i < 3; i++) {
+      trigger.aboutToEvaluate();
+      trigger.awaitNextEvaluation();
+    }
+    assertThat(trigger.interval()).isGreaterThan(MIN_INTERVAL);
+    trigger.aboutToEvaluate();
+    trigger.eventDispatched(new AWTEvent(new Object(), 0) {
+      private static final long serialVersionUID = 1L;
+    });
+    trigger.awaitNextEvaluation();
+    assertThat(trigger.interval()).isEqualTo(MIN_INTERVAL);
+  }
+
+  @Test
+  public void should_not_exceed_polling_interval_if_not_listening_to_events() {
+    trigger = new ConditionTrigger(Toolkit.getDefaultToolkit(), 0);
+    for (int i = 0; i < 10; i++) {
+      trigger.aboutToEvaluate();
+      trigger.awaitNextEvaluation();
+    }
+    assertThat(trigger.interval()).isEqualTo(POLLING_MAX_INTERVAL);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.timing.TimedActionType.*;
+
+import java.io.StringWriter;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link TimingRecorder#writeCsv(java.io.Writer)}</code>.
+ */
+public class TimingRecorder_writeCsv_Test {
+
+  private TimingRecorder recorder;
+
+  @Before public void setUp() {
+    recorder = new TimingRecorder();
+  }
+
+  @Test
+  public void should_write_timings_per_test_and_action() throws Exception {
+    recorder.startTest("first");
+    recorder.actionTimed(ROBOT_ACTION, "click", MILLISECONDS.toNanos(10));
+    recorder.actionTimed(ROBOT_ACTION, "click", MILLISECONDS.toNanos(30));
+    recorder.startTest("second");
+    recorder.actionTimed(EDT_HOP, "a, b", MILLISECONDS.toNanos(5));
+    StringWriter writer = new StringWriter();
+    recorder.writeCsv(writer);
+    assertThat(writer.toString()).isEqualTo(
+        "test,type,action,count,totalMillis,maxMillis\n" +
+        "first,ROBOT_ACTION,click,2,40,30\n" +
+        "second,EDT_HOP,\"a, b\",1,5,5\n");
+  }
+
+  @Test
+  public void should_expose_totals_per_type() {
+    recorder.actionTimed(IDLE_WAIT, "waitForIdle", MILLISECONDS.toNanos(7));
+    recorder.actionTimed(IDLE_WAIT, "waitForIdle", MILLISECONDS.toNanos(8));
+    assertThat(recorder.getIdleWaitCount()).isEqualTo(2);
+    assertThat(recorder.getIdleWaitMillis()).isEqualTo(15);
+    assertThat(recorder.getRobotActionCount()).isEqualTo(0);
+  }
+}
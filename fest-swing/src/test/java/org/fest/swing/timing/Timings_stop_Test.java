@@ -0,0 +1,71 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.timing.TimedActionType.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link Timings#stop(TimedActionType, Object, long)}</code>.
+ */
+public class Timings_stop_Test {
+
+  private Listener listener;
+
+  @Before public void setUp() {
+    listener = new Listener();
+    Timings.addListener(listener);
+  }
+
+  @After public void tearDown() {
+    Timings.removeListener(listener);
+  }
+
+  @Test
+  public void should_notify_listener() {
+    long start = Timings.start();
+    Timings.stop(ROBOT_ACTION, "click", start);
+    assertThat(listener.actions).containsOnly("ROBOT_ACTION:click");
+  }
+
+  @Test
+  public void should_time_pauses() {
+    Pause.pause(1);
+    assertThat(listener.actions).containsOnly("PAUSE:sleep");
+  }
+
+  @Test
+  public void should_not_notify_listener_if_timing_started_before_listener_was_added() {
+    Timings.removeListener(listener);
+    long start = Timings.start();
+    Timings.addListener(listener);
+    Timings.stop(IDLE_WAIT, "waitForIdle", start);
+    assertThat(listener.actions).isEmpty();
+  }
+
+  private static class Listener implements TimingListener {
+    final List<String> actions = new ArrayList<String>();
+
+    public void actionTimed(TimedActionType type, String action, long durationInNanos) {
+      actions.add(type.name() + ":" + action);
+    }
+  }
+}
@@ -18,6 +18,12 @@ package org.fest.util;
 import static org.fest.util.Strings.*;
 
 import java.beans.*;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Understands utility methods related to
@@ -27,6 +33,11 @@ import java.beans.*;
  */
 public final class Introspection {
 
+  // Classes are weakly referenced, so they can be unloaded. The read methods are softly referenced, since they strongly
+  // reference their declaring class. Guarded by itself.
+  private static final Map<Class<?>, SoftReference<ConcurrentMap<String, Method>>> READ_METHODS =
+    new WeakHashMap<Class<?>, SoftReference<ConcurrentMap<String, Method>>>();
+
   /**
    * Returns a <code>{@link PropertyDescriptor}</code> for a property matching the given name in the given object.
    * @param propertyName the given property name.
@@ -51,6 +62,41 @@ public final class Introspection {
     throw new IntrospectionError(concat("Unable to find property ", quote(propertyName), " in ", type.getName()));
   }
 
+  /**
+   * Returns the read method (getter) of the property matching the given name in the given object. Read methods are
+   * cached per class, so looking up the same property in objects of the same class only requires introspection once.
+   * @param propertyName the given property name.
+   * @param target the given object.
+   * @return the read method of the property matching the given name in the given object.
+   * @throws NullPointerException if the given property name is <code>null</code>.
+   * @throws IllegalArgumentException if the given property name is empty.
+   * @throws NullPointerException if the given object is <code>null</code>.
+   * @throws IntrospectionError if a matching property cannot be found or it does not have a read method.
+   */
+  public static Method readMethodForProperty(String propertyName, Object target) {
+    validate(propertyName, target);
+    ConcurrentMap<String, Method> readMethods = readMethodsOf(target.getClass());
+    Method readMethod = readMethods.get(propertyName);
+    if (readMethod != null) return readMethod;
+    readMethod = descriptorForProperty(propertyName, target).getReadMethod();
+    if (readMethod == null)
+      throw new IntrospectionError(concat("Unable to find a read method for property ", quote(propertyName), " in ",
+          target.getClass().getName()));
+    readMethods.putIfAbsent(propertyName, readMethod);
+    return readMethod;
+  }
+
+  private static ConcurrentMap<String, Method> readMethodsOf(Class<?> type) {
+    synchronized (READ_METHODS) {
+      SoftReference<ConcurrentMap<String, Method>> reference = READ_METHODS.get(type);
+      ConcurrentMap<String, Method> readMethods = reference != null ? reference.get() : null;
+      if (readMethods != null) return readMethods;
+      readMethods = new ConcurrentHashMap<String, Method>();
+      READ_METHODS.put(type, new SoftReference<ConcurrentMap<String, Method>>(readMethods));
+      return readMethods;
+    }
+  }
+
   private static void validate(String propertyName, Object target) {
     if (propertyName == null) throw new NullPointerException("The property name should not be null");
     if (isEmpty(propertyName)) throw new IllegalArgumentException("The property name should not be empty");
@@ -0,0 +1,82 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010 the original author or authors.
+ */
+package org.fest.util;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Introspection#readMethodForProperty(String, Object)}</code>.
+ */
+public class Introspection_readMethodForProperty_Test {
+
+  @Test
+  public void should_return_read_method_of_property() throws Exception {
+    Method readMethod = Introspection.readMethodForProperty("name", new Person("Frodo"));
+    assertEquals("getName", readMethod.getName());
+    assertEquals("Sam", readMethod.invoke(new Person("Sam")));
+  }
+
+  @Test
+  public void should_return_cached_read_method_for_objects_of_same_class() {
+    Method first = Introspection.readMethodForProperty("name", new Person("Frodo"));
+    assertSame(first, Introspection.readMethodForProperty("name", new Person("Sam")));
+  }
+
+  @Test
+  public void should_return_read_method_declared_in_subclass() {
+    Method readMethod = Introspection.readMethodForProperty("ringBearer", new Hobbit("Frodo"));
+    assertEquals("isRingBearer", readMethod.getName());
+  }
+
+  @Test(expected = IntrospectionError.class)
+  public void should_throw_error_if_property_not_found() {
+    Introspection.readMethodForProperty("age", new Person("Frodo"));
+  }
+
+  @Test(expected = IntrospectionError.class)
+  public void should_throw_error_if_property_does_not_have_read_method() {
+    Introspection.readMethodForProperty("nickname", new Person("Frodo"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_target_is_null() {
+    Introspection.readMethodForProperty("name", null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_property_name_is_empty() {
+    Introspection.readMethodForProperty("", new Person("Frodo"));
+  }
+
+  public static class Person {
+    private final String name;
+
+    Person(String name) { this.name = name; }
+
+    public String getName() { return name; }
+
+    public void setNickname(String nickname) {}
+  }
+
+  public static class Hobbit extends Person {
+    Hobbit(String name) { super(name); }
+
+    public boolean isRingBearer() { return true; }
+  }
+}